@@ -1,17 +1,24 @@
 package com.devpulsex.config;
 
+import java.time.Duration;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.ClientResponse;
 import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
 import org.springframework.web.reactive.function.client.WebClient;
 
 import com.devpulsex.exception.GitHubRateLimitException;
+import com.devpulsex.integration.github.GitHubRateLimitTracker;
 
+import io.netty.channel.ChannelOption;
 import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
 
 /**
  * Configuration for GitHub API WebClient with rate limit handling.
@@ -23,16 +30,29 @@ public class GitHubWebClientConfig {
     
     /**
      * Create a WebClient bean configured for GitHub API calls.
-     * Includes rate limit detection and logging.
+     * Includes connect/response timeouts, rate limit detection and logging.
      * 
+     * @param connectTimeoutMs TCP connect timeout in milliseconds
+     * @param responseTimeoutMs Maximum time to wait for a response in milliseconds
+     * @param rateLimitTracker Per-token rate-limit header tracker
      * @return Configured WebClient
      */
     @Bean(name = "githubWebClient")
     @SuppressWarnings("null")
-    public WebClient githubWebClient() {
+    public WebClient githubWebClient(
+            @Value("${github.http.connect-timeout-ms:2000}") int connectTimeoutMs,
+            @Value("${github.http.response-timeout-ms:5000}") long responseTimeoutMs,
+            GitHubRateLimitTracker rateLimitTracker) {
+        // Hard upper bound per call; request-level budgets are applied on top in GitHubService
+        HttpClient httpClient = HttpClient.create()
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMs)
+                .responseTimeout(Duration.ofMillis(responseTimeoutMs));
+
         return WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
                 .defaultHeader(org.springframework.http.HttpHeaders.USER_AGENT, "DevPulseX-Application")
                 .filter(rateLimitFilter())
+                .filter(rateLimitTrackingFilter(rateLimitTracker))
                 .filter(logRequest())
                 .filter(logResponse())
                 .build();
@@ -81,6 +101,26 @@ public class GitHubWebClientConfig {
         });
     }
     
+    /**
+     * Record core API rate-limit headers per access token so background jobs
+     * can stay within a share of each token's budget.
+     * Search API responses carry their own, much smaller budget and are ignored.
+     */
+    private ExchangeFilterFunction rateLimitTrackingFilter(GitHubRateLimitTracker tracker) {
+        return (request, next) -> next.exchange(request).doOnNext(response -> {
+            String authorization = request.headers().getFirst(org.springframework.http.HttpHeaders.AUTHORIZATION);
+            String resource = response.headers().asHttpHeaders().getFirst("X-RateLimit-Resource");
+            if (authorization == null || !authorization.startsWith("Bearer ")
+                    || (resource != null && !"core".equals(resource))) {
+                return;
+            }
+            tracker.record(authorization.substring(7),
+                    parseIntHeader(response, "X-RateLimit-Limit", -1),
+                    parseIntHeader(response, "X-RateLimit-Remaining", -1),
+                    parseLongHeader(response, "X-RateLimit-Reset", 0L));
+        });
+    }
+    
     /**
      * Log outgoing requests (debug level).
      */
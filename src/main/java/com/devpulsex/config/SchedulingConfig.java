@@ -0,0 +1,33 @@
+package com.devpulsex.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Enables {@code @Scheduled} background jobs (cache warm-up, periodic maintenance) and
+ * provides the executor for on-demand background work.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+    /**
+     * Bounded pool for Trello sync jobs, so large boards never run on request threads.
+     */
+    @Bean(name = "trelloSyncExecutor")
+    public ThreadPoolTaskExecutor trelloSyncExecutor(
+            @Value("${trello.sync.worker-threads:2}") int workerThreads,
+            @Value("${trello.sync.queue-capacity:100}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workerThreads);
+        executor.setMaxPoolSize(workerThreads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("trello-sync-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+}
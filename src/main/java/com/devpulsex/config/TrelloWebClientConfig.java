@@ -0,0 +1,54 @@
+package com.devpulsex.config;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import io.netty.channel.ChannelOption;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * Configuration for the Trello API WebClient.
+ */
+@Configuration
+public class TrelloWebClientConfig {
+
+    /**
+     * Create a WebClient bean for Trello API calls on a bounded, pooled connection provider
+     * with connect/response timeouts. Rate limiting and retries are handled in TrelloClient.
+     *
+     * @param connectTimeoutMs TCP connect timeout in milliseconds
+     * @param responseTimeoutMs Maximum time to wait for a response in milliseconds
+     * @param maxConnections Maximum pooled connections to api.trello.com
+     * @param pendingAcquireTimeoutMs Maximum time to wait for a free pooled connection
+     * @param maxIdleTimeMs Idle time after which pooled connections are closed
+     * @return Configured WebClient
+     */
+    @Bean(name = "trelloWebClient")
+    public WebClient trelloWebClient(
+            @Value("${trello.http.connect-timeout-ms:2000}") int connectTimeoutMs,
+            @Value("${trello.http.response-timeout-ms:10000}") long responseTimeoutMs,
+            @Value("${trello.http.max-connections:50}") int maxConnections,
+            @Value("${trello.http.pending-acquire-timeout-ms:5000}") long pendingAcquireTimeoutMs,
+            @Value("${trello.http.max-idle-time-ms:30000}") long maxIdleTimeMs) {
+        ConnectionProvider pool = ConnectionProvider.builder("trello")
+                .maxConnections(maxConnections)
+                .pendingAcquireTimeout(Duration.ofMillis(pendingAcquireTimeoutMs))
+                .maxIdleTime(Duration.ofMillis(maxIdleTimeMs))
+                .build();
+
+        HttpClient httpClient = HttpClient.create(pool)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMs)
+                .responseTimeout(Duration.ofMillis(responseTimeoutMs));
+
+        return WebClient.builder()
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .defaultHeader(org.springframework.http.HttpHeaders.USER_AGENT, "DevPulseX-Application")
+                .build();
+    }
+}
@@ -8,14 +8,16 @@ import org.springframework.lang.NonNull;
 import org.springframework.http.HttpHeaders;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
-import com.devpulsex.repository.UserRepository;
+import com.devpulsex.config.security.PrincipalCache.CachedPrincipal;
+import com.devpulsex.service.GitHubCacheWarmupService;
+import com.devpulsex.service.TokenRevocationService;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -26,40 +28,49 @@ public class JwtAuthFilter extends OncePerRequestFilter {
 
     private static final Logger log = LoggerFactory.getLogger(JwtAuthFilter.class);
 
-    private final JwtUtil jwtUtil;
-    private final UserRepository userRepository;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final PrincipalCache principalCache;
+    private final TokenRevocationService tokenRevocationService;
+    private final GitHubCacheWarmupService gitHubCacheWarmupService;
 
-    public JwtAuthFilter(JwtUtil jwtUtil, UserRepository userRepository) {
-        this.jwtUtil = jwtUtil;
-        this.userRepository = userRepository;
+    public JwtAuthFilter(VerifiedTokenCache verifiedTokenCache, PrincipalCache principalCache,
+                         TokenRevocationService tokenRevocationService,
+                         GitHubCacheWarmupService gitHubCacheWarmupService) {
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.principalCache = principalCache;
+        this.tokenRevocationService = tokenRevocationService;
+        this.gitHubCacheWarmupService = gitHubCacheWarmupService;
     }
     @Override
     protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response, @NonNull FilterChain filterChain)
             throws ServletException, IOException {
         final String authHeader = request.getHeader(HttpHeaders.AUTHORIZATION);
-        String username = null;
-        String jwt = null;
+        Claims claims = null;
 
         if (authHeader != null && authHeader.startsWith("Bearer ")) {
-            jwt = authHeader.substring(7);
             try {
-                username = jwtUtil.extractUsername(jwt);
+                // Verified at most once per token while it stays cached
+                claims = verifiedTokenCache.validate(authHeader.substring(7));
+                if (tokenRevocationService.isRevoked(claims)) {
+                    log.debug("Revoked JWT token");
+                    claims = null;
+                }
             } catch (Exception e) {
                 log.debug("Invalid JWT token");
             }
         }
 
+        String username = claims != null ? claims.getSubject() : null;
         if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            var appUser = userRepository.findByEmail(username).orElse(null);
-            if (appUser != null && jwtUtil.isTokenValid(jwt, username)) {
-                UserDetails userDetails = User.withUsername(appUser.getEmail())
-                        .password(appUser.getPassword())
-                        .authorities("ROLE_" + appUser.getRole().name())
-                        .build();
+            // Cached per user; the database is only hit on a miss
+            CachedPrincipal principal = principalCache.get(username);
+            if (principal != null && principal.accepts(claims.getIssuedAt())) {
+                UserDetails userDetails = principal.userDetails();
                 UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                         userDetails, null, userDetails.getAuthorities());
                 authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                 SecurityContextHolder.getContext().setAuthentication(authToken);
+                gitHubCacheWarmupService.recordActivity(userDetails.getUsername());
             }
         }
 
@@ -1,6 +1,8 @@
 package com.devpulsex.config.security;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
@@ -10,6 +12,7 @@ import org.springframework.stereotype.Component;
 import javax.crypto.SecretKey;
 import java.util.Date;
 import java.util.Map;
+import java.util.UUID;
 import java.util.function.Function;
 
 @Component
@@ -17,11 +20,14 @@ public class JwtUtil {
 
     private final SecretKey key;
     private final long expirationMs;
+    // Immutable and thread-safe; building one per parse repeats the key and algorithm setup
+    private final JwtParser parser;
 
     public JwtUtil(@Value("${app.security.jwt.secret}") String secret,
                    @Value("${app.security.jwt.expiration-ms}") long expirationMs) {
         this.key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(ensureBase64(secret)));
         this.expirationMs = expirationMs;
+        this.parser = Jwts.parser().verifyWith(key).build();
     }
 
     private String ensureBase64(String secret) {
@@ -34,27 +40,29 @@ public class JwtUtil {
         }
     }
 
+    /**
+     * Verify the token's signature and expiry and return its claims, in one parse.
+     *
+     * @throws JwtException if the token is malformed, forged or expired
+     * @throws IllegalArgumentException if the token is null or blank
+     */
+    public Claims validate(String token) {
+        return parser.parseSignedClaims(token).getPayload();
+    }
+
     public String extractUsername(String token) {
         return extractClaim(token, Claims::getSubject);
     }
 
     public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
-        return claimsResolver.apply(claims);
-    }
-
-    private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return claimsResolver.apply(validate(token));
     }
 
     public String generateToken(String username, Map<String, Object> extraClaims) {
         long now = System.currentTimeMillis();
         return Jwts.builder()
                 .claims(extraClaims)
+                .id(UUID.randomUUID().toString())
                 .subject(username)
                 .issuedAt(new Date(now))
                 .expiration(new Date(now + expirationMs))
@@ -63,15 +71,7 @@ public class JwtUtil {
     }
 
     public boolean isTokenValid(String token, String username) {
-        final String extractedUsername = extractUsername(token);
-        return (extractedUsername != null && extractedUsername.equals(username) && !isTokenExpired(token));
-    }
-
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
-    }
-
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+        final Claims claims = validate(token);
+        return (claims.getSubject() != null && claims.getSubject().equals(username) && !claims.getExpiration().before(new Date()));
     }
 }
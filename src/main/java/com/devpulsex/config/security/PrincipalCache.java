@@ -0,0 +1,76 @@
+package com.devpulsex.config.security;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import com.devpulsex.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Authenticated principals by email, so a request with a valid JWT normally needs no user
+ * query. Entries live for {@code app.security.principal-cache.ttl-seconds}; callers that
+ * change a user's email or role, or delete a user, must {@link #evict} the email so the
+ * change applies to the next request; the same goes for revoking a user's sessions. Unknown
+ * emails are not cached. Principals carry no password: JWT authentication never checks one.
+ */
+@Component
+public class PrincipalCache {
+
+    private final UserRepository userRepository;
+    private final Cache<String, CachedPrincipal> principals;
+
+    /**
+     * A user's principal and the instant before which their tokens are no longer accepted.
+     */
+    public record CachedPrincipal(UserDetails userDetails, Instant sessionsRevokedAt) {
+        public boolean accepts(Date issuedAt) {
+            // iat has second precision, so a token issued in the second of the revocation still counts
+            return sessionsRevokedAt == null
+                    || (issuedAt != null && !issuedAt.toInstant().isBefore(sessionsRevokedAt.truncatedTo(ChronoUnit.SECONDS)));
+        }
+    }
+
+    public PrincipalCache(UserRepository userRepository,
+                          @Value("${app.security.principal-cache.ttl-seconds:60}") long ttlSeconds,
+                          @Value("${app.security.principal-cache.max-entries:10000}") long maxEntries) {
+        this.userRepository = userRepository;
+        this.principals = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .maximumSize(maxEntries)
+                .build();
+    }
+
+    /**
+     * The principal of the user with {@code email}, or null if there is none.
+     */
+    public CachedPrincipal get(String email) {
+        CachedPrincipal principal = principals.getIfPresent(email);
+        if (principal != null) {
+            return principal;
+        }
+        principal = userRepository.findByEmail(email)
+                .map(user -> new CachedPrincipal(User.withUsername(user.getEmail())
+                        .password("")
+                        .authorities("ROLE_" + user.getRole().name())
+                        .build(), user.getSessionsRevokedAt()))
+                .orElse(null);
+        if (principal != null) {
+            principals.put(email, principal);
+        }
+        return principal;
+    }
+
+    public void evict(String email) {
+        if (email != null) {
+            principals.invalidate(email);
+        }
+    }
+}
@@ -27,6 +27,8 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
 import com.devpulsex.repository.UserRepository;
 
+import jakarta.servlet.DispatcherType;
+
 @Configuration
 @EnableMethodSecurity
 public class SecurityConfig {
@@ -105,12 +107,16 @@ public class SecurityConfig {
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
                 .sessionManagement(sm -> sm.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
+                        // Async dispatches resume reactive (Mono) controller results of requests already authorized above
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
                         .requestMatchers("/", "/error").permitAll()
                         .requestMatchers("/actuator/health").permitAll()
                         .requestMatchers("/v3/api-docs/**", "/swagger-ui.html", "/swagger-ui/**").permitAll()
                         // Authentication endpoints (register/login) are public
                         .requestMatchers("/api/auth/**").permitAll()
+                        // Trello webhook callbacks are verified by signature in the controller
+                        .requestMatchers("/api/webhooks/trello").permitAll()
                         // All other endpoints require authentication; roles handled via @PreAuthorize
                         .anyRequest().authenticated()
                 )
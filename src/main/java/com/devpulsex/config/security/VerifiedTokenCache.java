@@ -0,0 +1,103 @@
+package com.devpulsex.config.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Date;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Claims of recently verified JWTs, so a client polling with the same bearer token pays for
+ * signature verification and claims decoding once.
+ *
+ * Entries are keyed by the SHA-256 digest of the token (the token itself is never stored) and
+ * expire at the token's {@code exp}, or after {@code app.security.token-cache.max-ttl-seconds}
+ * if sooner. The hit ratio is exposed as the {@code security.jwt.cache.hit-ratio} gauge.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final JwtUtil jwtUtil;
+    private final Cache<String, Claims> verified;
+
+    public VerifiedTokenCache(JwtUtil jwtUtil,
+                              MeterRegistry meterRegistry,
+                              @Value("${app.security.token-cache.max-entries:10000}") long maxEntries,
+                              @Value("${app.security.token-cache.max-ttl-seconds:300}") long maxTtlSeconds) {
+        this.jwtUtil = jwtUtil;
+        this.verified = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfter(new ExpireWithToken(Duration.ofSeconds(maxTtlSeconds).toNanos()))
+                .recordStats()
+                .build();
+        Gauge.builder("security.jwt.cache.hit-ratio", verified, cache -> cache.stats().hitRate())
+                .description("Share of JWT validations served without verifying the token")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Same contract as {@link JwtUtil#validate}: the token's verified claims.
+     *
+     * @throws JwtException if the token is malformed, forged or expired
+     * @throws IllegalArgumentException if the token is null or blank
+     */
+    public Claims validate(String token) {
+        if (token == null || token.isBlank()) {
+            throw new IllegalArgumentException("JWT is empty");
+        }
+        String digest = digest(token);
+        Claims claims = verified.getIfPresent(digest);
+        if (claims == null) {
+            claims = jwtUtil.validate(token);
+            verified.put(digest, claims);
+        }
+        return claims;
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Lifetime of an entry: until the token expires, capped at the configured maximum.
+     */
+    private record ExpireWithToken(long maxTtlNanos) implements Expiry<String, Claims> {
+        @Override
+        public long expireAfterCreate(String key, Claims claims, long currentTime) {
+            Date expiration = claims.getExpiration();
+            if (expiration == null) {
+                return maxTtlNanos;
+            }
+            long remainingNanos = Duration.ofMillis(expiration.getTime() - System.currentTimeMillis()).toNanos();
+            return Math.max(0, Math.min(remainingNanos, maxTtlNanos));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -6,6 +6,7 @@ import java.time.Instant;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.ResponseCookie;
 import org.springframework.lang.NonNull;
@@ -16,11 +17,13 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.devpulsex.config.security.JwtUtil;
 import com.devpulsex.config.security.OAuthCookieSecurityResolver;
+import com.devpulsex.config.security.VerifiedTokenCache;
 import com.devpulsex.dto.auth.AuthResponse;
 import com.devpulsex.dto.auth.LoginRequest;
 import com.devpulsex.dto.auth.OAuthStatePrepareRequest;
@@ -28,8 +31,11 @@ import com.devpulsex.dto.auth.RegisterRequest;
 import com.devpulsex.model.Role;
 import com.devpulsex.model.User;
 import com.devpulsex.repository.UserRepository;
+import com.devpulsex.service.TokenRevocationService;
 import com.devpulsex.service.UserService;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -51,19 +57,25 @@ public class AuthController {
     private final JwtUtil jwtUtil;
     private final UserService userService;
     private final OAuthCookieSecurityResolver oauthCookieSecurityResolver;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenRevocationService tokenRevocationService;
 
     public AuthController(AuthenticationManager authenticationManager,
                           UserRepository userRepository,
                           PasswordEncoder passwordEncoder,
                           JwtUtil jwtUtil,
                           UserService userService,
-                          OAuthCookieSecurityResolver oauthCookieSecurityResolver) {
+                          OAuthCookieSecurityResolver oauthCookieSecurityResolver,
+                          VerifiedTokenCache verifiedTokenCache,
+                          TokenRevocationService tokenRevocationService) {
         this.authenticationManager = authenticationManager;
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.jwtUtil = jwtUtil;
         this.userService = userService;
         this.oauthCookieSecurityResolver = oauthCookieSecurityResolver;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.tokenRevocationService = tokenRevocationService;
     }
 
     @PostMapping("/register")
@@ -125,6 +137,23 @@ public class AuthController {
                 .build());
     }
 
+    @PostMapping("/logout")
+    @Operation(summary = "Revoke the bearer token of this request",
+               description = "Always 204; a missing, invalid or already expired token has nothing to revoke. Other instances "
+                       + "reject the token after their next revocation filter rebuild "
+                       + "(app.security.revocation.rebuild-interval-ms, default 60 s)")
+    public ResponseEntity<Void> logout(@RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization) {
+        if (authorization != null && authorization.startsWith("Bearer ")) {
+            try {
+                Claims claims = verifiedTokenCache.validate(authorization.substring(7));
+                tokenRevocationService.revoke(claims.getId(), claims.getExpiration());
+            } catch (JwtException | IllegalArgumentException e) {
+                log.debug("Logout with an invalid token");
+            }
+        }
+        return ResponseEntity.noContent().build();
+    }
+
     @PostMapping("/oauth/state/{provider}")
     @Operation(summary = "Prepare OAuth state for provider")
     public ResponseEntity<Map<String, String>> prepareOAuthState(
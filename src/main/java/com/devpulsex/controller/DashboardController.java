@@ -11,10 +11,13 @@ import org.springframework.web.bind.annotation.*;
 import com.devpulsex.dto.dashboard.DashboardDto;
 import com.devpulsex.dto.dashboard.ProjectMetricsDto;
 import com.devpulsex.dto.dashboard.UserMetricsDto;
+import com.devpulsex.dto.trello.StreamingBoardView;
+import com.devpulsex.dto.trello.TrelloProjectBoardsResponse;
 import com.devpulsex.service.DashboardService;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import reactor.core.publisher.Mono;
 
 @RestController
 @RequestMapping("/api/dashboard")
@@ -71,10 +74,19 @@ public class DashboardController {
         }
     }
 
+    @GetMapping("/trello")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER') or hasRole('DEVELOPER')")
+    @Operation(summary = "Get Trello aggregates for all accessible Trello-linked projects",
+               description = "Boards are fetched concurrently; boards that fail or time out are reported per project "
+                       + "and do not fail the response")
+    public Mono<TrelloProjectBoardsResponse> getTrelloForAllProjects(Authentication authentication) {
+        return dashboardService.getTrelloDashboardForAllProjects(authentication);
+    }
+
     @GetMapping("/trello/{projectId}")
     @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER') or hasRole('DEVELOPER')")
     @Operation(summary = "Get Trello aggregate for a project")
-    public Object getTrelloForProject(@PathVariable Long projectId, Authentication authentication) {
+    public Mono<StreamingBoardView> getTrelloForProject(@PathVariable Long projectId, Authentication authentication) {
         return dashboardService.getTrelloDashboardForProject(projectId, authentication);
     }
 }
@@ -1,9 +1,13 @@
 package com.devpulsex.controller;
 
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
 import java.util.concurrent.TimeUnit;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
@@ -11,12 +15,19 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.devpulsex.dto.github.GithubContributionsResponse;
+import com.devpulsex.dto.github.GithubInsightsHistoryResponse;
 import com.devpulsex.dto.github.GithubInsightsResponse;
-import com.devpulsex.integration.oauth.OAuthTokenEncryptor;
+import com.devpulsex.integration.IntegrationCredentialContext;
+import com.devpulsex.integration.IntegrationCredentialContext.LinkedAccount;
 import com.devpulsex.model.User;
 import com.devpulsex.repository.UserRepository;
+import com.devpulsex.service.GitHubContributionService;
+import com.devpulsex.service.GitHubInsightsHistoryService;
+import com.devpulsex.service.GitHubRepositoryIndex;
 import com.devpulsex.service.ResilientGitHubService;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -31,16 +42,27 @@ public class GitHubAnalyticsController {
 
     private static final Logger log = LoggerFactory.getLogger(GitHubAnalyticsController.class);
 
+    private static final int HISTORY_DEFAULT_DAYS = 90;
+    private static final int HISTORY_MAX_DAYS = 731;
+    private static final int REPOSITORIES_DEFAULT_PAGE_SIZE = 30;
+    private static final int REPOSITORIES_MAX_PAGE_SIZE = 100;
+
     private final ResilientGitHubService resilientGitHubService;
+    private final GitHubInsightsHistoryService historyService;
+    private final GitHubContributionService contributionService;
     private final UserRepository userRepository;
-    private final OAuthTokenEncryptor tokenEncryptor;
+    private final IntegrationCredentialContext credentialContext;
 
     public GitHubAnalyticsController(ResilientGitHubService resilientGitHubService,
+                                     GitHubInsightsHistoryService historyService,
+                                     GitHubContributionService contributionService,
                                      UserRepository userRepository,
-                                     OAuthTokenEncryptor tokenEncryptor) {
+                                     IntegrationCredentialContext credentialContext) {
         this.resilientGitHubService = resilientGitHubService;
+        this.historyService = historyService;
+        this.contributionService = contributionService;
         this.userRepository = userRepository;
-        this.tokenEncryptor = tokenEncryptor;
+        this.credentialContext = credentialContext;
     }
 
     @GetMapping("/insights")
@@ -53,22 +75,14 @@ public class GitHubAnalyticsController {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
             }
 
-            String userEmail = authentication.getName();
-
-            User user = userRepository.findByEmail(userEmail)
-                    .orElseThrow(() -> new RuntimeException("User not found: " + userEmail));
+            LinkedAccount account = credentialContext.forUser(authentication.getName());
 
-            if (user.getGithubAccessToken() == null || user.getGithubAccessToken().isBlank()) {
+            if (account.getGithubUsername() == null || account.getGithubUsername().isBlank()) {
                 return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                         .body(java.util.Map.of("message", "GitHub account not linked"));
             }
 
-            if (user.getGithubUsername() == null || user.getGithubUsername().isBlank()) {
-                return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                        .body(java.util.Map.of("message", "GitHub account not linked"));
-            }
-
-            String githubToken = tokenEncryptor.decryptLenient(user.getGithubAccessToken());
+            String githubToken = account.githubToken();
             if (githubToken == null || githubToken.isBlank()) {
                 return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                         .body(java.util.Map.of("message", "GitHub account not linked"));
@@ -76,16 +90,24 @@ public class GitHubAnalyticsController {
 
             // Use resilient service with automatic cache fallback
             GithubInsightsResponse insights = resilientGitHubService.fetchInsightsWithFallback(
-                    user.getGithubUsername(),
+                    account.getGithubUsername(),
                     githubToken
             );
             
             // Add avatar URL from user profile
-            if (user.getGithubAvatarUrl() != null) {
-                insights.setAvatarUrl(user.getGithubAvatarUrl());
+            if (account.getGithubAvatarUrl() != null) {
+                insights.setAvatarUrl(account.getGithubAvatarUrl());
             }
 
             log.info("GitHub insights fetch succeeded");
+
+            // Partial responses must not be reused by the browser; the complete
+            // result will be in the server cache on the next request
+            if (insights.isPartial()) {
+                return ResponseEntity.ok()
+                        .cacheControl(CacheControl.noStore())
+                        .body(insights);
+            }
             
             // Add cache-control headers for browser caching (5 minutes)
             // Also enable compression via Accept-Encoding header
@@ -102,34 +124,106 @@ public class GitHubAnalyticsController {
         }
     }
 
+    @GetMapping("/insights/history")
+    @Operation(summary = "Get GitHub insights trend lines for authenticated user",
+               description = "Daily stars, PRs, followers and commits per week from stored snapshots; never calls GitHub")
+    public ResponseEntity<?> getInsightsHistory(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            Authentication authentication) {
+        if (authentication == null || authentication.getName() == null) {
+            log.warn("Unauthorized access attempt to /api/github/insights/history");
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+
+        LocalDate end = to != null ? to : LocalDate.now(ZoneOffset.UTC);
+        LocalDate start = from != null ? from : end.minusDays(HISTORY_DEFAULT_DAYS);
+        if (start.isAfter(end)) {
+            throw new IllegalArgumentException("'from' must not be after 'to'");
+        }
+        if (ChronoUnit.DAYS.between(start, end) > HISTORY_MAX_DAYS) {
+            throw new IllegalArgumentException("History range must not exceed " + HISTORY_MAX_DAYS + " days");
+        }
+
+        String userEmail = authentication.getName();
+        User user = userRepository.findByEmail(userEmail)
+                .orElseThrow(() -> new RuntimeException("User not found: " + userEmail));
+
+        GithubInsightsHistoryResponse history = historyService.getHistory(user, start, end);
+        log.info("GitHub insights history fetch succeeded");
+
+        // Snapshots are written once a day, so the response can be cached for a while
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(1, TimeUnit.HOURS).cachePrivate())
+                .header(HttpHeaders.VARY, "Accept-Encoding")
+                .body(history);
+    }
+
+    @GetMapping("/contributions")
+    @Operation(summary = "Get GitHub contribution calendar for authenticated user",
+               description = "Daily contribution counts for the last 365 days, or for a calendar year when 'year' is given")
+    public ResponseEntity<?> getContributions(@RequestParam(required = false) Integer year,
+                                              Authentication authentication) {
+        if (authentication == null || authentication.getName() == null) {
+            log.warn("Unauthorized access attempt to /api/github/contributions");
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+
+        LinkedAccount account = credentialContext.forUser(authentication.getName());
+        String githubToken = account.githubToken();
+        if (githubToken == null || githubToken.isBlank()
+                || account.getGithubUsername() == null || account.getGithubUsername().isBlank()) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(java.util.Map.of("message", "GitHub account not linked"));
+        }
+
+        GithubContributionsResponse contributions = year != null
+                ? contributionService.getYear(account.getUserId(), account.getGithubUsername(), githubToken, year)
+                : contributionService.getRollingYear(account.getUserId(), account.getGithubUsername(), githubToken);
+        log.info("GitHub contributions fetch succeeded");
+
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(10, TimeUnit.MINUTES).cachePrivate())
+                .header(HttpHeaders.VARY, "Accept-Encoding")
+                .body(contributions);
+    }
+
     @GetMapping("/repositories")
     @Operation(summary = "Get GitHub repositories for authenticated user", 
-               description = "Fetches all repositories from the authenticated user's GitHub account")
-    public ResponseEntity<?> getRepositories(Authentication authentication) {
+               description = "Fetches repositories from the authenticated user's GitHub account. "
+                       + "With any of language, sort, q, page or size the list is filtered, sorted and paged on the server; "
+                       + "without them the full repository list is returned")
+    public ResponseEntity<?> getRepositories(
+            @RequestParam(required = false) String language,
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer size,
+            Authentication authentication) {
         try {
             if (authentication == null || authentication.getName() == null) {
                 log.warn("Unauthorized access attempt to /api/github/repositories");
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
             }
 
-            String userEmail = authentication.getName();
-
-            User user = userRepository.findByEmail(userEmail)
-                    .orElseThrow(() -> new RuntimeException("User not found: " + userEmail));
-
-            if (user.getGithubAccessToken() == null || user.getGithubAccessToken().isBlank()) {
-                return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                        .body(java.util.Map.of("message", "GitHub account not linked"));
+            boolean browse = language != null || sort != null || q != null || page != null || size != null;
+            GitHubRepositoryIndex.Sort sortOrder = GitHubRepositoryIndex.Sort.parse(sort);
+            int pageNumber = page != null ? page : 0;
+            int pageSize = size != null ? size : REPOSITORIES_DEFAULT_PAGE_SIZE;
+            if (pageNumber < 0 || pageSize < 1 || pageSize > REPOSITORIES_MAX_PAGE_SIZE) {
+                throw new IllegalArgumentException("page must be >= 0 and size between 1 and " + REPOSITORIES_MAX_PAGE_SIZE);
             }
 
-            String githubToken = tokenEncryptor.decryptLenient(user.getGithubAccessToken());
+            String githubToken = credentialContext.forUser(authentication.getName()).githubToken();
             if (githubToken == null || githubToken.isBlank()) {
                 return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                         .body(java.util.Map.of("message", "GitHub account not linked"));
             }
 
             // Use resilient service with automatic cache fallback
-            var repos = resilientGitHubService.fetchRepositoriesWithFallback(githubToken);
+            Object repos = browse
+                    ? resilientGitHubService.browseRepositoriesWithFallback(githubToken, language, sortOrder, q, pageNumber, pageSize)
+                    : resilientGitHubService.fetchRepositoriesWithFallback(githubToken);
             
             if (repos == null) {
                 return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -146,6 +240,8 @@ public class GitHubAnalyticsController {
                     .header(HttpHeaders.VARY, "Accept-Encoding") // Ensure proper cache with compression
                     .body(repos);
 
+        } catch (IllegalArgumentException e) {
+            throw e;
         } catch (Exception e) {
             log.error("GitHub repositories fetch failed");
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
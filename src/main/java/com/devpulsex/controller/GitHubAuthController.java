@@ -22,6 +22,7 @@ import com.devpulsex.dto.auth.AuthResponse;
 import com.devpulsex.dto.github.GitHubAuthRequest;
 import com.devpulsex.dto.github.GitHubTokenResponse;
 import com.devpulsex.dto.github.GitHubUserProfile;
+import com.devpulsex.integration.IntegrationCredentialContext;
 import com.devpulsex.integration.oauth.OAuthTokenEncryptor;
 import com.devpulsex.model.Role;
 import com.devpulsex.model.User;
@@ -49,6 +50,7 @@ public class GitHubAuthController {
     private final UserService userService;
     private final OAuthTokenEncryptor tokenEncryptor;
     private final OAuthCookieSecurityResolver oauthCookieSecurityResolver;
+    private final IntegrationCredentialContext credentialContext;
 
     public GitHubAuthController(GitHubOAuthService oAuthService,
                                 UserRepository userRepository,
@@ -56,7 +58,8 @@ public class GitHubAuthController {
                                  JwtUtil jwtUtil,
                                  UserService userService,
                                  OAuthTokenEncryptor tokenEncryptor,
-                                 OAuthCookieSecurityResolver oauthCookieSecurityResolver) {
+                                 OAuthCookieSecurityResolver oauthCookieSecurityResolver,
+                                 IntegrationCredentialContext credentialContext) {
         this.oAuthService = oAuthService;
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
@@ -64,6 +67,7 @@ public class GitHubAuthController {
         this.userService = userService;
         this.tokenEncryptor = tokenEncryptor;
         this.oauthCookieSecurityResolver = oauthCookieSecurityResolver;
+        this.credentialContext = credentialContext;
     }
 
     @PostMapping("/github")
@@ -130,6 +134,7 @@ public class GitHubAuthController {
                 log.info("GitHub OAuth user created");
             } else {
                 // Update existing user with GitHub OAuth data (preserving Google data if exists)
+                userService.beforeGithubLink(user, profile.getId());
                 user.setName(name);
                 user.setEmail(email);
                 user.setGithubId(profile.getId());
@@ -140,6 +145,7 @@ public class GitHubAuthController {
             }
 
             userRepository.save(user);
+            credentialContext.evict(user.getEmail());
 
             String jwt = jwtUtil.generateToken(user.getEmail(), Map.of("role", user.getRole().name()));
             clearOauthStateCookie(httpRequest, httpResponse, "oauth_state_github");
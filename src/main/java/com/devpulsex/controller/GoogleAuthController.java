@@ -17,6 +17,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.devpulsex.config.security.JwtUtil;
+import com.devpulsex.config.security.PrincipalCache;
 import com.devpulsex.config.security.OAuthCookieSecurityResolver;
 import com.devpulsex.dto.auth.AuthResponse;
 import com.devpulsex.dto.google.GoogleAuthRequest;
@@ -49,6 +50,7 @@ public class GoogleAuthController {
     private final UserService userService;
     private final OAuthTokenEncryptor tokenEncryptor;
     private final OAuthCookieSecurityResolver oauthCookieSecurityResolver;
+    private final PrincipalCache principalCache;
 
     public GoogleAuthController(GoogleOAuthService oAuthService,
                                UserRepository userRepository,
@@ -56,7 +58,8 @@ public class GoogleAuthController {
                                 JwtUtil jwtUtil,
                                 UserService userService,
                                 OAuthTokenEncryptor tokenEncryptor,
-                                OAuthCookieSecurityResolver oauthCookieSecurityResolver) {
+                                OAuthCookieSecurityResolver oauthCookieSecurityResolver,
+                                PrincipalCache principalCache) {
         this.oAuthService = oAuthService;
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
@@ -64,6 +67,7 @@ public class GoogleAuthController {
         this.userService = userService;
         this.tokenEncryptor = tokenEncryptor;
         this.oauthCookieSecurityResolver = oauthCookieSecurityResolver;
+        this.principalCache = principalCache;
     }
 
     @PostMapping("/google")
@@ -134,6 +138,7 @@ public class GoogleAuthController {
                 log.info("Google OAuth user created");
             } else {
                 // Update existing user with Google OAuth data (account linking by email)
+                principalCache.evict(user.getEmail());
                 user.setName(name);
                 user.setEmail(email);
                 user.setGoogleId(profile.getId());
@@ -1,5 +1,6 @@
 package com.devpulsex.controller;
 
+import java.time.Duration;
 import java.util.Map;
 
 import org.slf4j.Logger;
@@ -18,8 +19,12 @@ import com.devpulsex.dto.trello.TrelloAuthRequest;
 import com.devpulsex.dto.trello.TrelloMemberProfile;
 import com.devpulsex.model.User;
 import com.devpulsex.repository.UserRepository;
+import com.devpulsex.integration.IntegrationCredentialContext;
 import com.devpulsex.integration.trello.TrelloClient;
+import com.devpulsex.integration.trello.TrelloResponseCache;
 import com.devpulsex.integration.trello.TrelloTokenEncryptor;
+import com.devpulsex.integration.trello.TrelloWebhookRegistry;
+import com.devpulsex.service.TrelloMemberResolver;
 import com.devpulsex.service.UserService;
 import com.fasterxml.jackson.databind.JsonNode;
 
@@ -35,22 +40,37 @@ public class TrelloAuthController {
 
     private static final Logger log = LoggerFactory.getLogger(TrelloAuthController.class);
 
+    // Linking is a one-off call; bound the wait so a slow Trello cannot hold the request
+    private static final Duration PROFILE_FETCH_TIMEOUT = Duration.ofSeconds(5);
+
     private final UserRepository userRepository;
     private final JwtUtil jwtUtil;
     private final UserService userService;
     private final TrelloClient trelloClient;
     private final TrelloTokenEncryptor tokenEncryptor;
+    private final TrelloResponseCache trelloResponseCache;
+    private final IntegrationCredentialContext credentialContext;
+    private final TrelloMemberResolver memberResolver;
+    private final TrelloWebhookRegistry webhookRegistry;
 
     public TrelloAuthController(UserRepository userRepository,
                                 JwtUtil jwtUtil,
                                 UserService userService,
                                 TrelloClient trelloClient,
-                                TrelloTokenEncryptor tokenEncryptor) {
+                                TrelloTokenEncryptor tokenEncryptor,
+                                TrelloResponseCache trelloResponseCache,
+                                IntegrationCredentialContext credentialContext,
+                                TrelloMemberResolver memberResolver,
+                                TrelloWebhookRegistry webhookRegistry) {
         this.userRepository = userRepository;
         this.jwtUtil = jwtUtil;
         this.userService = userService;
         this.trelloClient = trelloClient;
         this.tokenEncryptor = tokenEncryptor;
+        this.trelloResponseCache = trelloResponseCache;
+        this.credentialContext = credentialContext;
+        this.memberResolver = memberResolver;
+        this.webhookRegistry = webhookRegistry;
     }
 
     @PostMapping("/trello/link")
@@ -81,7 +101,7 @@ public class TrelloAuthController {
             // Fetch Trello member profile (with retry logic)
             TrelloMemberProfile profile = null;
             try {
-                JsonNode profileNode = trelloClient.getMemberProfile(request.getToken());
+                JsonNode profileNode = trelloClient.getMemberProfile(request.getToken()).block(PROFILE_FETCH_TIMEOUT);
                 profile = toProfile(profileNode);
             } catch (Exception ex) {
                 log.warn("Trello profile fetch failed");
@@ -94,6 +114,7 @@ public class TrelloAuthController {
             User user = userRepository.findByEmail(userEmail)
                     .orElseThrow(() -> new RuntimeException("User not found: " + userEmail));
 
+            String previousTrelloId = user.getTrelloId();
             // Update user with Trello OAuth data
             if (profile != null && profile.getId() != null) {
                 user.setTrelloId(profile.getId());
@@ -112,6 +133,12 @@ public class TrelloAuthController {
             log.info("Trello account link saved");
 
             userRepository.save(user);
+            // Responses cached under the previous token may no longer be visible to the new one
+            trelloResponseCache.invalidateOwner(user.getId());
+            webhookRegistry.forgetOwner(user.getId());
+            credentialContext.evict(userEmail);
+            memberResolver.evict(previousTrelloId);
+            memberResolver.evict(user.getTrelloId());
 
             // Clear state cookie
             response.addHeader("Set-Cookie", "trello_state=; Max-Age=0; Path=/; SameSite=None; Secure");
@@ -147,16 +174,23 @@ public class TrelloAuthController {
         if (user.getTrelloAccessToken() != null && !user.getTrelloAccessToken().isBlank()) {
             try {
                 String token = tokenEncryptor.decrypt(user.getTrelloAccessToken());
-                trelloClient.revokeToken(token);
+                // Revocation is best-effort and does not hold up the response
+                trelloClient.revokeToken(token)
+                        .subscribe(null, error -> log.warn("Trello token revoke failed"));
             } catch (Exception ex) {
                 log.warn("Trello token revoke failed");
             }
         }
 
+        memberResolver.evict(user.getTrelloId());
         user.setTrelloAccessToken(null);
         user.setTrelloId(null);
         user.setTrelloUsername(null);
         userRepository.save(user);
+        trelloResponseCache.invalidateOwner(user.getId());
+        // Revoking the token deletes the webhooks registered with it
+        webhookRegistry.forgetOwner(user.getId());
+        credentialContext.evict(userEmail);
 
         return ResponseEntity.noContent().build();
     }
@@ -9,10 +9,14 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.devpulsex.dto.trello.BoardAnalyticsResponse;
+import com.devpulsex.dto.trello.StreamingBoardView;
 import com.devpulsex.service.TrelloService;
+import com.fasterxml.jackson.databind.JsonNode;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import reactor.core.publisher.Mono;
 
 @RestController
 @RequestMapping("/api/trello")
@@ -30,7 +34,7 @@ public class TrelloController {
     @GetMapping("/boards")
     @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER') or hasRole('DEVELOPER')")
     @Operation(summary = "Get Trello boards for user")
-    public Object getBoards(Authentication authentication) {
+    public Mono<JsonNode> getBoards(Authentication authentication) {
         log.info("Trello boards request started");
         return trelloService.getUserBoards(authentication);
     }
@@ -38,21 +42,28 @@ public class TrelloController {
     @GetMapping("/boards/{boardId}/lists")
     @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER') or hasRole('DEVELOPER')")
     @Operation(summary = "Get lists on a Trello board")
-    public Object getLists(@PathVariable String boardId, Authentication authentication) {
+    public Mono<JsonNode> getLists(@PathVariable String boardId, Authentication authentication) {
         return trelloService.getBoardLists(boardId, authentication);
     }
 
     @GetMapping("/lists/{listId}/cards")
     @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER') or hasRole('DEVELOPER')")
     @Operation(summary = "Get cards on a Trello list")
-    public Object getCards(@PathVariable String listId, Authentication authentication) {
+    public Mono<JsonNode> getCards(@PathVariable String listId, Authentication authentication) {
         return trelloService.getListCards(listId, authentication);
     }
 
+    @GetMapping("/boards/{boardId}/analytics")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER')")
+    @Operation(summary = "Card counts by list, label and member, overdue cards and card ages for a board (admin/manager only)")
+    public Mono<BoardAnalyticsResponse> getBoardAnalytics(@PathVariable String boardId, Authentication authentication) {
+        return trelloService.getBoardAnalytics(boardId, authentication);
+    }
+
     @GetMapping("/project/{projectId}/sync")
     @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER')")
     @Operation(summary = "Fetch Trello data for project (admin/manager only)")
-    public Object syncProject(@PathVariable Long projectId, Authentication authentication) {
+    public Mono<StreamingBoardView> syncProject(@PathVariable Long projectId, Authentication authentication) {
         return trelloService.getTrelloDashboardForProject(projectId, authentication);
     }
 }
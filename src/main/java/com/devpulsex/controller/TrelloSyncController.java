@@ -1,99 +1,96 @@
 package com.devpulsex.controller;
 
-import com.devpulsex.dto.task.TaskDto;
-import com.devpulsex.model.Project;
-import com.devpulsex.model.Task;
-import com.devpulsex.model.TaskStatus;
-import com.devpulsex.repository.ProjectRepository;
-import com.devpulsex.repository.TaskRepository;
-import com.devpulsex.service.TaskService;
-import com.devpulsex.service.TrelloService;
-import com.fasterxml.jackson.databind.JsonNode;
+import com.devpulsex.dto.trello.TrelloAutoSyncRunResponse;
+import com.devpulsex.dto.trello.TrelloStatusRuleDto;
+import com.devpulsex.dto.trello.TrelloStatusRulesRequest;
+import com.devpulsex.dto.trello.TrelloSyncJobResponse;
+import com.devpulsex.model.TrelloSyncMode;
+import com.devpulsex.service.TrelloAutoSyncService;
+import com.devpulsex.service.TrelloStatusRuleService;
+import com.devpulsex.service.TrelloSyncJobService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Set;
-import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
 
 @RestController
 @RequestMapping("/api/trello")
 @Tag(name = "Trello Sync", description = "Sync Trello cards to DevPulseX tasks")
 public class TrelloSyncController {
 
-    private final TrelloService trelloService;
-    private final ProjectRepository projectRepository;
-    private final TaskService taskService;
-    private final TaskRepository taskRepository;
+    private final TrelloSyncJobService trelloSyncJobService;
+    private final TrelloStatusRuleService trelloStatusRuleService;
+    private final TrelloAutoSyncService trelloAutoSyncService;
 
-    public TrelloSyncController(TrelloService trelloService,
-                                ProjectRepository projectRepository,
-                                TaskService taskService,
-                                TaskRepository taskRepository) {
-        this.trelloService = trelloService;
-        this.projectRepository = projectRepository;
-        this.taskService = taskService;
-        this.taskRepository = taskRepository;
+    public TrelloSyncController(TrelloSyncJobService trelloSyncJobService,
+                                TrelloStatusRuleService trelloStatusRuleService,
+                                TrelloAutoSyncService trelloAutoSyncService) {
+        this.trelloSyncJobService = trelloSyncJobService;
+        this.trelloStatusRuleService = trelloStatusRuleService;
+        this.trelloAutoSyncService = trelloAutoSyncService;
     }
 
     @PostMapping("/project/{projectId}/sync-tasks")
     @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER')")
-    @Operation(summary = "Sync Trello cards into DevPulseX tasks (admin/manager only)")
-    @SuppressWarnings("null")
-    public Map<String, Object> syncTasks(@PathVariable Long projectId, Authentication authentication) {
-        Project project = projectRepository.findById(projectId).orElseThrow();
-        String boardId = project.getTrelloBoardId();
-        if (boardId == null || boardId.isBlank()) {
-            throw new IllegalArgumentException("Project has no trelloBoardId configured");
-        }
+    @Operation(summary = "Start a background sync of Trello cards into DevPulseX tasks (admin/manager only)",
+               description = "Returns the sync job immediately; an interrupted or cancelled full sync of the project is resumed. "
+                       + "mode=delta (default) only reads cards changed since the last completed sync; mode=full reads the whole board")
+    public ResponseEntity<TrelloSyncJobResponse> syncTasks(@PathVariable Long projectId,
+                                                           @RequestParam(defaultValue = "delta") String mode,
+                                                           Authentication authentication) {
+        return ResponseEntity.accepted().body(trelloSyncJobService.start(projectId, parseMode(mode), authentication));
+    }
 
-        Set<String> existingTaskKeys = new HashSet<>();
-        for (Task task : taskRepository.findByProject_Id(projectId)) {
-            existingTaskKeys.add(taskKey(task.getTitle(), task.getDescription()));
-        }
+    @GetMapping("/project/{projectId}/status-rules")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER')")
+    @Operation(summary = "Get the project's Trello list-to-status rules (admin/manager only)")
+    public List<TrelloStatusRuleDto> getStatusRules(@PathVariable Long projectId) {
+        return trelloStatusRuleService.getRules(projectId);
+    }
 
-        JsonNode lists = trelloService.getBoardLists(boardId, authentication);
-        int created = 0; int updated = 0; int ignored = 0;
-        if (lists != null && lists.isArray()) {
-            for (JsonNode l : lists) {
-                String listId = l.path("id").asText();
-                String listName = l.path("name").asText();
-                TaskStatus inferred = trelloService.mapListNameToStatus(listName);
-                JsonNode cards = trelloService.getListCards(listId, authentication);
-                if (cards != null && cards.isArray()) {
-                    for (JsonNode c : cards) {
-                        TaskDto dto = TaskDto.builder()
-                                .title(c.path("name").asText())
-                                .description(c.path("desc").asText(null))
-                                .projectId(projectId)
-                                .status(inferred)
-                                .build();
-                        String key = taskKey(dto.getTitle(), dto.getDescription());
-                        if (existingTaskKeys.contains(key)) {
-                            ignored++;
-                            continue;
-                        }
-                        taskService.create(dto);
-                        existingTaskKeys.add(key);
-                        created++;
-                    }
-                }
-            }
-        }
-        Map<String, Object> result = new HashMap<>();
-        result.put("created", created);
-        result.put("updated", updated);
-        result.put("ignored", ignored);
-        return result;
+    @PutMapping("/project/{projectId}/status-rules")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER')")
+    @Operation(summary = "Replace the project's Trello list-to-status rules (admin/manager only)",
+               description = "Rules match a list by id (LIST_ID) or name (EXACT, PREFIX, REGEX; case-insensitive). "
+                       + "List ids win over exact names, which win over prefix and regex rules in the given order; "
+                       + "unmatched lists use the built-in mapping. The next sync of the project is a full sync")
+    public List<TrelloStatusRuleDto> replaceStatusRules(@PathVariable Long projectId,
+                                                        @Valid @RequestBody TrelloStatusRulesRequest request) {
+        return trelloStatusRuleService.replaceRules(projectId, request.getRules());
+    }
+
+    @GetMapping("/sync-jobs/{jobId}")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER')")
+    @Operation(summary = "Get Trello sync job progress (admin/manager only)")
+    public TrelloSyncJobResponse getSyncJob(@PathVariable String jobId) {
+        return trelloSyncJobService.get(jobId);
+    }
+
+    @DeleteMapping("/sync-jobs/{jobId}")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER')")
+    @Operation(summary = "Cancel a Trello sync job (admin/manager only)")
+    public ResponseEntity<TrelloSyncJobResponse> cancelSyncJob(@PathVariable String jobId) {
+        return ResponseEntity.accepted().body(trelloSyncJobService.cancel(jobId));
+    }
+
+    @GetMapping("/auto-sync/runs")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Recent scheduled Trello auto-sync runs, newest first (admin only)")
+    public List<TrelloAutoSyncRunResponse> getAutoSyncRuns() {
+        return trelloAutoSyncService.recentRuns();
     }
 
-    private String taskKey(String title, String description) {
-        String normalizedTitle = title == null ? "" : title.trim().toLowerCase();
-        String normalizedDescription = description == null ? "" : description.trim().toLowerCase();
-        return normalizedTitle + "|" + normalizedDescription;
+    private static TrelloSyncMode parseMode(String mode) {
+        try {
+            return TrelloSyncMode.valueOf(mode.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("mode must be 'delta' or 'full'");
+        }
     }
 }
@@ -0,0 +1,64 @@
+package com.devpulsex.controller;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.devpulsex.service.TrelloWebhookService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+/**
+ * Public callback endpoint for Trello webhooks. Requests are authenticated by
+ * signature, not by JWT.
+ */
+@RestController
+@RequestMapping("/api/webhooks/trello")
+@Tag(name = "Trello Webhooks", description = "Trello webhook callbacks for cache invalidation")
+public class TrelloWebhookController {
+
+    private static final Logger log = LoggerFactory.getLogger(TrelloWebhookController.class);
+
+    private final TrelloWebhookService webhookService;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    public TrelloWebhookController(TrelloWebhookService webhookService) {
+        this.webhookService = webhookService;
+    }
+
+    /**
+     * Trello checks the callback URL with a HEAD request before creating a webhook.
+     */
+    @RequestMapping(method = RequestMethod.HEAD)
+    @Operation(summary = "Trello webhook callback verification")
+    public ResponseEntity<Void> verify() {
+        return ResponseEntity.ok().build();
+    }
+
+    @PostMapping
+    @Operation(summary = "Receive a Trello webhook callback")
+    public ResponseEntity<Void> receive(@RequestBody String body,
+                                        @RequestHeader(value = "X-Trello-Webhook", required = false) String signature) {
+        if (!webhookService.isValidSignature(body, signature)) {
+            log.warn("Trello webhook signature rejected");
+            return ResponseEntity.status(401).build();
+        }
+        try {
+            JsonNode payload = objectMapper.readTree(body);
+            webhookService.handle(payload);
+        } catch (Exception e) {
+            log.warn("Trello webhook payload parsing failed");
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok().build();
+    }
+}
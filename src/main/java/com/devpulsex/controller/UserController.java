@@ -59,6 +59,17 @@ public class UserController {
         return ResponseEntity.ok(userService.update(id, request));
     }
 
+    @PostMapping("/{id}/revoke-sessions")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Revoke all sessions of a user (admin only)",
+               description = "Every JWT issued to the user so far is rejected by this instance from the next request on; other instances "
+                       + "reject them once their cached principal expires (app.security.principal-cache.ttl-seconds, default 60 s)")
+    public ResponseEntity<Void> revokeSessions(@PathVariable Long id) {
+        userService.revokeSessions(id);
+        log.info("User sessions revoked");
+        return ResponseEntity.noContent().build();
+    }
+
     @DeleteMapping("/{id}")
     @PreAuthorize("hasRole('ADMIN')")
     @Operation(summary = "Delete a user")
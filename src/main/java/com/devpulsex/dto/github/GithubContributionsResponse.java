@@ -0,0 +1,23 @@
+package com.devpulsex.dto.github;
+
+import java.time.LocalDate;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Contribution heatmap data: {@code days[i]} is the count for {@code startDate.plusDays(i)}.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GithubContributionsResponse {
+    private String username;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private int totalContributions;
+    private int[] days;
+}
@@ -0,0 +1,32 @@
+package com.devpulsex.dto.github;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GithubInsightsHistoryResponse {
+    private String username;
+    private LocalDate from;
+    private LocalDate to;
+    private List<Point> points;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Point {
+        private LocalDate date;
+        private int stars;
+        private int pullRequests;
+        private int followers;
+        private int commitsPerWeek;
+    }
+}
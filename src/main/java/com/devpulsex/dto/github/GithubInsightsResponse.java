@@ -1,6 +1,7 @@
 package com.devpulsex.dto.github;
 
 import java.time.Instant;
+import java.util.List;
 
 import lombok.Builder;
 import lombok.Data;
@@ -33,4 +34,9 @@ public class GithubInsightsResponse {
     // Additional metadata
     private String avatarUrl;
     private String profileUrl;
+
+    // Set when the latency budget ran out before every metric completed;
+    // missing metrics are refreshed into the cache in the background.
+    private boolean partial;
+    private List<String> missingFields;
 }
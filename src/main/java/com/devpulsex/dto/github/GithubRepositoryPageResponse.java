@@ -0,0 +1,22 @@
+package com.devpulsex.dto.github;
+
+import java.util.List;
+
+import com.devpulsex.dto.GithubRepositoryResponse;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class GithubRepositoryPageResponse {
+    private List<GithubRepositoryResponse> items;
+    private int page;
+    private int size;
+    private int totalElements;
+    private int totalPages;
+}
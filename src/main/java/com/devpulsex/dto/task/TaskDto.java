@@ -24,4 +24,6 @@ public class TaskDto {
     @NotNull
     private TaskStatus status;
     private LocalDate dueDate;
+    // Read-only: set by Trello sync
+    private String trelloCardId;
 }
@@ -0,0 +1,50 @@
+package com.devpulsex.dto.trello;
+
+import java.time.Instant;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BoardAnalyticsResponse {
+    private String boardId;
+    private int totalCards;
+    // Open cards with a due date in the past that is not marked complete
+    private int overdueCards;
+    private List<Count> byList;
+    private List<Count> byLabel;
+    private List<Count> byMember;
+    private AgeDistribution age;
+    private Instant computedAt;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Count {
+        private String id;
+        // List or label name; null for members
+        private String name;
+        private int count;
+    }
+
+    /**
+     * Open cards by time since creation.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class AgeDistribution {
+        private int under7Days;
+        private int from7To30Days;
+        private int from30To90Days;
+        private int over90Days;
+    }
+}
@@ -0,0 +1,9 @@
+package com.devpulsex.dto.trello;
+
+import java.util.List;
+
+/**
+ * Board aggregate: open lists in board order, each with its open cards.
+ */
+public record BoardView(List<ListView> lists) {
+}
@@ -0,0 +1,9 @@
+package com.devpulsex.dto.trello;
+
+import java.util.List;
+
+/**
+ * A card in a board aggregate: label names and member ids only.
+ */
+public record CardView(String id, String name, String desc, List<String> labels, List<String> memberIds) {
+}
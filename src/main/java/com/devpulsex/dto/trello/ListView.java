@@ -0,0 +1,6 @@
+package com.devpulsex.dto.trello;
+
+import java.util.List;
+
+public record ListView(String listId, String listName, List<CardView> cards) {
+}
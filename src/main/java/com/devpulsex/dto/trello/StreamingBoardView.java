@@ -0,0 +1,83 @@
+package com.devpulsex.dto.trello;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.WritableTypeId;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * A {@link BoardView} written straight from a Trello board snapshot to the response.
+ *
+ * Nothing is projected up front: each card is copied field by field from the snapshot
+ * into the {@link JsonGenerator} as it is serialized, so the response costs no memory
+ * beyond the (cached) snapshot itself however large the board is.
+ */
+@Schema(implementation = BoardView.class)
+public final class StreamingBoardView implements JsonSerializable {
+
+    private final JsonNode lists;
+    private final Map<String, List<JsonNode>> cardsByList;
+
+    /**
+     * @param lists       the snapshot's {@code lists} array
+     * @param cardsByList the snapshot's cards grouped by list id
+     */
+    public StreamingBoardView(JsonNode lists, Map<String, List<JsonNode>> cardsByList) {
+        this.lists = lists;
+        this.cardsByList = cardsByList;
+    }
+
+    @Override
+    public void serialize(JsonGenerator gen, SerializerProvider serializers) throws IOException {
+        gen.writeStartObject();
+        gen.writeArrayFieldStart("lists");
+        for (JsonNode list : lists) {
+            String listId = list.path("id").asText();
+            gen.writeStartObject();
+            gen.writeStringField("listId", listId);
+            gen.writeStringField("listName", list.path("name").asText());
+            gen.writeArrayFieldStart("cards");
+            for (JsonNode card : cardsByList.getOrDefault(listId, List.of())) {
+                writeCard(gen, card);
+            }
+            gen.writeEndArray();
+            gen.writeEndObject();
+        }
+        gen.writeEndArray();
+        gen.writeEndObject();
+    }
+
+    @Override
+    public void serializeWithType(JsonGenerator gen, SerializerProvider serializers, TypeSerializer typeSer) throws IOException {
+        WritableTypeId typeId = typeSer.writeTypePrefix(gen, typeSer.typeId(this, JsonToken.START_OBJECT));
+        serialize(gen, serializers);
+        typeSer.writeTypeSuffix(gen, typeId);
+    }
+
+    private static void writeCard(JsonGenerator gen, JsonNode card) throws IOException {
+        gen.writeStartObject();
+        gen.writeStringField("id", card.path("id").asText());
+        gen.writeStringField("name", card.path("name").asText());
+        gen.writeStringField("desc", card.path("desc").asText());
+        gen.writeArrayFieldStart("labels");
+        for (JsonNode label : card.path("labels")) {
+            gen.writeString(label.path("name").asText());
+        }
+        gen.writeEndArray();
+        gen.writeArrayFieldStart("memberIds");
+        for (JsonNode member : card.path("idMembers")) {
+            gen.writeString(member.asText());
+        }
+        gen.writeEndArray();
+        gen.writeEndObject();
+    }
+}
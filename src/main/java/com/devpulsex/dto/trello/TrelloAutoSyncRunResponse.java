@@ -0,0 +1,28 @@
+package com.devpulsex.dto.trello;
+
+import java.time.Instant;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TrelloAutoSyncRunResponse {
+    private Long id;
+    private Instant startedAt;
+    private Instant finishedAt;
+    private long durationMs;
+    private int projects;
+    private int synced;
+    private int skippedInactive;
+    private int skippedBusy;
+    private int skippedNoOwner;
+    private int failed;
+    private int cardsProcessed;
+    private int created;
+    private int updated;
+}
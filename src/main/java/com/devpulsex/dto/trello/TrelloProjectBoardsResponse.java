@@ -0,0 +1,38 @@
+package com.devpulsex.dto.trello;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Board aggregates of every accessible Trello-linked project. Boards that failed or timed
+ * out are listed with their status and no board, so the rest are still returned.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TrelloProjectBoardsResponse {
+    private int total;
+    private int succeeded;
+    private int failed;
+    private List<ProjectBoard> projects;
+
+    public enum Status { OK, FAILED, TIMEOUT }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class ProjectBoard {
+        private Long projectId;
+        private String projectName;
+        private String boardId;
+        private Status status;
+        private String error;
+        private BoardView board;
+    }
+}
@@ -0,0 +1,28 @@
+package com.devpulsex.dto.trello;
+
+import com.devpulsex.model.TaskStatus;
+import com.devpulsex.model.TrelloStatusRuleType;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TrelloStatusRuleDto {
+    @NotNull
+    private TrelloStatusRuleType type;
+
+    @NotBlank
+    @Size(max = 255)
+    private String pattern;
+
+    @NotNull
+    private TaskStatus status;
+}
@@ -0,0 +1,22 @@
+package com.devpulsex.dto.trello;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Replacement rule set for a project, in priority order within each rule type.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TrelloStatusRulesRequest {
+    @NotNull
+    @Size(max = 100)
+    private List<@Valid TrelloStatusRuleDto> rules;
+}
@@ -0,0 +1,32 @@
+package com.devpulsex.dto.trello;
+
+import java.time.Instant;
+
+import com.devpulsex.model.TrelloSyncJobStatus;
+import com.devpulsex.model.TrelloSyncMode;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TrelloSyncJobResponse {
+    private String jobId;
+    private Long projectId;
+    private TrelloSyncJobStatus status;
+    private TrelloSyncMode mode;
+    private int listsTotal;
+    private int listsDone;
+    private int cardsProcessed;
+    private int created;
+    private int updated;
+    private int ignored;
+    private String error;
+    private Instant createdAt;
+    private Instant startedAt;
+    private Instant finishedAt;
+}
@@ -0,0 +1,159 @@
+package com.devpulsex.integration;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import com.devpulsex.exception.ResourceNotFoundException;
+import com.devpulsex.integration.oauth.OAuthTokenEncryptor;
+import com.devpulsex.integration.trello.TrelloTokenEncryptor;
+import com.devpulsex.model.User;
+import com.devpulsex.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Resolves a user's linked integration accounts and their decrypted provider tokens.
+ *
+ * Within an HTTP request a user is looked up once and each provider token decrypted at
+ * most once (memoized in a request attribute). Across requests, resolved accounts are kept
+ * in a small in-memory store for {@code integration.credentials.ttl-seconds}, so hot users
+ * skip both the user query and the cipher. Callers that link, relink or unlink a token, or
+ * change or delete a user, must {@link #evict} the user. Outside a request (background
+ * jobs) only the store is used.
+ */
+@Component
+public class IntegrationCredentialContext {
+
+    private static final String REQUEST_ATTRIBUTE = IntegrationCredentialContext.class.getName() + ".accounts";
+
+    private final UserRepository userRepository;
+    private final TrelloTokenEncryptor trelloTokenEncryptor;
+    private final OAuthTokenEncryptor oauthTokenEncryptor;
+    private final Cache<String, LinkedAccount> store;
+
+    public IntegrationCredentialContext(UserRepository userRepository,
+                                        TrelloTokenEncryptor trelloTokenEncryptor,
+                                        OAuthTokenEncryptor oauthTokenEncryptor,
+                                        @Value("${integration.credentials.ttl-seconds:60}") long ttlSeconds,
+                                        @Value("${integration.credentials.max-entries:1000}") long maxEntries) {
+        this.userRepository = userRepository;
+        this.trelloTokenEncryptor = trelloTokenEncryptor;
+        this.oauthTokenEncryptor = oauthTokenEncryptor;
+        this.store = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .maximumSize(maxEntries)
+                .build();
+    }
+
+    /**
+     * The linked accounts of the user with {@code email}.
+     *
+     * @throws ResourceNotFoundException if there is no such user
+     */
+    public LinkedAccount forUser(String email) {
+        Map<String, LinkedAccount> requestAccounts = requestAccounts();
+        if (requestAccounts == null) {
+            return fromStore(email);
+        }
+        LinkedAccount account = requestAccounts.get(email);
+        if (account == null) {
+            account = fromStore(email);
+            requestAccounts.put(email, account);
+        }
+        return account;
+    }
+
+    public void evict(String email) {
+        if (email == null) return;
+        store.invalidate(email);
+        Map<String, LinkedAccount> requestAccounts = requestAccounts();
+        if (requestAccounts != null) {
+            requestAccounts.remove(email);
+        }
+    }
+
+    private LinkedAccount fromStore(String email) {
+        // A missing user is thrown from the loader and not stored
+        return store.get(email, this::load);
+    }
+
+    private LinkedAccount load(String email) {
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+        return new LinkedAccount(user);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, LinkedAccount> requestAccounts() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        Object accounts = attributes.getAttribute(REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (accounts == null) {
+            accounts = new ConcurrentHashMap<String, LinkedAccount>();
+            attributes.setAttribute(REQUEST_ATTRIBUTE, accounts, RequestAttributes.SCOPE_REQUEST);
+        }
+        return (Map<String, LinkedAccount>) accounts;
+    }
+
+    /**
+     * Snapshot of the integration fields of a user. Tokens are decrypted on first use.
+     */
+    public final class LinkedAccount {
+        private final Long userId;
+        private final String trelloId;
+        private final String githubUsername;
+        private final String githubAvatarUrl;
+        private final String encryptedTrelloToken;
+        private final String encryptedGithubToken;
+        private String trelloToken;
+        private String githubToken;
+
+        private LinkedAccount(User user) {
+            this.userId = user.getId();
+            this.trelloId = user.getTrelloId();
+            this.githubUsername = user.getGithubUsername();
+            this.githubAvatarUrl = user.getGithubAvatarUrl();
+            this.encryptedTrelloToken = user.getTrelloAccessToken();
+            this.encryptedGithubToken = user.getGithubAccessToken();
+        }
+
+        public Long getUserId() { return userId; }
+        public String getTrelloId() { return trelloId; }
+        public String getGithubUsername() { return githubUsername; }
+        public String getGithubAvatarUrl() { return githubAvatarUrl; }
+
+        public boolean hasTrelloToken() {
+            return encryptedTrelloToken != null && !encryptedTrelloToken.isBlank();
+        }
+
+        /**
+         * The decrypted Trello token, or null when none is linked.
+         *
+         * @throws IllegalStateException if the stored token cannot be decrypted
+         */
+        public synchronized String trelloToken() {
+            if (trelloToken == null && hasTrelloToken()) {
+                trelloToken = trelloTokenEncryptor.decrypt(encryptedTrelloToken);
+            }
+            return trelloToken;
+        }
+
+        /**
+         * The GitHub token (decrypted, or as stored for legacy plaintext values), or null when none is linked.
+         */
+        public synchronized String githubToken() {
+            if (githubToken == null && encryptedGithubToken != null && !encryptedGithubToken.isBlank()) {
+                githubToken = oauthTokenEncryptor.decryptLenient(encryptedGithubToken);
+            }
+            return githubToken;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.devpulsex.integration.github;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Remembers the last GitHub rate-limit headers seen for each access token.
+ *
+ * Tokens are keyed by hash only; the raw token is never stored.
+ */
+@Component
+public class GitHubRateLimitTracker {
+
+    /** Default core API budget for authenticated requests. */
+    public static final int DEFAULT_LIMIT = 5000;
+
+    public record Snapshot(int limit, int remaining, long resetEpochSeconds) {}
+
+    private final Cache<Integer, Snapshot> snapshots = Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofHours(1))
+            .maximumSize(10_000)
+            .build();
+
+    public void record(String accessToken, int limit, int remaining, long resetEpochSeconds) {
+        if (accessToken == null || limit <= 0 || remaining < 0) {
+            return;
+        }
+        snapshots.put(accessToken.hashCode(), new Snapshot(limit, remaining, resetEpochSeconds));
+    }
+
+    public Optional<Snapshot> snapshot(String accessToken) {
+        if (accessToken == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(snapshots.getIfPresent(accessToken.hashCode()));
+    }
+}
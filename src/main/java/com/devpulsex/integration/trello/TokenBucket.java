@@ -0,0 +1,79 @@
+package com.devpulsex.integration.trello;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket (GCRA form): the whole state is one theoretical arrival
+ * time updated by compare-and-set, so callers never block on a monitor.
+ *
+ * A bucket holds {@code capacity} permits refilled evenly over {@code window}; a full
+ * bucket allows a burst of {@code capacity} requests. All times are {@link System#nanoTime()}.
+ */
+final class TokenBucket {
+
+    /** Returned by {@link #reserve} when the wait would exceed the allowed maximum. */
+    static final long REJECTED = -1L;
+
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final AtomicLong theoreticalArrival;
+
+    TokenBucket(int capacity, Duration window, long nowNanos) {
+        if (capacity <= 0 || window.isZero() || window.isNegative()) {
+            throw new IllegalArgumentException("capacity and window must be positive");
+        }
+        this.intervalNanos = window.toNanos() / capacity;
+        this.burstNanos = intervalNanos * capacity;
+        this.theoreticalArrival = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * Take a permit if one is available right now.
+     */
+    boolean tryAcquire(long nowNanos) {
+        while (true) {
+            long tat = theoreticalArrival.get();
+            long next = Math.max(tat, nowNanos) + intervalNanos;
+            if (next - nowNanos > burstNanos) {
+                return false;
+            }
+            if (theoreticalArrival.compareAndSet(tat, next)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Reserve the next permit and return how long the caller must wait before using it,
+     * or {@link #REJECTED} (nothing reserved) when that wait would exceed {@code maxWaitNanos}.
+     */
+    long reserve(long nowNanos, long maxWaitNanos) {
+        while (true) {
+            long tat = theoreticalArrival.get();
+            long next = Math.max(tat, nowNanos) + intervalNanos;
+            long wait = Math.max(0L, next - nowNanos - burstNanos);
+            if (wait > maxWaitNanos) {
+                return REJECTED;
+            }
+            if (theoreticalArrival.compareAndSet(tat, next)) {
+                return wait;
+            }
+        }
+    }
+
+    /**
+     * Give back a permit taken by {@link #tryAcquire} or {@link #reserve} but not used.
+     */
+    void release() {
+        theoreticalArrival.addAndGet(-intervalNanos);
+    }
+
+    /**
+     * Permits that could be taken right now without waiting.
+     */
+    int available(long nowNanos) {
+        long backlog = Math.max(0L, theoreticalArrival.get() - nowNanos);
+        return (int) Math.max(0L, (burstNanos - backlog) / intervalNanos);
+    }
+}
@@ -1,154 +1,304 @@
 package com.devpulsex.integration.trello;
 
+import java.net.URI;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.ResponseEntity;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.RestClientException;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import com.devpulsex.exception.TrelloApiException;
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.MissingNode;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
 
 /**
- * Low-level Trello API client with simple rate limit handling.
+ * Low-level, non-blocking Trello API client with simple rate limit handling.
+ *
+ * Throttling never parks the calling thread: waits for a {@link TrelloRateLimiter}
+ * permit, the hard limit reset and 429 retries are all scheduled, not slept.
  */
 @Component
 public class TrelloClient {
 
     private static final Logger log = LoggerFactory.getLogger(TrelloClient.class);
 
-    private final RestTemplate restTemplate;
-    private final ObjectMapper objectMapper;
+    // Card fields needed by board aggregates and task sync
+    private static final String BOARD_CARD_FIELDS = "id,name,desc,idList,labels,idMembers,due,dueComplete,dateLastActivity";
+
+    // Board actions that change cards or lists, as seen by delta sync
+    private static final String SYNC_ACTION_TYPES = "createCard,updateCard,copyCard,moveCardToBoard,convertToCardFromCheckItem,"
+            + "createList,updateList,moveListToBoard,moveListFromBoard";
+
+    /** Maximum actions Trello returns per request. */
+    public static final int ACTIONS_PAGE_LIMIT = 1000;
+
+    /** Maximum routes per /batch request. */
+    public static final int BATCH_MAX_URLS = 10;
+
+    private static final int MAX_RETRIES = 2;
+    private static final Duration RETRY_BACKOFF = Duration.ofMillis(1500);
+
+    private final WebClient webClient;
+    private final TrelloRateLimiter rateLimiter;
 
-    @Value("${trello.api.base-url}")
+    @Value("${trello.api.base-url:https://api.trello.com/1}")
     private String baseUrl;
     @Value("${trello.api.key}")
     private String apiKey;
 
-    @Value("${trello.rate.limit.requests}")
-    private int softLimitRequests;
-    @Value("${trello.rate.limit.window-seconds}")
-    private int softLimitWindowSeconds;
+    // Set when Trello reports the hard limit as exhausted; requests are delayed until then
+    private final AtomicLong pausedUntilMillis = new AtomicLong();
 
-    private int windowCount = 0;
-    private Instant windowStart = Instant.now();
+    public TrelloClient(@Qualifier("trelloWebClient") WebClient webClient, TrelloRateLimiter rateLimiter) {
+        this.webClient = webClient;
+        this.rateLimiter = rateLimiter;
+    }
+
+    public Mono<JsonNode> getBoards(String token) { return performGetJson("/members/me/boards", token); }
+    public Mono<JsonNode> getLists(String boardId, String token) { return performGetJson("/boards/" + boardId + "/lists", token); }
+    public Mono<JsonNode> getCards(String listId, String token) { return performGetJson("/lists/" + listId + "/cards", token); }
 
-    public TrelloClient() {
-        this.restTemplate = new RestTemplate();
-        this.objectMapper = new ObjectMapper();
+    /**
+     * Fetch a board with its open lists and open cards in a single request.
+     * Cards are returned flat on the board; group them locally by {@code idList}.
+     */
+    public Mono<JsonNode> getBoardWithListsAndCards(String boardId, String token) {
+        return performGetJson("/boards/" + boardId
+                + "?fields=id,name&lists=open&list_fields=id,name,pos&cards=open&card_fields=" + BOARD_CARD_FIELDS, token);
     }
 
-    public JsonNode getBoards(String token) { return performGetJson("/members/me/boards", token); }
-    public JsonNode getLists(String boardId, String token) { return performGetJson("/boards/" + boardId + "/lists", token); }
-    public JsonNode getCards(String listId, String token) { return performGetJson("/lists/" + listId + "/cards", token); }
+    /**
+     * Card and list actions on a board after {@code since}, newest first.
+     */
+    public Mono<JsonNode> getBoardActionsSince(String boardId, Instant since, String token) {
+        return performGetJson("/boards/" + boardId + "/actions?fields=type,date,data&filter=" + SYNC_ACTION_TYPES
+                + "&limit=" + ACTIONS_PAGE_LIMIT + "&since=" + since, token);
+    }
 
-    public JsonNode getMemberProfile(String token) { return performGetJson("/members/me", token); }
+    /**
+     * The board's {@code dateLastActivity} only; a cheap check for whether anything changed.
+     */
+    public Mono<JsonNode> getBoardActivity(String boardId, String token) {
+        return performGetJson("/boards/" + boardId + "?fields=dateLastActivity", token);
+    }
 
-    @SuppressWarnings("null")
-    public void revokeToken(String token) {
-        applySoftWindowLimit();
-        String url = buildUrl("/tokens/" + token, token);
-        HttpHeaders headers = new HttpHeaders();
-        HttpEntity<Void> entity = new HttpEntity<>(headers);
-        try {
-            restTemplate.exchange(url, HttpMethod.DELETE, entity, String.class);
-        } catch (RestClientException ex) {
-            if (ex.getMessage() != null && ex.getMessage().contains("404")) {
-                return; // Already revoked or invalid
-            }
-            throw ex;
-        }
+    public Mono<JsonNode> getMemberProfile(String token) { return performGetJson("/members/me", token); }
+
+    /**
+     * Fetch a board's open lists and the given cards through {@link #getBatch}, shaped like
+     * {@link #getBoardWithListsAndCards}: {@code lists} plus {@code cards} in {@code cardIds}
+     * order, leaving out cards Trello could not return. Batched routes take Trello's default
+     * card fields, which include everything task sync reads plus {@code closed} and {@code idBoard}.
+     */
+    public Mono<JsonNode> getBoardListsAndCards(String boardId, List<String> cardIds, String token) {
+        List<String> paths = new ArrayList<>(cardIds.size() + 1);
+        paths.add("/boards/" + boardId + "/lists");
+        cardIds.forEach(id -> paths.add("/cards/" + id));
+        return getBatch(paths, token).map(results -> {
+            ObjectNode board = JsonNodeFactory.instance.objectNode();
+            board.set("lists", results.get(0).isArray() ? results.get(0) : JsonNodeFactory.instance.arrayNode());
+            ArrayNode cards = board.putArray("cards");
+            results.subList(1, results.size()).stream().filter(card -> !card.isMissingNode()).forEach(cards::add);
+            return board;
+        });
     }
 
-    private void sleepForRetry(long millis) {
-        try {
-            Thread.sleep(millis);
-        } catch (InterruptedException ie) {
-            Thread.currentThread().interrupt();
+    /**
+     * GET several resources with Trello's {@code /batch} endpoint, {@value #BATCH_MAX_URLS} routes
+     * per HTTP call and rate-limit permit. Results are in {@code paths} order; a resource Trello
+     * could not return (deleted, no access) is a {@link MissingNode}. Paths must not contain
+     * commas, which separate routes.
+     */
+    public Mono<List<JsonNode>> getBatch(List<String> paths, String token) {
+        if (paths.isEmpty()) {
+            return Mono.just(List.of());
         }
+        List<List<String>> chunks = new ArrayList<>();
+        for (int i = 0; i < paths.size(); i += BATCH_MAX_URLS) {
+            chunks.add(paths.subList(i, Math.min(i + BATCH_MAX_URLS, paths.size())));
+        }
+        return Flux.fromIterable(chunks)
+                .flatMapSequential(chunk -> performGetJson(batchPath(chunk), token)
+                        .map(response -> demultiplex(chunk.size(), response)))
+                .concatMapIterable(results -> results)
+                .collectList();
     }
 
-    private void applySoftWindowLimit() {
-        long sleepMs = calculateSleepTime();
-        if (sleepMs > 0) {
-            log.info("Trello API rate limit pause");
-            try {
-                Thread.sleep(sleepMs);
-            } catch (InterruptedException ie) {
-                Thread.currentThread().interrupt();
+    /**
+     * The /batch route for up to {@value #BATCH_MAX_URLS} paths, each URL-encoded so its own
+     * {@code /}, {@code ?} and {@code &} stay inside one route.
+     */
+    static String batchPath(List<String> chunk) {
+        return "/batch?urls=" + chunk.stream()
+                .map(path -> URLEncoder.encode(path, StandardCharsets.UTF_8))
+                .collect(Collectors.joining(","));
+    }
+
+    /**
+     * Each /batch result is {@code {"200": body}} on success and an error object otherwise.
+     */
+    static List<JsonNode> demultiplex(int expected, JsonNode response) {
+        List<JsonNode> results = new ArrayList<>(expected);
+        for (int i = 0; i < expected; i++) {
+            JsonNode body = response.path(i).get("200");
+            if (body == null) {
+                log.debug("Trello batch item failed with status {}", response.path(i).path("statusCode").asInt());
+                body = MissingNode.getInstance();
             }
+            results.add(body);
         }
+        return results;
     }
 
-    private synchronized long calculateSleepTime() {
-        Instant now = Instant.now();
-        if (windowStart.plusSeconds(softLimitWindowSeconds).isBefore(now)) {
-            windowStart = now;
-            windowCount = 0;
-        }
-        windowCount++;
-        if (windowCount >= softLimitRequests) {
-            long sleepMs = Duration.between(now, windowStart.plusSeconds(softLimitWindowSeconds)).toMillis();
-            windowStart = Instant.now();
-            windowCount = 0;
-            return sleepMs;
-        }
-        return 0;
+    /**
+     * Register a webhook for a board or member. Trello verifies {@code callbackUrl} with a HEAD
+     * request first. An identical existing webhook counts as success.
+     */
+    @SuppressWarnings("null")
+    public Mono<JsonNode> createWebhook(String idModel, String callbackUrl, String token) {
+        URI uri = UriComponentsBuilder.fromUriString(baseUrl + "/webhooks")
+                .queryParam("idModel", idModel)
+                .queryParam("callbackURL", callbackUrl)
+                .queryParam("description", "DevPulseX cache invalidation")
+                .queryParam("key", apiKey)
+                .queryParam("token", token)
+                .encode()
+                .build()
+                .toUri();
+        return throttled(token, () -> webClient.post()
+                .uri(uri)
+                .retrieve()
+                .bodyToMono(JsonNode.class))
+                .onErrorResume(WebClientResponseException.BadRequest.class,
+                        ex -> ex.getResponseBodyAsString().contains("already exists")
+                                ? Mono.just(NullNode.getInstance())
+                                : Mono.error(ex));
     }
 
+    /**
+     * Update fields of a card ({@code name}, {@code idList}, ...). Rate-limited requests are
+     * retried like reads; other failures are left to the caller.
+     */
     @SuppressWarnings("null")
-    private JsonNode performGetJson(String path, String token) {
-        applySoftWindowLimit();
-        String url = buildUrl(path, token);
-
-        HttpHeaders headers = new HttpHeaders();
-        HttpEntity<Void> entity = new HttpEntity<>(headers);
-        int attempt = 0;
-        while (attempt < 3) {
-            attempt++;
-            try {
-                ResponseEntity<String> response = restTemplate.exchange(url, HttpMethod.GET, entity, String.class);
-                handleRateLimitHeaders(response.getHeaders());
-                return objectMapper.readTree(response.getBody());
-            } catch (RestClientException ex) {
-                String errorMsg = ex.getMessage() != null ? ex.getMessage() : "Unknown error";
-                log.error("Trello API request failed");
-                
-                if (errorMsg.contains("429") && attempt < 3) {
-                    log.warn("Trello API rate limited");
-                    sleepForRetry(1500L * attempt);
-                    continue;
-                }
-                
-                // For 401/403, don't retry - token is likely invalid
-                if (errorMsg.contains("401") || errorMsg.contains("403")) {
-                    log.error("Trello API authentication failed");
-                    throw new RestClientException("Trello authentication failed. Please re-link your account.", ex);
-                }
-                
-                throw ex;
-            } catch (com.fasterxml.jackson.core.JsonProcessingException e) {
-                log.error("Trello API response parsing failed");
-                throw new RestClientException("Failed to parse Trello response", e);
-            }
-        }
-        throw new RestClientException("Trello API request failed");
+    public Mono<JsonNode> updateCard(String cardId, Map<String, String> fields, String token) {
+        URI uri = cardUri(baseUrl, cardId, fields, apiKey, token);
+        return throttled(token, () -> webClient.put()
+                .uri(uri)
+                .retrieve()
+                .bodyToMono(JsonNode.class))
+                .retryWhen(Retry.backoff(MAX_RETRIES, RETRY_BACKOFF)
+                        .filter(TrelloClient::isRateLimited)
+                        .doBeforeRetry(signal -> log.warn("Trello API rate limited"))
+                        .onRetryExhaustedThrow((spec, signal) -> signal.failure()));
+    }
+
+    /**
+     * The card URI with every value passed as a template variable, so values are fully encoded:
+     * a literal {@code +} would otherwise reach Trello as a space and {@code {...}} would be
+     * taken for an unexpanded variable.
+     */
+    static URI cardUri(String baseUrl, String cardId, Map<String, String> fields, String apiKey, String token) {
+        UriComponentsBuilder builder = UriComponentsBuilder.fromUriString(baseUrl + "/cards/{cardId}");
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("cardId", cardId);
+        fields.forEach((name, value) -> {
+            builder.queryParam(name, "{" + name + "}");
+            variables.put(name, value);
+        });
+        variables.put("key", apiKey);
+        variables.put("token", token);
+        return builder
+                .queryParam("key", "{key}")
+                .queryParam("token", "{token}")
+                .encode()
+                .buildAndExpand(variables)
+                .toUri();
     }
 
-    private String buildUrl(String path, String token) {
-        return UriComponentsBuilder.fromUriString(baseUrl + path)
+    @SuppressWarnings("null")
+    public Mono<Void> revokeToken(String token) {
+        return throttled(token, () -> webClient.delete()
+                .uri(buildUri("/tokens/" + token, token))
+                .retrieve()
+                .toBodilessEntity()
+                .then())
+                .onErrorResume(WebClientResponseException.NotFound.class, ex -> Mono.empty()); // Already revoked or invalid
+    }
+
+    @SuppressWarnings("null")
+    private Mono<JsonNode> performGetJson(String path, String token) {
+        URI uri = buildUri(path, token);
+        return throttled(token, () -> webClient.get()
+                .uri(uri)
+                .retrieve()
+                .toEntity(JsonNode.class)
+                .map(response -> {
+                    handleRateLimitHeaders(response.getHeaders());
+                    return response.getBody();
+                }))
+                .retryWhen(Retry.backoff(MAX_RETRIES, RETRY_BACKOFF)
+                        .filter(TrelloClient::isRateLimited)
+                        .doBeforeRetry(signal -> log.warn("Trello API rate limited"))
+                        .onRetryExhaustedThrow((spec, signal) -> signal.failure()))
+                .onErrorMap(WebClientResponseException.class, ex -> {
+                    log.error("Trello API request failed");
+                    if (ex.getStatusCode() == HttpStatus.UNAUTHORIZED || ex.getStatusCode() == HttpStatus.FORBIDDEN) {
+                        // Don't retry - token is likely invalid
+                        log.error("Trello API authentication failed");
+                        return new TrelloApiException("Trello authentication failed. Please re-link your account.", ex);
+                    }
+                    return ex;
+                });
+    }
+
+    /**
+     * Defer {@code call} until any hard-limit pause has passed and a rate-limit permit
+     * for {@code token} is available. Re-evaluated on every subscription, so retries are throttled too.
+     */
+    private <T> Mono<T> throttled(String token, Supplier<Mono<T>> call) {
+        return Mono.defer(() -> {
+            long pauseMs = pausedUntilMillis.get() - System.currentTimeMillis();
+            Mono<Void> permit = pauseMs > 0
+                    ? Mono.delay(Duration.ofMillis(pauseMs)).then(rateLimiter.acquire(token))
+                    : rateLimiter.acquire(token);
+            return permit.then(Mono.defer(call));
+        });
+    }
+
+    private static boolean isRateLimited(Throwable error) {
+        return error instanceof WebClientResponseException ex && ex.getStatusCode() == HttpStatus.TOO_MANY_REQUESTS;
+    }
+
+    private URI buildUri(String path, String token) {
+        return URI.create(UriComponentsBuilder.fromUriString(baseUrl + path)
                 .queryParam("key", apiKey)
                 .queryParam("token", token)
-                .build().toUriString();
+                .build().toUriString());
     }
 
     private void handleRateLimitHeaders(HttpHeaders headers) {
@@ -159,11 +309,10 @@ public class TrelloClient {
                 int rem = Integer.parseInt(remaining);
                 long resetEpoch = Long.parseLong(reset);
                 if (rem <= 0) {
-                    long sleepMs = (resetEpoch * 1000L) - System.currentTimeMillis();
-                    if (sleepMs > 0) {
-                        log.info("Trello hard limit reached. Sleeping {} ms until reset.", sleepMs);
-                        try { Thread.sleep(sleepMs); } catch (InterruptedException ie) { Thread.currentThread().interrupt(); }
-                    }
+                    long resetAtMs = resetEpoch * 1000L;
+                    pausedUntilMillis.accumulateAndGet(resetAtMs, Math::max);
+                    log.info("Trello hard limit reached. Pausing requests for {} ms until reset.",
+                            Math.max(0, resetAtMs - System.currentTimeMillis()));
                 }
             } catch (NumberFormatException ignored) {
                 // Ignore malformed headers
@@ -0,0 +1,154 @@
+package com.devpulsex.integration.trello;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.devpulsex.exception.TrelloApiException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Mono;
+
+/**
+ * Two-level Trello rate limiter: one bucket per access token (Trello's per-token limit)
+ * and one shared bucket for the API key (Trello's per-key limit).
+ *
+ * Buckets are lock-free ({@link TokenBucket}), so one user's burst only drains that
+ * user's bucket and the key bucket. Token buckets are keyed by the SHA-256 digest of the
+ * token; the raw token is never stored. The key bucket's available permits are exposed as
+ * the {@code trello.ratelimit.available} gauge; token buckets are reported in aggregate
+ * ({@code trello.ratelimit.token.buckets} and {@code trello.ratelimit.token.min-available})
+ * rather than as one series per token.
+ */
+@Component
+public class TrelloRateLimiter {
+
+    private static final String AVAILABLE_GAUGE = "trello.ratelimit.available";
+
+    private final int tokenRequests;
+    private final Duration tokenWindow;
+    private final long maxWaitNanos;
+    private final TokenBucket keyBucket;
+    private final Cache<String, TokenBucket> tokenBuckets;
+    private final Counter delayedCounter;
+    private final Counter rejectedCounter;
+
+    public TrelloRateLimiter(MeterRegistry meterRegistry,
+                             @Value("${trello.rate.limit.requests:295}") int keyRequests,
+                             @Value("${trello.rate.limit.window-seconds:10}") int keyWindowSeconds,
+                             @Value("${trello.rate.limit.token-requests:100}") int tokenRequests,
+                             @Value("${trello.rate.limit.token-window-seconds:10}") int tokenWindowSeconds,
+                             @Value("${trello.rate.limit.max-wait-ms:30000}") long maxWaitMs,
+                             @Value("${trello.rate.limit.max-token-buckets:1000}") int maxTokenBuckets) {
+        this.tokenRequests = tokenRequests;
+        this.tokenWindow = Duration.ofSeconds(tokenWindowSeconds);
+        this.maxWaitNanos = Duration.ofMillis(maxWaitMs).toNanos();
+        this.keyBucket = new TokenBucket(keyRequests, Duration.ofSeconds(keyWindowSeconds), System.nanoTime());
+        Gauge.builder(AVAILABLE_GAUGE, keyBucket, b -> b.available(System.nanoTime()))
+                .tag("bucket", "key")
+                .description("Trello rate-limit permits available without waiting")
+                .register(meterRegistry);
+
+        // Idle buckets are full again after one window, so dropping them loses nothing
+        this.tokenBuckets = Caffeine.newBuilder()
+                .expireAfterAccess(tokenWindow.multipliedBy(6))
+                .maximumSize(maxTokenBuckets)
+                .build();
+        Gauge.builder("trello.ratelimit.token.buckets", tokenBuckets, Cache::estimatedSize)
+                .description("Access tokens with a Trello rate-limit bucket")
+                .register(meterRegistry);
+        Gauge.builder("trello.ratelimit.token.min-available", this, TrelloRateLimiter::minTokenAvailable)
+                .description("Fewest permits available without waiting in any token bucket")
+                .register(meterRegistry);
+        this.delayedCounter = Counter.builder("trello.ratelimit.delayed")
+                .description("Trello calls that waited for a rate-limit permit")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("trello.ratelimit.rejected")
+                .description("Trello calls rejected because the rate-limit wait was too long")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Take a permit from both the token and the key bucket if both have one right now.
+     * Never waits.
+     */
+    public boolean tryAcquire(String token) {
+        long now = System.nanoTime();
+        TokenBucket tokenBucket = bucketFor(token);
+        if (!tokenBucket.tryAcquire(now)) {
+            return false;
+        }
+        if (!keyBucket.tryAcquire(now)) {
+            tokenBucket.release();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Reserve a permit from both buckets and complete once it may be used.
+     * Completes immediately when permits are available; otherwise the wait is scheduled
+     * rather than blocking a thread. Fails with {@link TrelloApiException} when the wait
+     * would exceed {@code trello.rate.limit.max-wait-ms}.
+     */
+    public Mono<Void> acquire(String token) {
+        return Mono.defer(() -> {
+            long now = System.nanoTime();
+            TokenBucket tokenBucket = bucketFor(token);
+            long tokenWait = tokenBucket.reserve(now, maxWaitNanos);
+            if (tokenWait == TokenBucket.REJECTED) {
+                rejectedCounter.increment();
+                return Mono.error(new TrelloApiException("Trello rate limit exceeded. Please try again shortly."));
+            }
+            long keyWait = keyBucket.reserve(now, maxWaitNanos);
+            if (keyWait == TokenBucket.REJECTED) {
+                tokenBucket.release();
+                rejectedCounter.increment();
+                return Mono.error(new TrelloApiException("Trello rate limit exceeded. Please try again shortly."));
+            }
+            long wait = Math.max(tokenWait, keyWait);
+            if (wait == 0) {
+                return Mono.empty();
+            }
+            delayedCounter.increment();
+            return Mono.delay(Duration.ofNanos(wait)).then();
+        });
+    }
+
+    private TokenBucket bucketFor(String token) {
+        return tokenBuckets.get(digest(token), k -> new TokenBucket(tokenRequests, tokenWindow, System.nanoTime()));
+    }
+
+    private double minTokenAvailable() {
+        long now = System.nanoTime();
+        double min = tokenRequests;
+        for (TokenBucket bucket : tokenBuckets.asMap().values()) {
+            min = Math.min(min, bucket.available(now));
+        }
+        return min;
+    }
+
+    /**
+     * Bucket key for a token; a hash code would let colliding tokens share a budget.
+     */
+    static String digest(String token) {
+        if (token == null) {
+            return "";
+        }
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
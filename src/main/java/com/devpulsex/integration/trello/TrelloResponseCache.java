@@ -0,0 +1,146 @@
+package com.devpulsex.integration.trello;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * In-memory cache of Trello read responses (boards, lists, cards and board snapshots),
+ * keyed by (token owner, Trello id).
+ *
+ * Every entry carries the Trello ids it depends on. Webhook callbacks invalidate exactly
+ * the entries tagged with the changed board, list or member, so entries backed by a
+ * registered webhook can live for {@code trello.cache.ttl-minutes}. Entries without one
+ * expire after the much shorter {@code trello.cache.unwatched-ttl-seconds}.
+ * Concurrent misses for the same key share a single Trello call. A load that overlaps an
+ * invalidation of one of its tags may have read Trello before the change, so its result is
+ * handed to the callers waiting for it but not kept.
+ */
+@Component
+public class TrelloResponseCache {
+
+    public enum Scope { BOARDS, LISTS, CARDS, BOARD }
+
+    private record Key(Scope scope, Long ownerId, String id) {}
+
+    /**
+     * A cached Trello response and the Trello ids whose changes invalidate it.
+     */
+    public record Entry(JsonNode value, Set<String> tags, boolean watched) {}
+
+    private record Loaded(Entry entry, long startedAt) {}
+
+    private final AsyncCache<Key, Loaded> cache;
+    // Ticks once per invalidation; loads remember the tick they started at
+    private final AtomicLong clock = new AtomicLong();
+    // Trello id -> tick of its latest invalidation, kept far longer than any load takes
+    private final Cache<String, Long> invalidatedAt;
+
+    public TrelloResponseCache(@Value("${trello.cache.ttl-minutes:30}") long ttlMinutes,
+                               @Value("${trello.cache.unwatched-ttl-seconds:60}") long unwatchedTtlSeconds,
+                               @Value("${trello.cache.max-entries:5000}") long maxEntries) {
+        long watchedTtlNanos = Duration.ofMinutes(ttlMinutes).toNanos();
+        long unwatchedTtlNanos = Duration.ofSeconds(unwatchedTtlSeconds).toNanos();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfter(new Expiry<Key, Loaded>() {
+                    @Override
+                    public long expireAfterCreate(Key key, Loaded loaded, long currentTime) {
+                        return loaded.entry().watched() ? watchedTtlNanos : unwatchedTtlNanos;
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(Key key, Loaded loaded, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, loaded, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(Key key, Loaded loaded, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .buildAsync();
+        this.invalidatedAt = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .maximumSize(maxEntries * 10)
+                .build();
+    }
+
+    /**
+     * Return the cached response for (scope, owner, id), or subscribe to {@code loader} once
+     * and cache its entry. Failed loads are not cached.
+     */
+    public Mono<JsonNode> get(Scope scope, Long ownerId, String id, Supplier<Mono<Entry>> loader) {
+        Key key = new Key(scope, ownerId, id);
+        return Mono.defer(() -> {
+            CompletableFuture<Loaded> future = cache.get(key, (k, executor) -> {
+                long startedAt = clock.get();
+                return loader.get().toFuture().thenApply(entry -> new Loaded(entry, startedAt));
+            });
+            return Mono.fromFuture(future, true)
+                    .doOnNext(loaded -> {
+                        if (invalidatedSince(loaded)) {
+                            cache.asMap().remove(key, future);
+                        }
+                    })
+                    .map(loaded -> loaded.entry().value());
+        });
+    }
+
+    /**
+     * Drop every entry that depends on any of the given Trello ids (boards, lists or members).
+     *
+     * @return number of entries removed
+     */
+    public int invalidate(Collection<String> trelloIds) {
+        if (trelloIds.isEmpty()) {
+            return 0;
+        }
+        // Recorded first, so loads still in flight (not visible below) are discarded when they finish
+        long tick = clock.incrementAndGet();
+        trelloIds.forEach(trelloId -> invalidatedAt.put(trelloId, tick));
+        int[] removed = {0};
+        cache.synchronous().asMap().values().removeIf(loaded -> {
+            boolean stale = loaded.entry().tags().stream().anyMatch(trelloIds::contains);
+            if (stale) {
+                removed[0]++;
+            }
+            return stale;
+        });
+        return removed[0];
+    }
+
+    /**
+     * Whether one of the entry's tags was invalidated after its load started.
+     */
+    private boolean invalidatedSince(Loaded loaded) {
+        for (String tag : loaded.entry().tags()) {
+            Long tick = invalidatedAt.getIfPresent(tag);
+            if (tick != null && tick > loaded.startedAt()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Drop every entry cached for one token owner, e.g. when they unlink Trello.
+     */
+    public void invalidateOwner(Long ownerId) {
+        cache.synchronous().asMap().keySet().removeIf(key -> key.ownerId().equals(ownerId));
+    }
+}
@@ -0,0 +1,124 @@
+package com.devpulsex.integration.trello;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Registers Trello webhooks for the boards and members whose responses we cache.
+ *
+ * Registration is asynchronous and best-effort: until Trello confirms a webhook for a
+ * model, {@link #ensureWatched} reports it as unwatched and callers cache with the short
+ * TTL. Trello rejects duplicate registrations for the same (callback, model, token),
+ * which is treated as already registered, so a restart costs one call per model.
+ *
+ * Trello deletes a webhook when its token is revoked, when the callback answers 410 or
+ * after repeated delivery failures, without telling us. So a model stops counting as
+ * watched when the owner of its token links another token or unlinks, and every
+ * {@code trello.webhook.verify-interval-ms} each watched model is registered again: if
+ * Trello had to create a new webhook, or the token no longer works, callbacks may have
+ * been missed and the cached responses tagged with the model are dropped.
+ * Webhooks are disabled when {@code trello.webhook.callback-url} is not set.
+ */
+@Component
+public class TrelloWebhookRegistry {
+
+    private static final Logger log = LoggerFactory.getLogger(TrelloWebhookRegistry.class);
+
+    private record Registration(Long ownerId, String token) {}
+
+    private final TrelloClient trelloClient;
+    private final TrelloResponseCache responseCache;
+    private final String callbackUrl;
+    // model id -> token its webhook was registered with
+    private final Map<String, Registration> watched = new ConcurrentHashMap<>();
+    private final Set<String> pending = ConcurrentHashMap.newKeySet();
+
+    public TrelloWebhookRegistry(TrelloClient trelloClient,
+                                 TrelloResponseCache responseCache,
+                                 @Value("${trello.webhook.callback-url:}") String callbackUrl) {
+        this.trelloClient = trelloClient;
+        this.responseCache = responseCache;
+        this.callbackUrl = callbackUrl;
+    }
+
+    public boolean isEnabled() {
+        return callbackUrl != null && !callbackUrl.isBlank();
+    }
+
+    public String getCallbackUrl() {
+        return callbackUrl;
+    }
+
+    /**
+     * Whether changes to {@code modelId} (a board or member id) are pushed to us.
+     * Starts a registration with {@code token} of user {@code ownerId} when they are not yet.
+     */
+    public boolean ensureWatched(String modelId, Long ownerId, String token) {
+        if (!isEnabled() || modelId == null || modelId.isBlank()) {
+            return false;
+        }
+        if (watched.containsKey(modelId)) {
+            return true;
+        }
+        if (pending.add(modelId)) {
+            trelloClient.createWebhook(modelId, callbackUrl, token)
+                    .doFinally(signal -> pending.remove(modelId))
+                    .subscribe(
+                            registered -> {
+                                watched.put(modelId, new Registration(ownerId, token));
+                                log.info("Trello webhook registered");
+                            },
+                            error -> log.warn("Trello webhook registration failed"));
+        }
+        return false;
+    }
+
+    /**
+     * Stop relying on webhooks registered with the token of {@code ownerId}, which Trello
+     * deletes when that token is revoked, and drop the cached responses they kept fresh.
+     * Call when the user links a new token or unlinks Trello.
+     */
+    public void forgetOwner(Long ownerId) {
+        Set<String> models = new HashSet<>();
+        watched.entrySet().removeIf(entry -> {
+            boolean owned = entry.getValue().ownerId().equals(ownerId);
+            if (owned) {
+                models.add(entry.getKey());
+            }
+            return owned;
+        });
+        if (!models.isEmpty()) {
+            responseCache.invalidate(models);
+            log.info("Trello webhooks of an unlinked token forgotten: {}", models.size());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${trello.webhook.verify-interval-ms:600000}")
+    public void verifyWatched() {
+        if (!isEnabled()) {
+            return;
+        }
+        watched.forEach((modelId, registration) -> trelloClient.createWebhook(modelId, callbackUrl, registration.token())
+                .subscribe(
+                        result -> {
+                            // A null node means Trello still has the webhook
+                            if (!result.isNull()) {
+                                responseCache.invalidate(Set.of(modelId));
+                                log.info("Trello webhook re-registered after Trello dropped it");
+                            }
+                        },
+                        error -> {
+                            watched.remove(modelId, registration);
+                            responseCache.invalidate(Set.of(modelId));
+                            log.warn("Trello webhook could not be verified; model no longer watched");
+                        }));
+    }
+}
@@ -0,0 +1,44 @@
+package com.devpulsex.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * A user's GitHub contribution counts for one calendar year.
+ *
+ * {@code dayCounts} packs 366 big-endian ints, one slot per day of year (index = dayOfYear - 1).
+ * Days up to {@code fetchedThrough} are final and never re-fetched; only later days
+ * (in practice today's slot) are refreshed.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "github_contribution_calendars",
+        uniqueConstraints = @UniqueConstraint(name = "uk_github_contribution_user_year", columnNames = {"user_id", "calendar_year"}))
+public class GithubContributionCalendar {
+    public static final int SLOTS = 366;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "calendar_year", nullable = false)
+    private int calendarYear;
+
+    @Column(name = "day_counts", nullable = false, length = SLOTS * Integer.BYTES)
+    private byte[] dayCounts;
+
+    // Last day whose count is final; null until the first fetch completes
+    private LocalDate fetchedThrough;
+
+    private Instant refreshedAt;
+}
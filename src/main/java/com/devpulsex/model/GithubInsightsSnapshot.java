@@ -0,0 +1,52 @@
+package com.devpulsex.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * One daily GitHub insights sample for a user, delta-encoded against the previous row.
+ *
+ * {@code metrics} packs stars, pull requests, followers and weekly commits (commits in
+ * the 7 days before the snapshot) as zigzag varints: absolute values on keyframe rows,
+ * the change since the user's previous snapshot on every other row, so a typical delta
+ * row needs one byte per metric. Readers start from the nearest keyframe at or before
+ * the requested range and accumulate forward. A new keyframe starts whenever the user's
+ * linked GitHub account ({@code githubId}) changes.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "github_insights_snapshots",
+        uniqueConstraints = @UniqueConstraint(name = "uk_github_snapshot_user_date", columnNames = {"user_id", "snapshot_date"}),
+        indexes = @Index(name = "idx_github_snapshot_user_keyframe", columnList = "user_id, keyframe, snapshot_date"))
+public class GithubInsightsSnapshot {
+    public static final int METRICS = 4;
+    // A zigzag varint of an int takes at most 5 bytes
+    public static final int METRICS_MAX_BYTES = METRICS * 5;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // Plain id rather than a relation so snapshots never block user deletion
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    // GitHub account the sample was taken from
+    @Column(name = "github_id")
+    private Long githubId;
+
+    @Column(name = "snapshot_date", nullable = false)
+    private LocalDate snapshotDate;
+
+    @Column(nullable = false)
+    private boolean keyframe;
+
+    @Column(name = "metrics", nullable = false, length = METRICS_MAX_BYTES)
+    private byte[] metrics;
+}
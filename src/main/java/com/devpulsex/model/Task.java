@@ -11,7 +11,8 @@ import java.time.LocalDate;
 @AllArgsConstructor
 @Builder
 @Entity
-@Table(name = "tasks")
+@Table(name = "tasks",
+        uniqueConstraints = @UniqueConstraint(name = "uk_tasks_project_trello_card", columnNames = {"project_id", "trello_card_id"}))
 public class Task {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -34,4 +35,8 @@ public class Task {
     private TaskStatus status;
 
     private LocalDate dueDate;
+
+    // Source Trello card for tasks created by Trello sync; null for tasks created in DevPulseX
+    @Column(name = "trello_card_id", length = 64)
+    private String trelloCardId;
 }
@@ -0,0 +1,43 @@
+package com.devpulsex.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * Outcome of one scheduled Trello auto-sync run over every Trello-linked project. A run
+ * lasts about one auto-sync interval, since project syncs are spread across it.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "trello_auto_sync_runs",
+        indexes = @Index(name = "idx_trello_auto_sync_runs_started", columnList = "started_at"))
+public class TrelloAutoSyncRun {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "started_at", nullable = false)
+    private Instant startedAt;
+
+    private Instant finishedAt;
+    private long durationMs;
+
+    // Trello-linked projects seen by the run, and what happened to each
+    private int projects;
+    private int synced;
+    private int skippedInactive;
+    private int skippedBusy;
+    private int skippedNoOwner;
+    private int failed;
+
+    // Totals over the synced projects' jobs
+    private int cardsProcessed;
+    private int created;
+    private int updated;
+}
@@ -0,0 +1,32 @@
+package com.devpulsex.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * Per-project Trello sync watermark: every card change on {@code boardId} before
+ * {@code watermark} is already reflected in the project's tasks. Ignored once the
+ * project is linked to a different board.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "trello_project_sync_state")
+public class TrelloProjectSyncState {
+    @Id
+    @Column(name = "project_id")
+    private Long projectId;
+
+    @Column(nullable = false)
+    private String boardId;
+
+    @Column(nullable = false)
+    private Instant watermark;
+
+    private Instant updatedAt;
+}
@@ -0,0 +1,39 @@
+package com.devpulsex.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * One list-to-status mapping rule of a project's Trello sync. Rules are tried by
+ * {@code position} within their type; see {@code ListStatusMatcher} for precedence.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "trello_status_rules",
+        indexes = @Index(name = "idx_trello_status_rules_project", columnList = "project_id, position"))
+public class TrelloStatusRule {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    @Column(nullable = false)
+    private int position;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 8)
+    private TrelloStatusRuleType type;
+
+    @Column(nullable = false, length = 255)
+    private String pattern;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private TaskStatus status;
+}
@@ -0,0 +1,12 @@
+package com.devpulsex.model;
+
+public enum TrelloStatusRuleType {
+    // Trello list id
+    LIST_ID,
+    // Whole list name, case-insensitive
+    EXACT,
+    // Start of the list name, case-insensitive
+    PREFIX,
+    // Java regex found anywhere in the list name, case-insensitive
+    REGEX
+}
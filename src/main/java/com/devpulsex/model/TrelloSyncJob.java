@@ -0,0 +1,66 @@
+package com.devpulsex.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * A background Trello-to-task sync of one project's board.
+ *
+ * {@code completedListIds} is the per-list checkpoint: a list is added in the same
+ * transaction that writes its tasks, so a failed, cancelled or interrupted job resumes
+ * with the remaining lists instead of starting over.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Entity
+@Table(name = "trello_sync_jobs",
+        indexes = @Index(name = "idx_trello_sync_jobs_project_created", columnList = "project_id, created_at"))
+public class TrelloSyncJob {
+    @Id
+    @Column(length = 36)
+    private String id;
+
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    // Email of the user whose Trello token the job uses
+    @Column(nullable = false)
+    private String requestedBy;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private TrelloSyncJobStatus status;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 8)
+    private TrelloSyncMode mode;
+
+    private int listsTotal;
+    private int listsDone;
+    private int cardsProcessed;
+    private int created;
+    private int updated;
+    private int ignored;
+
+    @ElementCollection(fetch = FetchType.EAGER)
+    @CollectionTable(name = "trello_sync_job_lists", joinColumns = @JoinColumn(name = "job_id"))
+    @Column(name = "list_id", length = 64, nullable = false)
+    @Builder.Default
+    private Set<String> completedListIds = new HashSet<>();
+
+    @Column(length = 500)
+    private String error;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    private Instant startedAt;
+    private Instant finishedAt;
+}
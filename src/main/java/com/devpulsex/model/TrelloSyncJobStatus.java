@@ -0,0 +1,9 @@
+package com.devpulsex.model;
+
+public enum TrelloSyncJobStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED,
+    CANCELLED
+}
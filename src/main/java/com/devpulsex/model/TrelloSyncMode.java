@@ -0,0 +1,8 @@
+package com.devpulsex.model;
+
+public enum TrelloSyncMode {
+    // Every open card on the board
+    FULL,
+    // Only cards with activity since the project's sync watermark
+    DELTA
+}
@@ -1,5 +1,6 @@
 package com.devpulsex.model;
 
+import java.time.Instant;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -91,4 +92,8 @@ public class User {
     // Note: In production, encrypt or store securely (e.g., token table + KMS)
     @Column(name = "trello_access_token", length = 2048)
     private String trelloAccessToken;
+
+    // JWTs issued before this instant are rejected ("revoke all sessions")
+    @Column(name = "sessions_revoked_at")
+    private Instant sessionsRevokedAt;
 }
@@ -0,0 +1,14 @@
+package com.devpulsex.repository;
+
+import com.devpulsex.model.GithubContributionCalendar;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+public interface GithubContributionCalendarRepository extends JpaRepository<GithubContributionCalendar, Long> {
+    Optional<GithubContributionCalendar> findByUserIdAndCalendarYear(Long userId, int calendarYear);
+
+    @Transactional
+    long deleteByUserId(Long userId);
+}
@@ -0,0 +1,20 @@
+package com.devpulsex.repository;
+
+import com.devpulsex.model.GithubInsightsSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+public interface GithubInsightsSnapshotRepository extends JpaRepository<GithubInsightsSnapshot, Long> {
+    boolean existsByUserIdAndSnapshotDate(Long userId, LocalDate snapshotDate);
+
+    Optional<GithubInsightsSnapshot> findFirstByUserIdAndKeyframeTrueAndSnapshotDateLessThanEqualOrderBySnapshotDateDesc(Long userId, LocalDate date);
+
+    List<GithubInsightsSnapshot> findByUserIdAndSnapshotDateBetweenOrderBySnapshotDateAsc(Long userId, LocalDate from, LocalDate to);
+
+    @Transactional
+    long deleteByUserId(Long userId);
+}
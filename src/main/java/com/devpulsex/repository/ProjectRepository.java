@@ -3,8 +3,14 @@ package com.devpulsex.repository;
 import com.devpulsex.model.Project;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.List;
+
 public interface ProjectRepository extends JpaRepository<Project, Long> {
     boolean existsByName(String name);
 
     boolean existsByIdAndTeam_Members_Id(Long projectId, Long memberId);
+
+    List<Project> findByTrelloBoardIdIsNotNullOrderByNameAsc();
+
+    List<Project> findByTeam_Members_IdAndTrelloBoardIdIsNotNullOrderByNameAsc(Long memberId);
 }
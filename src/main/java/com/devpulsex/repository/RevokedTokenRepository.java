@@ -0,0 +1,15 @@
+package com.devpulsex.repository;
+
+import com.devpulsex.model.RevokedToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, String> {
+    List<RevokedToken> findByExpiresAtAfter(Instant now);
+
+    @Transactional
+    long deleteByExpiresAtBefore(Instant now);
+}
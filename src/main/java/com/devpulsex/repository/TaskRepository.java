@@ -4,11 +4,14 @@ import com.devpulsex.model.Task;
 import com.devpulsex.model.TaskStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface TaskRepository extends JpaRepository<Task, Long> {
     List<Task> findByStatus(TaskStatus status);
     List<Task> findByProject_Id(Long projectId);
+    List<Task> findByProject_IdAndTrelloCardIdIn(Long projectId, Collection<String> trelloCardIds);
+    List<Task> findByProject_IdAndTrelloCardIdIsNullAndTitleInOrderByIdAsc(Long projectId, Collection<String> titles);
 
     long countByProject_Id(Long projectId);
     long countByAssignedUser_Id(Long userId);
@@ -0,0 +1,15 @@
+package com.devpulsex.repository;
+
+import com.devpulsex.model.TrelloAutoSyncRun;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface TrelloAutoSyncRunRepository extends JpaRepository<TrelloAutoSyncRun, Long> {
+    List<TrelloAutoSyncRun> findTop20ByOrderByStartedAtDesc();
+
+    @Transactional
+    long deleteByStartedAtBefore(Instant cutoff);
+}
@@ -0,0 +1,7 @@
+package com.devpulsex.repository;
+
+import com.devpulsex.model.TrelloProjectSyncState;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface TrelloProjectSyncStateRepository extends JpaRepository<TrelloProjectSyncState, Long> {
+}
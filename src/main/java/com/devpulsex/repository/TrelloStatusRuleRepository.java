@@ -0,0 +1,12 @@
+package com.devpulsex.repository;
+
+import com.devpulsex.model.TrelloStatusRule;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface TrelloStatusRuleRepository extends JpaRepository<TrelloStatusRule, Long> {
+    List<TrelloStatusRule> findByProjectIdOrderByPositionAsc(Long projectId);
+
+    void deleteByProjectId(Long projectId);
+}
@@ -0,0 +1,13 @@
+package com.devpulsex.repository;
+
+import com.devpulsex.model.TrelloSyncJob;
+import com.devpulsex.model.TrelloSyncJobStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Collection;
+import java.util.Optional;
+
+public interface TrelloSyncJobRepository extends JpaRepository<TrelloSyncJob, String> {
+    Optional<TrelloSyncJob> findFirstByProjectIdAndStatusInOrderByCreatedAtDesc(Long projectId, Collection<TrelloSyncJobStatus> statuses);
+    Optional<TrelloSyncJob> findFirstByProjectIdAndStatusOrderByFinishedAtDesc(Long projectId, TrelloSyncJobStatus status);
+}
@@ -1,5 +1,7 @@
 package com.devpulsex.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -12,8 +14,10 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     Optional<User> findByGithubId(Long githubId);
     Optional<User> findByGithubUsername(String githubUsername);
+    List<User> findByGithubAccessTokenIsNotNull();
     
     Optional<User> findByGoogleId(String googleId);
     
     Optional<User> findByTrelloId(String trelloId);
+    List<User> findByTrelloIdIn(Collection<String> trelloIds);
 }
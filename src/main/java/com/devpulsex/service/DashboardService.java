@@ -1,5 +1,6 @@
 package com.devpulsex.service;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
@@ -9,12 +10,19 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeoutException;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import com.devpulsex.dto.dashboard.DashboardDto;
 import com.devpulsex.dto.dashboard.ProjectMetricsDto;
 import com.devpulsex.dto.dashboard.UserMetricsDto;
+import com.devpulsex.dto.trello.BoardView;
+import com.devpulsex.dto.trello.StreamingBoardView;
+import com.devpulsex.dto.trello.TrelloProjectBoardsResponse;
 import com.devpulsex.exception.ResourceNotFoundException;
 import com.devpulsex.model.Commit;
 import com.devpulsex.model.Deployment;
@@ -32,9 +40,14 @@ import com.devpulsex.repository.TaskRepository;
 import com.devpulsex.repository.TeamRepository;
 import com.devpulsex.repository.UserRepository;
 
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
 @Service
 public class DashboardService {
 
+    private static final Logger log = LoggerFactory.getLogger(DashboardService.class);
+
     private final ProjectRepository projectRepository;
     private final UserRepository userRepository;
     private final TaskRepository taskRepository;
@@ -43,6 +56,9 @@ public class DashboardService {
     private final DeploymentRepository deploymentRepository;
     private final TeamRepository teamRepository;
     private final TrelloService trelloService;
+    private final AuthorizationScopeService authorizationScopeService;
+    private final Duration trelloBoardTimeout;
+    private final int trelloBoardConcurrency;
 
     public DashboardService(ProjectRepository projectRepository,
                              UserRepository userRepository,
@@ -51,7 +67,10 @@ public class DashboardService {
                              IssueRepository issueRepository,
                              DeploymentRepository deploymentRepository,
                              TeamRepository teamRepository,
-                             TrelloService trelloService) {
+                             TrelloService trelloService,
+                             AuthorizationScopeService authorizationScopeService,
+                             @Value("${trello.dashboard.board-timeout-ms:8000}") long trelloBoardTimeoutMs,
+                             @Value("${trello.dashboard.concurrency:6}") int trelloBoardConcurrency) {
         this.projectRepository = projectRepository;
         this.userRepository = userRepository;
         this.taskRepository = taskRepository;
@@ -60,6 +79,9 @@ public class DashboardService {
         this.deploymentRepository = deploymentRepository;
         this.teamRepository = teamRepository;
         this.trelloService = trelloService;
+        this.authorizationScopeService = authorizationScopeService;
+        this.trelloBoardTimeout = Duration.ofMillis(trelloBoardTimeoutMs);
+        this.trelloBoardConcurrency = trelloBoardConcurrency;
     }
 
     @SuppressWarnings("null")
@@ -251,7 +273,7 @@ public class DashboardService {
     }
 
     // Trello aggregation for a board id. Returns { lists: [ { listId, listName, cards: [...] } ] }
-    public Map<String, Object> getTrelloDashboardForBoard(String boardId, org.springframework.security.core.Authentication authentication) {
+    public Mono<BoardView> getTrelloDashboardForBoard(String boardId, org.springframework.security.core.Authentication authentication) {
         if (boardId == null || boardId.isBlank()) {
             throw new IllegalArgumentException("boardId must not be blank");
         }
@@ -260,13 +282,61 @@ public class DashboardService {
 
     // Convenience by project id (pull boardId from project)
     @SuppressWarnings("null")
-    public Map<String, Object> getTrelloDashboardForProject(Long projectId, org.springframework.security.core.Authentication authentication) {
+    public Mono<StreamingBoardView> getTrelloDashboardForProject(Long projectId, org.springframework.security.core.Authentication authentication) {
         Project project = projectRepository.findById(projectId)
                 .orElseThrow(() -> new ResourceNotFoundException("Project not found: " + projectId));
         String boardId = project.getTrelloBoardId();
         if (boardId == null || boardId.isBlank()) {
             throw new IllegalArgumentException("Project does not have a trelloBoardId configured");
         }
-        return trelloService.buildBoardAggregate(boardId, authentication);
+        return trelloService.streamBoardAggregate(boardId, authentication);
+    }
+
+    /**
+     * Board aggregates of every Trello-linked project the current user can access. Boards are
+     * fetched concurrently (each still waits for the per-token rate limiter) and one that fails
+     * or exceeds {@code trello.dashboard.board-timeout-ms} is reported without failing the rest.
+     */
+    public Mono<TrelloProjectBoardsResponse> getTrelloDashboardForAllProjects(org.springframework.security.core.Authentication authentication) {
+        User currentUser = authorizationScopeService.getCurrentUser();
+        List<Project> projects = authorizationScopeService.isAdmin(currentUser)
+                ? projectRepository.findByTrelloBoardIdIsNotNullOrderByNameAsc()
+                : projectRepository.findByTeam_Members_IdAndTrelloBoardIdIsNotNullOrderByNameAsc(currentUser.getId());
+
+        return Flux.fromIterable(projects)
+                .filter(p -> !p.getTrelloBoardId().isBlank())
+                .flatMapSequential(p -> Mono.defer(() -> trelloService.buildBoardAggregate(p.getTrelloBoardId(), authentication))
+                        .timeout(trelloBoardTimeout)
+                        .map(board -> projectBoard(p, TrelloProjectBoardsResponse.Status.OK, null, board))
+                        .onErrorResume(TimeoutException.class,
+                                e -> Mono.just(projectBoard(p, TrelloProjectBoardsResponse.Status.TIMEOUT, "Trello did not respond in time", null)))
+                        .onErrorResume(e -> {
+                            log.warn("Trello board fetch failed for dashboard");
+                            return Mono.just(projectBoard(p, TrelloProjectBoardsResponse.Status.FAILED, "Trello board could not be loaded", null));
+                        }), trelloBoardConcurrency)
+                .collectList()
+                .map(boards -> {
+                    int succeeded = (int) boards.stream()
+                            .filter(b -> b.getStatus() == TrelloProjectBoardsResponse.Status.OK)
+                            .count();
+                    return TrelloProjectBoardsResponse.builder()
+                            .total(boards.size())
+                            .succeeded(succeeded)
+                            .failed(boards.size() - succeeded)
+                            .projects(boards)
+                            .build();
+                });
+    }
+
+    private static TrelloProjectBoardsResponse.ProjectBoard projectBoard(Project project, TrelloProjectBoardsResponse.Status status,
+                                                                         String error, BoardView board) {
+        return TrelloProjectBoardsResponse.ProjectBoard.builder()
+                .projectId(project.getId())
+                .projectName(project.getName())
+                .boardId(project.getTrelloBoardId())
+                .status(status)
+                .error(error)
+                .board(board)
+                .build();
     }
 }
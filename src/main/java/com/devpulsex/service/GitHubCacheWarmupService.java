@@ -0,0 +1,220 @@
+package com.devpulsex.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.devpulsex.integration.github.GitHubRateLimitTracker;
+import com.devpulsex.integration.oauth.OAuthTokenEncryptor;
+import com.devpulsex.model.User;
+import com.devpulsex.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Keeps GitHub caches warm for recently active users.
+ *
+ * JwtAuthFilter records every successful authentication here. On each run the
+ * scheduler refreshes the githubInsights and githubRepositories entries of active,
+ * GitHub-linked users that are missing or close to expiry, so the dashboard is
+ * served from cache instead of paying the cold fetch. Each token may only spend a
+ * configurable share of its GitHub rate-limit budget on warm-up.
+ */
+@Service
+public class GitHubCacheWarmupService {
+
+    private static final Logger log = LoggerFactory.getLogger(GitHubCacheWarmupService.class);
+
+    // GitHub calls made by one insights refresh (profile, repos, events and 5 searches) and one repositories refresh
+    private static final int INSIGHTS_REFRESH_COST = 8;
+    private static final int REPOSITORIES_REFRESH_COST = 1;
+
+    private final GitHubService gitHubService;
+    private final UserRepository userRepository;
+    private final OAuthTokenEncryptor tokenEncryptor;
+    private final GitHubRateLimitTracker rateLimitTracker;
+    private final CacheManager cacheManager;
+
+    private final boolean enabled;
+    private final Duration activeWindow;
+    private final Duration refreshAhead;
+    private final double budgetShare;
+    private final int maxTrackedUsers;
+
+    // email -> last successful authentication (epoch millis)
+    private final Map<String, Long> lastSeen = new ConcurrentHashMap<>();
+    // token hash -> warm-up calls spent in the token's current rate-limit window
+    private final com.github.benmanes.caffeine.cache.Cache<Integer, WarmupSpend> spendByToken = Caffeine.newBuilder()
+            .expireAfterAccess(Duration.ofHours(2))
+            .maximumSize(10_000)
+            .build();
+
+    private final Counter refreshedCounter;
+    private final Counter budgetSkippedCounter;
+
+    public GitHubCacheWarmupService(GitHubService gitHubService,
+                                    UserRepository userRepository,
+                                    OAuthTokenEncryptor tokenEncryptor,
+                                    GitHubRateLimitTracker rateLimitTracker,
+                                    CacheManager cacheManager,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${github.warmup.enabled:true}") boolean enabled,
+                                    @Value("${github.warmup.active-window-minutes:30}") long activeWindowMinutes,
+                                    @Value("${github.warmup.refresh-ahead-seconds:90}") long refreshAheadSeconds,
+                                    @Value("${github.warmup.rate-limit-share:0.1}") double budgetShare,
+                                    @Value("${github.warmup.max-tracked-users:1000}") int maxTrackedUsers) {
+        this.gitHubService = gitHubService;
+        this.userRepository = userRepository;
+        this.tokenEncryptor = tokenEncryptor;
+        this.rateLimitTracker = rateLimitTracker;
+        this.cacheManager = cacheManager;
+        this.enabled = enabled;
+        this.activeWindow = Duration.ofMinutes(activeWindowMinutes);
+        this.refreshAhead = Duration.ofSeconds(refreshAheadSeconds);
+        this.budgetShare = budgetShare;
+        this.maxTrackedUsers = maxTrackedUsers;
+        this.refreshedCounter = Counter.builder("github.warmup.refreshed")
+                .description("Users whose GitHub caches were pre-refreshed")
+                .register(meterRegistry);
+        this.budgetSkippedCounter = Counter.builder("github.warmup.skipped")
+                .tag("reason", "rate-limit-budget")
+                .description("Warm-ups skipped to stay within the token's rate-limit share")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Record a successful authentication. Cheap enough to call on every request.
+     */
+    public void recordActivity(String email) {
+        if (!enabled || email == null) {
+            return;
+        }
+        if (lastSeen.size() >= maxTrackedUsers && !lastSeen.containsKey(email)) {
+            return;
+        }
+        lastSeen.put(email, System.currentTimeMillis());
+    }
+
+    @Scheduled(fixedDelayString = "${github.warmup.interval-ms:60000}",
+               initialDelayString = "${github.warmup.interval-ms:60000}")
+    public void warmUp() {
+        if (!enabled) {
+            return;
+        }
+        long cutoff = System.currentTimeMillis() - activeWindow.toMillis();
+        lastSeen.values().removeIf(seenAt -> seenAt < cutoff);
+
+        int refreshed = 0;
+        int skipped = 0;
+        for (String email : lastSeen.keySet()) {
+            User user = userRepository.findByEmail(email).orElse(null);
+            if (user == null || user.getGithubUsername() == null || user.getGithubUsername().isBlank()) {
+                continue;
+            }
+            String token = tokenEncryptor.decryptLenient(user.getGithubAccessToken());
+            if (token == null || token.isBlank()) {
+                continue;
+            }
+
+            boolean insightsDue = isDue("githubInsights", user.getGithubUsername());
+            boolean repositoriesDue = isDue("githubRepositories", token.hashCode());
+            if (!insightsDue && !repositoriesDue) {
+                continue;
+            }
+
+            int cost = (insightsDue ? INSIGHTS_REFRESH_COST : 0) + (repositoriesDue ? REPOSITORIES_REFRESH_COST : 0);
+            if (!tryReserveBudget(token, cost)) {
+                skipped++;
+                continue;
+            }
+
+            try {
+                if (insightsDue) {
+                    gitHubService.refreshInsights(user.getGithubUsername(), token);
+                }
+                if (repositoriesDue) {
+                    gitHubService.refreshRepositories(token);
+                }
+                refreshed++;
+            } catch (Exception e) {
+                log.warn("GitHub cache warm-up failed");
+            }
+        }
+
+        refreshedCounter.increment(refreshed);
+        budgetSkippedCounter.increment(skipped);
+        log.info("GitHub cache warm-up finished: activeUsers={} refreshed={} skippedForBudget={} insightsHitRate={} repositoriesHitRate={}",
+                lastSeen.size(), refreshed, skipped, hitRate("githubInsights"), hitRate("githubRepositories"));
+    }
+
+    /**
+     * An entry is due when it is missing (cold for an active user) or will expire
+     * within the refresh-ahead window.
+     */
+    private boolean isDue(String cacheName, Object key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (!(cache instanceof CaffeineCache caffeineCache)) {
+            return false;
+        }
+        return caffeineCache.getNativeCache().policy().expireAfterWrite()
+                .map(expiration -> {
+                    OptionalLong age = expiration.ageOf(key, TimeUnit.MILLISECONDS);
+                    if (age.isEmpty()) {
+                        return true;
+                    }
+                    long ttl = expiration.getExpiresAfter(TimeUnit.MILLISECONDS);
+                    return age.getAsLong() >= ttl - refreshAhead.toMillis();
+                })
+                .orElse(false);
+    }
+
+    private boolean tryReserveBudget(String token, int cost) {
+        GitHubRateLimitTracker.Snapshot snapshot = rateLimitTracker.snapshot(token).orElse(null);
+        if (snapshot != null && snapshot.remaining() < cost) {
+            return false;
+        }
+        int limit = snapshot != null ? snapshot.limit() : GitHubRateLimitTracker.DEFAULT_LIMIT;
+        // Without headers yet, assume GitHub's hourly window
+        long window = snapshot != null ? snapshot.resetEpochSeconds() : Instant.now().getEpochSecond() / 3600;
+        int allowance = (int) Math.floor(limit * budgetShare);
+
+        WarmupSpend spend = spendByToken.asMap().compute(token.hashCode(),
+                (key, current) -> current == null || current.window != window ? new WarmupSpend(window) : current);
+        if (spend.spent + cost > allowance) {
+            return false;
+        }
+        spend.spent += cost;
+        return true;
+    }
+
+    private String hitRate(String cacheName) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (!(cache instanceof CaffeineCache caffeineCache)) {
+            return "n/a";
+        }
+        return String.format("%.2f", caffeineCache.getNativeCache().stats().hitRate());
+    }
+
+    private static final class WarmupSpend {
+        private final long window;
+        private int spent;
+
+        private WarmupSpend(long window) {
+            this.window = window;
+        }
+    }
+}
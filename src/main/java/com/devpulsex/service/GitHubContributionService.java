@@ -0,0 +1,191 @@
+package com.devpulsex.service;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import com.devpulsex.dto.github.GithubContributionsResponse;
+import com.devpulsex.model.GithubContributionCalendar;
+import com.devpulsex.repository.GithubContributionCalendarRepository;
+
+/**
+ * GitHub contribution calendar backed by per-user, per-year 366-slot arrays.
+ *
+ * A year is fetched from GitHub once; afterwards only days after {@code fetchedThrough}
+ * are re-fetched, which for the current year means just today's slot (at most once per
+ * {@code github.contributions.today-ttl-seconds}). Past years are immutable once complete.
+ * Calendars belong to the user's linked GitHub account and are dropped when the user links
+ * a different account or is deleted (see {@link #forgetUser}). All dates are UTC.
+ */
+@Service
+public class GitHubContributionService {
+
+    private static final Logger log = LoggerFactory.getLogger(GitHubContributionService.class);
+
+    private static final int ROLLING_DAYS = 365;
+
+    private final GithubContributionCalendarRepository calendarRepository;
+    private final GitHubService gitHubService;
+    private final Duration todayTtl;
+
+    public GitHubContributionService(GithubContributionCalendarRepository calendarRepository,
+                                     GitHubService gitHubService,
+                                     @Value("${github.contributions.today-ttl-seconds:600}") long todayTtlSeconds) {
+        this.calendarRepository = calendarRepository;
+        this.gitHubService = gitHubService;
+        this.todayTtl = Duration.ofSeconds(todayTtlSeconds);
+    }
+
+    /**
+     * Contributions for a full calendar year.
+     */
+    public GithubContributionsResponse getYear(Long userId, String githubUsername, String accessToken, int year) {
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        if (year > today.getYear()) {
+            throw new IllegalArgumentException("year must not be in the future");
+        }
+        int[] counts = loadYear(userId, githubUsername, accessToken, year, today);
+        LocalDate start = LocalDate.of(year, 1, 1);
+        int length = start.lengthOfYear();
+        return toResponse(githubUsername, start, counts, 0, length);
+    }
+
+    /**
+     * Contributions for the last 365 days ending today, stitched from the previous and current year.
+     */
+    public GithubContributionsResponse getRollingYear(Long userId, String githubUsername, String accessToken) {
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        LocalDate start = today.minusDays(ROLLING_DAYS - 1L);
+        int[] previous = start.getYear() < today.getYear()
+                ? loadYear(userId, githubUsername, accessToken, start.getYear(), today)
+                : null;
+        int[] current = loadYear(userId, githubUsername, accessToken, today.getYear(), today);
+        return toResponse(githubUsername, start, stitchRollingYear(start, previous, current), 0, ROLLING_DAYS);
+    }
+
+    /**
+     * The {@value #ROLLING_DAYS} days from {@code start}: the tail of {@code previous} (the slots of
+     * {@code start}'s year, null when the window lies in one year) followed by the head of {@code current}.
+     */
+    static int[] stitchRollingYear(LocalDate start, int[] previous, int[] current) {
+        int[] days = new int[ROLLING_DAYS];
+        int offset = 0;
+        if (previous != null) {
+            int fromSlot = start.getDayOfYear() - 1;
+            int count = start.lengthOfYear() - fromSlot;
+            System.arraycopy(previous, fromSlot, days, 0, count);
+            offset = count;
+        }
+        int fromSlot = offset == 0 ? start.getDayOfYear() - 1 : 0;
+        System.arraycopy(current, fromSlot, days, offset, ROLLING_DAYS - offset);
+        return days;
+    }
+
+    /**
+     * Drop the user's stored calendars, e.g. because they now belong to another GitHub account.
+     */
+    public void forgetUser(Long userId) {
+        long deleted = calendarRepository.deleteByUserId(userId);
+        log.info("GitHub contribution calendars removed: {}", deleted);
+    }
+
+    private int[] loadYear(Long userId, String githubUsername, String accessToken, int year, LocalDate today) {
+        LocalDate yearEnd = LocalDate.of(year, 12, 31);
+        GithubContributionCalendar calendar = calendarRepository.findByUserIdAndCalendarYear(userId, year)
+                .orElse(null);
+
+        int[] counts = calendar == null ? new int[GithubContributionCalendar.SLOTS] : unpack(calendar.getDayCounts());
+        LocalDate fetchedThrough = calendar == null ? null : calendar.getFetchedThrough();
+        if (fetchedThrough != null && !fetchedThrough.isBefore(yearEnd)) {
+            // Completed past year: immutable
+            return counts;
+        }
+        boolean onlyTodayPending = fetchedThrough != null && !fetchedThrough.isBefore(today.minusDays(1));
+        if (onlyTodayPending && calendar.getRefreshedAt() != null
+                && calendar.getRefreshedAt().plus(todayTtl).isAfter(Instant.now())) {
+            return counts;
+        }
+
+        LocalDate fetchFrom = fetchedThrough == null ? LocalDate.of(year, 1, 1) : fetchedThrough.plusDays(1);
+        LocalDate fetchTo = yearEnd.isBefore(today) ? yearEnd : today;
+        OffsetDateTime from = fetchFrom.atStartOfDay().atOffset(ZoneOffset.UTC);
+        OffsetDateTime to = fetchTo.plusDays(1).atStartOfDay().atOffset(ZoneOffset.UTC).minus(1, ChronoUnit.SECONDS);
+
+        Map<LocalDate, Integer> fetched = gitHubService.fetchContributionDays(githubUsername, accessToken, from, to);
+        if (fetched == null) {
+            // Serve what we have; the missing range is retried on the next request
+            return counts;
+        }
+        fetched.forEach((date, count) -> {
+            if (date.getYear() == year && !date.isBefore(fetchFrom)) {
+                counts[date.getDayOfYear() - 1] = count;
+            }
+        });
+
+        if (calendar == null) {
+            calendar = GithubContributionCalendar.builder()
+                    .userId(userId)
+                    .calendarYear(year)
+                    .build();
+        }
+        calendar.setDayCounts(pack(counts));
+        // Today's count can still change; everything before it is final
+        calendar.setFetchedThrough(fetchTo.equals(today) ? today.minusDays(1) : fetchTo);
+        calendar.setRefreshedAt(Instant.now());
+        try {
+            calendarRepository.save(calendar);
+            log.info("GitHub contribution calendar updated");
+        } catch (DataIntegrityViolationException e) {
+            // A concurrent first request stored this year meanwhile; it holds the same days
+            log.info("GitHub contribution calendar already stored by a concurrent request");
+        }
+        return counts;
+    }
+
+    private GithubContributionsResponse toResponse(String githubUsername, LocalDate start, int[] counts, int from, int length) {
+        int[] days = new int[length];
+        System.arraycopy(counts, from, days, 0, length);
+        int total = 0;
+        for (int day : days) {
+            total += day;
+        }
+        return GithubContributionsResponse.builder()
+                .username(githubUsername)
+                .startDate(start)
+                .endDate(start.plusDays(length - 1L))
+                .totalContributions(total)
+                .days(days)
+                .build();
+    }
+
+    static byte[] pack(int[] counts) {
+        ByteBuffer buffer = ByteBuffer.allocate(GithubContributionCalendar.SLOTS * Integer.BYTES);
+        for (int i = 0; i < GithubContributionCalendar.SLOTS; i++) {
+            buffer.putInt(i < counts.length ? counts[i] : 0);
+        }
+        return buffer.array();
+    }
+
+    static int[] unpack(byte[] packed) {
+        int[] counts = new int[GithubContributionCalendar.SLOTS];
+        if (packed == null) {
+            return counts;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(packed);
+        for (int i = 0; i < counts.length && buffer.remaining() >= Integer.BYTES; i++) {
+            counts[i] = buffer.getInt();
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,254 @@
+package com.devpulsex.service;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.devpulsex.dto.github.GithubInsightsHistoryResponse;
+import com.devpulsex.dto.github.GithubInsightsResponse;
+import com.devpulsex.integration.oauth.OAuthTokenEncryptor;
+import com.devpulsex.model.GithubInsightsSnapshot;
+import com.devpulsex.model.User;
+import com.devpulsex.repository.GithubInsightsSnapshotRepository;
+import com.devpulsex.repository.UserRepository;
+
+/**
+ * Daily GitHub insights snapshots and the trend lines served from them.
+ *
+ * Snapshots are stored as packed, delta-encoded metrics (see {@link GithubInsightsSnapshot})
+ * with a keyframe every {@value #KEYFRAME_INTERVAL} rows and whenever the user links another
+ * GitHub account, so a range read touches at most that many rows before the requested window
+ * and a history never mixes two accounts' numbers. Only complete insights are recorded: a
+ * day whose fetch failed or was partial is left empty rather than stored as zeros. History
+ * reads never call GitHub. A user's snapshots are deleted with the user.
+ */
+@Service
+public class GitHubInsightsHistoryService {
+
+    private static final Logger log = LoggerFactory.getLogger(GitHubInsightsHistoryService.class);
+
+    static final int KEYFRAME_INTERVAL = 30;
+
+    private final GithubInsightsSnapshotRepository snapshotRepository;
+    private final UserRepository userRepository;
+    private final GitHubService gitHubService;
+    private final OAuthTokenEncryptor tokenEncryptor;
+    private final boolean enabled;
+
+    public GitHubInsightsHistoryService(GithubInsightsSnapshotRepository snapshotRepository,
+                                        UserRepository userRepository,
+                                        GitHubService gitHubService,
+                                        OAuthTokenEncryptor tokenEncryptor,
+                                        @Value("${github.history.enabled:true}") boolean enabled) {
+        this.snapshotRepository = snapshotRepository;
+        this.userRepository = userRepository;
+        this.gitHubService = gitHubService;
+        this.tokenEncryptor = tokenEncryptor;
+        this.enabled = enabled;
+    }
+
+    /**
+     * Record today's snapshot for every GitHub-linked user. Users already snapshotted
+     * today are skipped, so the job is safe to re-run; users whose insights could not be
+     * fetched completely are retried by the next run.
+     */
+    @Scheduled(cron = "${github.history.snapshot-cron:0 15 0 * * *}", zone = "UTC")
+    public void snapshotLinkedUsers() {
+        if (!enabled) {
+            return;
+        }
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        int recorded = 0;
+        int incomplete = 0;
+        for (User user : userRepository.findByGithubAccessTokenIsNotNull()) {
+            if (user.getGithubUsername() == null || user.getGithubUsername().isBlank()
+                    || snapshotRepository.existsByUserIdAndSnapshotDate(user.getId(), today)) {
+                continue;
+            }
+            String token = tokenEncryptor.decryptLenient(user.getGithubAccessToken());
+            if (token == null || token.isBlank()) {
+                continue;
+            }
+            try {
+                // Also refreshes the insights cache as a side effect
+                GithubInsightsResponse insights = gitHubService.refreshInsights(user.getGithubUsername(), token);
+                if (recordSnapshot(user.getId(), user.getGithubId(), today, insights)) {
+                    recorded++;
+                } else {
+                    incomplete++;
+                }
+            } catch (Exception e) {
+                log.warn("GitHub insights snapshot failed");
+            }
+        }
+        log.info("GitHub insights snapshots recorded: {}, skipped as incomplete: {}", recorded, incomplete);
+    }
+
+    /**
+     * Store {@code insights}, taken from the GitHub account {@code githubId}, as the user's
+     * snapshot for {@code date}.
+     *
+     * @return false (nothing stored) when the insights are partial, i.e. some metric failed
+     *         or timed out and would otherwise be recorded as 0
+     */
+    public boolean recordSnapshot(Long userId, Long githubId, LocalDate date, GithubInsightsResponse insights) {
+        if (insights.isPartial()) {
+            return false;
+        }
+        GithubInsightsHistoryResponse.Point current = GithubInsightsHistoryResponse.Point.builder()
+                .date(date)
+                .stars(insights.getTotalStars())
+                .pullRequests(insights.getTotalPullRequests())
+                .followers(insights.getFollowers())
+                .commitsPerWeek(insights.getRecentCommits())
+                .build();
+
+        Optional<GithubInsightsSnapshot> keyframe = snapshotRepository
+                .findFirstByUserIdAndKeyframeTrueAndSnapshotDateLessThanEqualOrderBySnapshotDateDesc(userId, date);
+        GithubInsightsSnapshot row;
+        if (keyframe.isEmpty()) {
+            row = encode(userId, githubId, current, null);
+        } else {
+            List<GithubInsightsSnapshot> sinceKeyframe = snapshotRepository
+                    .findByUserIdAndSnapshotDateBetweenOrderBySnapshotDateAsc(userId, keyframe.get().getSnapshotDate(), date);
+            List<GithubInsightsHistoryResponse.Point> decoded = decode(sinceKeyframe, keyframe.get().getSnapshotDate());
+            boolean relinked = !sinceKeyframe.isEmpty()
+                    && !Objects.equals(sinceKeyframe.get(sinceKeyframe.size() - 1).getGithubId(), githubId);
+            GithubInsightsHistoryResponse.Point previous = decoded.isEmpty() || relinked
+                    || sinceKeyframe.size() >= KEYFRAME_INTERVAL
+                    ? null
+                    : decoded.get(decoded.size() - 1);
+            row = encode(userId, githubId, current, previous);
+        }
+        snapshotRepository.save(row);
+        return true;
+    }
+
+    /**
+     * Delete the user's snapshots.
+     */
+    public void forgetUser(Long userId) {
+        long deleted = snapshotRepository.deleteByUserId(userId);
+        log.info("GitHub insights snapshots removed: {}", deleted);
+    }
+
+    /**
+     * Trend lines for a user between two dates (inclusive), read only from stored snapshots.
+     */
+    public GithubInsightsHistoryResponse getHistory(User user, LocalDate from, LocalDate to) {
+        LocalDate start = snapshotRepository
+                .findFirstByUserIdAndKeyframeTrueAndSnapshotDateLessThanEqualOrderBySnapshotDateDesc(user.getId(), from)
+                .map(GithubInsightsSnapshot::getSnapshotDate)
+                .orElse(from);
+        List<GithubInsightsSnapshot> rows = snapshotRepository
+                .findByUserIdAndSnapshotDateBetweenOrderBySnapshotDateAsc(user.getId(), start, to);
+        return GithubInsightsHistoryResponse.builder()
+                .username(user.getGithubUsername())
+                .from(from)
+                .to(to)
+                .points(decode(rows, from))
+                .build();
+    }
+
+    /**
+     * Build a row for {@code current}: absolute values when {@code previous} is null
+     * (keyframe), otherwise the change since {@code previous}.
+     */
+    static GithubInsightsSnapshot encode(Long userId, Long githubId, GithubInsightsHistoryResponse.Point current,
+                                         GithubInsightsHistoryResponse.Point previous) {
+        boolean keyframe = previous == null;
+        int[] values = metrics(current);
+        if (!keyframe) {
+            int[] base = metrics(previous);
+            for (int i = 0; i < values.length; i++) {
+                values[i] -= base[i];
+            }
+        }
+        return GithubInsightsSnapshot.builder()
+                .userId(userId)
+                .githubId(githubId)
+                .snapshotDate(current.getDate())
+                .keyframe(keyframe)
+                .metrics(pack(values))
+                .build();
+    }
+
+    /**
+     * Accumulate date-ordered rows into absolute points, emitting those on or after {@code from}.
+     * Delta rows seen before the first keyframe have no base and are skipped.
+     */
+    static List<GithubInsightsHistoryResponse.Point> decode(List<GithubInsightsSnapshot> rows, LocalDate from) {
+        List<GithubInsightsHistoryResponse.Point> points = new ArrayList<>();
+        int[] values = null;
+        for (GithubInsightsSnapshot row : rows) {
+            int[] stored = unpack(row.getMetrics());
+            if (row.isKeyframe()) {
+                values = stored;
+            } else if (values != null) {
+                for (int i = 0; i < values.length; i++) {
+                    values[i] += stored[i];
+                }
+            } else {
+                continue;
+            }
+            if (!row.getSnapshotDate().isBefore(from)) {
+                points.add(GithubInsightsHistoryResponse.Point.builder()
+                        .date(row.getSnapshotDate())
+                        .stars(values[0])
+                        .pullRequests(values[1])
+                        .followers(values[2])
+                        .commitsPerWeek(values[3])
+                        .build());
+            }
+        }
+        return points;
+    }
+
+    private static int[] metrics(GithubInsightsHistoryResponse.Point point) {
+        return new int[] {point.getStars(), point.getPullRequests(), point.getFollowers(), point.getCommitsPerWeek()};
+    }
+
+    /**
+     * Zigzag varints, so small positive and negative deltas take one byte each.
+     */
+    static byte[] pack(int[] values) {
+        byte[] packed = new byte[GithubInsightsSnapshot.METRICS_MAX_BYTES];
+        int length = 0;
+        for (int value : values) {
+            int zigzag = (value << 1) ^ (value >> 31);
+            while ((zigzag & ~0x7F) != 0) {
+                packed[length++] = (byte) ((zigzag & 0x7F) | 0x80);
+                zigzag >>>= 7;
+            }
+            packed[length++] = (byte) zigzag;
+        }
+        return Arrays.copyOf(packed, length);
+    }
+
+    static int[] unpack(byte[] packed) {
+        int[] values = new int[GithubInsightsSnapshot.METRICS];
+        int position = 0;
+        for (int i = 0; i < values.length && packed != null && position < packed.length; i++) {
+            int zigzag = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = packed[position++];
+                zigzag |= (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0 && position < packed.length);
+            values[i] = (zigzag >>> 1) ^ -(zigzag & 1);
+        }
+        return values;
+    }
+}
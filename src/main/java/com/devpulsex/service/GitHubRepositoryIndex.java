@@ -0,0 +1,175 @@
+package com.devpulsex.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import com.devpulsex.dto.GithubRepositoryResponse;
+import com.devpulsex.dto.github.GithubRepositoryPageResponse;
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Immutable, query-ready view of a user's repository list.
+ *
+ * Built once per repositories refresh: repositories are projected to
+ * {@link GithubRepositoryResponse} and indexed by language, stars, updated_at and
+ * name, so each browse request only walks a precomputed order and returns one page.
+ */
+public final class GitHubRepositoryIndex {
+
+    public enum Sort {
+        UPDATED, STARS, NAME;
+
+        public static Sort parse(String value) {
+            if (value == null || value.isBlank()) {
+                return UPDATED;
+            }
+            try {
+                return Sort.valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unsupported sort: " + value + " (use updated, stars or name)");
+            }
+        }
+    }
+
+    private final JsonNode source;
+    private final List<GithubRepositoryResponse> repositories;
+    private final Map<String, BitSet> byLanguage = new HashMap<>();
+    private final int[] byUpdatedDesc;
+    private final int[] byStarsDesc;
+    private final int[] byName;
+    private final String[] sortedLowerNames;
+
+    public GitHubRepositoryIndex(JsonNode source) {
+        this.source = source;
+        List<GithubRepositoryResponse> projected = new ArrayList<>();
+        if (source != null && source.isArray()) {
+            for (JsonNode repo : source) {
+                projected.add(toResponse(repo));
+            }
+        }
+        this.repositories = List.copyOf(projected);
+
+        for (int i = 0; i < repositories.size(); i++) {
+            String language = repositories.get(i).getLanguage();
+            if (language != null) {
+                byLanguage.computeIfAbsent(language.toLowerCase(Locale.ROOT), k -> new BitSet()).set(i);
+            }
+        }
+
+        this.byUpdatedDesc = order(Comparator.comparing(
+                (Integer i) -> nullToEmpty(repositories.get(i).getUpdatedAt())).reversed());
+        this.byStarsDesc = order(Comparator.comparing(
+                (Integer i) -> repositories.get(i).getStars()).reversed());
+        this.byName = order(Comparator.comparing((Integer i) -> lowerName(i)));
+        this.sortedLowerNames = Arrays.stream(byName).mapToObj(this::lowerName).toArray(String[]::new);
+    }
+
+    /** The repositories payload this index was built from (identity is used to detect refreshes). */
+    public JsonNode source() {
+        return source;
+    }
+
+    public GithubRepositoryPageResponse query(String language, Sort sort, String namePrefix, int page, int size) {
+        BitSet matches = new BitSet(repositories.size());
+        matches.set(0, repositories.size());
+        if (language != null && !language.isBlank()) {
+            BitSet languageMatches = byLanguage.get(language.trim().toLowerCase(Locale.ROOT));
+            if (languageMatches == null) {
+                matches.clear();
+            } else {
+                matches.and(languageMatches);
+            }
+        }
+        if (namePrefix != null && !namePrefix.isBlank()) {
+            matches.and(namePrefixMatches(namePrefix.trim().toLowerCase(Locale.ROOT)));
+        }
+
+        int[] order = switch (sort) {
+            case STARS -> byStarsDesc;
+            case NAME -> byName;
+            case UPDATED -> byUpdatedDesc;
+        };
+        int total = matches.cardinality();
+        // long, so a huge page number yields an empty page instead of overflowing to a negative skip
+        long skip = (long) page * size;
+        List<GithubRepositoryResponse> items = new ArrayList<>((int) Math.min(size, Math.max(total - skip, 0)));
+        int seen = 0;
+        for (int index : order) {
+            if (!matches.get(index)) {
+                continue;
+            }
+            if (seen++ < skip) {
+                continue;
+            }
+            items.add(repositories.get(index));
+            if (items.size() == size) {
+                break;
+            }
+        }
+
+        return GithubRepositoryPageResponse.builder()
+                .items(items)
+                .page(page)
+                .size(size)
+                .totalElements(total)
+                .totalPages(size == 0 ? 0 : (total + size - 1) / size)
+                .build();
+    }
+
+    // Names sharing a prefix are contiguous in name order: binary search the first and walk forward
+    private BitSet namePrefixMatches(String prefix) {
+        BitSet result = new BitSet(repositories.size());
+        int position = Arrays.binarySearch(sortedLowerNames, prefix);
+        if (position < 0) {
+            position = -position - 1;
+        }
+        for (int i = position; i < sortedLowerNames.length && sortedLowerNames[i].startsWith(prefix); i++) {
+            result.set(byName[i]);
+        }
+        return result;
+    }
+
+    private int[] order(Comparator<Integer> comparator) {
+        return IntStream.range(0, repositories.size()).boxed()
+                .sorted(comparator)
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
+
+    private String lowerName(int index) {
+        return nullToEmpty(repositories.get(index).getName()).toLowerCase(Locale.ROOT);
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+
+    private static GithubRepositoryResponse toResponse(JsonNode repo) {
+        List<String> topics = new ArrayList<>();
+        for (JsonNode topic : repo.path("topics")) {
+            topics.add(topic.asText());
+        }
+        return new GithubRepositoryResponse(
+                repo.path("id").asLong(),
+                repo.path("name").asText(null),
+                repo.path("full_name").asText(null),
+                repo.path("description").asText(null),
+                repo.path("html_url").asText(null),
+                repo.path("language").asText(null),
+                repo.path("stargazers_count").asInt(0),
+                repo.path("forks_count").asInt(0),
+                repo.path("open_issues_count").asInt(0),
+                repo.path("private").asBoolean(false),
+                repo.path("created_at").asText(null),
+                repo.path("updated_at").asText(null),
+                repo.path("default_branch").asText(null),
+                topics);
+    }
+}
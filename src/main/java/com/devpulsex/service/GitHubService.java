@@ -1,11 +1,20 @@
 package com.devpulsex.service;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
@@ -13,12 +22,23 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 
 import com.devpulsex.dto.github.GithubInsightsResponse;
+import com.devpulsex.exception.GitHubRateLimitException;
 import com.fasterxml.jackson.databind.JsonNode;
 
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
 @Service
 public class GitHubService {
 
     private static final Logger log = LoggerFactory.getLogger(GitHubService.class);
+
+    private static final String CONTRIBUTIONS_QUERY = "query($login: String!, $from: DateTime!, $to: DateTime!) {"
+            + " user(login: $login) { contributionsCollection(from: $from, to: $to) {"
+            + " contributionCalendar { weeks { contributionDays { date contributionCount } } } } } }";
+    private static final List<String> INSIGHT_FIELDS = List.of("repoCount", "totalPullRequests", "recentCommits",
+            "totalIssues", "openIssues", "closedIssues", "totalStars", "followers", "following", "publicGists",
+            "recentPRs", "recentIssues", "mostActiveRepo");
     private final WebClient webClient;
     
     // Inject the configured WebClient with rate limit handling
@@ -34,50 +54,121 @@ public class GitHubService {
      * Note: This method throws exceptions on rate limits or API errors.
      * Use ResilientGitHubService for automatic fallback to cache.
      */
-    @Cacheable(value = "githubInsights", key = "#username")
+    @Cacheable(value = "githubInsights", key = "#username", unless = "#result.partial")
     public GithubInsightsResponse fetchInsights(String username, String accessToken) {
+        return assembleInsights(username, accessToken, null);
+    }
+
+    /**
+     * Recompute GitHub insights and overwrite the cached entry.
+     * Used by background refreshes after a partial (budget-limited) response.
+     * A result that is itself partial is returned but leaves the cached entry untouched.
+     */
+    @CachePut(value = "githubInsights", key = "#username", unless = "#result.partial")
+    public GithubInsightsResponse refreshInsights(String username, String accessToken) {
+        return assembleInsights(username, accessToken, null);
+    }
+
+    /**
+     * Fetch GitHub insights within a request-level latency budget.
+     * All sub-calls run concurrently and share the same deadline; metrics whose sub-call
+     * failed or had not completed when the budget ran out are reported in {@code missingFields}
+     * (reported as 0) and the response is flagged as partial. The result is never cached by this method.
+     *
+     * @param username GitHub username
+     * @param accessToken GitHub access token
+     * @param budget Maximum time to wait for all metrics
+     * @return Complete or partial insights
+     * @throws GitHubRateLimitException if GitHub rate-limited any of the calls
+     */
+    public GithubInsightsResponse fetchInsightsWithinBudget(String username, String accessToken, Duration budget) {
+        return assembleInsights(username, accessToken, budget);
+    }
+
+    private GithubInsightsResponse assembleInsights(String username, String accessToken, Duration budget) {
         log.info("GitHub insights fetch started");
         try {
-            // Fetch user profile data
-            JsonNode userProfile = fetchUserProfile(username, accessToken);
-            
-            // Fetch activity metrics
-            int repoCount = fetchRepoCount(accessToken);
-            int prTotal = fetchTotalPullRequests(username, accessToken);
-            int issueTotal = fetchTotalIssues(username, accessToken);
-            int recentCommits = fetchRecentCommitCount(username, accessToken);
-            int recentPRs = fetchRecentPRCount(username, accessToken);
-            int recentIssuesCount = fetchRecentIssuesCount(username, accessToken);
-            int totalStars = fetchTotalStars(accessToken);
-            String mostActiveRepo = fetchMostActiveRepo(username, accessToken);
-            
-            // Extract profile data
-            int followers = userProfile != null ? userProfile.path("followers").asInt(0) : 0;
-            int following = userProfile != null ? userProfile.path("following").asInt(0) : 0;
-            int publicGists = userProfile != null ? userProfile.path("public_gists").asInt(0) : 0;
-            
+            // Shared sources are fetched once and reused by every metric derived from them
+            Mono<JsonNode> userProfile = getJson("https://api.github.com/users/" + username, accessToken).cache();
+            Mono<JsonNode> repos = getJson("https://api.github.com/user/repos?per_page=100", accessToken).cache();
+            Mono<JsonNode> events = getJson("https://api.github.com/users/" + username + "/events?per_page=100", accessToken).cache();
+            Mono<Integer> totalIssues = searchCount("type:issue+author:" + username, accessToken).cache();
+            Mono<Integer> openIssues = searchCount("type:issue+author:" + username + "+state:open", accessToken).cache();
+            String recentCutoff = Instant.now().minus(7, ChronoUnit.DAYS).toString().substring(0, 10);
+
+            Map<String, Mono<?>> metrics = new LinkedHashMap<>();
+            metrics.put("repoCount", repos.map(JsonNode::size));
+            metrics.put("totalPullRequests", searchCount("type:pr+author:" + username, accessToken));
+            metrics.put("recentCommits", events.map(this::countRecentCommits));
+            metrics.put("totalIssues", totalIssues);
+            metrics.put("openIssues", openIssues);
+            metrics.put("closedIssues", Mono.zip(totalIssues, openIssues, (total, open) -> total - open));
+            metrics.put("totalStars", repos.map(this::sumStars));
+            metrics.put("followers", userProfile.map(p -> p.path("followers").asInt(0)));
+            metrics.put("following", userProfile.map(p -> p.path("following").asInt(0)));
+            metrics.put("publicGists", userProfile.map(p -> p.path("public_gists").asInt(0)));
+            metrics.put("recentPRs", searchCount("type:pr+author:" + username + "+created:>=" + recentCutoff, accessToken));
+            metrics.put("recentIssues", searchCount("type:issue+author:" + username + "+created:>=" + recentCutoff, accessToken));
+            metrics.put("mostActiveRepo", events.map(this::findMostActiveRepo));
+
+            // A failed metric emits nothing, so it is reported as missing like one past the deadline.
+            // Rate limiting fails the whole fetch instead, so callers fall back to cached insights
+            Flux<Map.Entry<String, Object>> completed = Flux.fromIterable(metrics.entrySet())
+                    .flatMap(entry -> entry.getValue()
+                            .cast(Object.class)
+                            .defaultIfEmpty(defaultValue(entry.getKey()))
+                            .map(value -> Map.entry(entry.getKey(), value))
+                            .onErrorResume(e -> !(e instanceof GitHubRateLimitException), e -> {
+                                log.warn("GitHub {} fetch failed", entry.getKey());
+                                return Mono.empty();
+                            }));
+            if (budget != null) {
+                // Stop collecting once the deadline passes; in-flight sub-calls are cancelled
+                completed = completed.take(budget);
+            }
+            Map<String, Object> values = completed
+                    .collectMap(Map.Entry::getKey, Map.Entry::getValue)
+                    .block();
+            if (values == null) {
+                values = Map.of();
+            }
+
+            List<String> missing = new ArrayList<>();
+            for (String field : metrics.keySet()) {
+                if (!values.containsKey(field)) {
+                    missing.add(field);
+                }
+            }
+            if (missing.isEmpty()) {
                 log.info("GitHub insights fetch succeeded");
-            
+            } else {
+                log.warn("GitHub insights incomplete, {} metrics failed or exceeded the latency budget", missing.size());
+            }
+
             return GithubInsightsResponse.builder()
                     .username(username)
-                    .repoCount(repoCount)
-                    .totalPullRequests(prTotal)
-                    .recentCommits(recentCommits)
-                    .totalIssues(issueTotal)
-                    .openIssues(fetchOpenIssuesCount(username, accessToken))
-                    .closedIssues(issueTotal - fetchOpenIssuesCount(username, accessToken))
-                    .totalStars(totalStars)
-                    .followers(followers)
-                    .following(following)
-                    .publicGists(publicGists)
-                    .recentPRs(recentPRs)
-                    .recentIssues(recentIssuesCount)
-                    .mostActiveRepo(mostActiveRepo)
+                    .repoCount(intValue(values, "repoCount"))
+                    .totalPullRequests(intValue(values, "totalPullRequests"))
+                    .recentCommits(intValue(values, "recentCommits"))
+                    .totalIssues(intValue(values, "totalIssues"))
+                    .openIssues(intValue(values, "openIssues"))
+                    .closedIssues(intValue(values, "closedIssues"))
+                    .totalStars(intValue(values, "totalStars"))
+                    .followers(intValue(values, "followers"))
+                    .following(intValue(values, "following"))
+                    .publicGists(intValue(values, "publicGists"))
+                    .recentPRs(intValue(values, "recentPRs"))
+                    .recentIssues(intValue(values, "recentIssues"))
+                    .mostActiveRepo((String) values.getOrDefault("mostActiveRepo", ""))
                     .profileUrl("https://github.com/" + username)
+                    .partial(!missing.isEmpty())
+                    .missingFields(missing.isEmpty() ? null : missing)
                     .build();
+        } catch (GitHubRateLimitException e) {
+            throw e;
         } catch (Exception e) {
             log.error("GitHub insights fetch failed");
-            // Return empty insights on error rather than failing
+            // Return empty insights on error rather than failing, flagged so they are never cached or recorded
             return GithubInsightsResponse.builder()
                     .username(username)
                     .repoCount(0)
@@ -94,260 +185,140 @@ public class GitHubService {
                     .recentIssues(0)
                     .mostActiveRepo("")
                     .profileUrl("https://github.com/" + username)
+                    .partial(true)
+                    .missingFields(INSIGHT_FIELDS)
                     .build();
         }
     }
-    
-    private JsonNode fetchUserProfile(String username, String accessToken) {
-        try {
-            return webClient.get()
-                    .uri("https://api.github.com/users/" + username)
-                    .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
-                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
-                    .retrieve()
-                    .bodyToMono(JsonNode.class)
-                    .block();
-        } catch (Exception e) {
-            log.warn("GitHub user profile fetch failed");
-            return null;
-        }
-    }
-    
-    private int fetchTotalIssues(String username, String accessToken) {
-        try {
-            JsonNode search = webClient.get()
-                    .uri(uriBuilder -> uriBuilder
-                            .scheme("https")
-                            .host("api.github.com")
-                            .path("/search/issues")
-                            .queryParam("q", "type:issue+author:" + username)
-                            .queryParam("per_page", "1")
-                            .build())
-                    .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
-                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
-                    .retrieve()
-                    .bodyToMono(JsonNode.class)
-                    .block();
-            return search != null && search.has("total_count") ? search.get("total_count").asInt() : 0;
-        } catch (Exception e) {
-            log.warn("GitHub total issues fetch failed");
-            return 0;
-        }
+
+    private Mono<JsonNode> getJson(String uri, String accessToken) {
+        return webClient.get()
+                .uri(uri)
+                .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+                .retrieve()
+                .bodyToMono(JsonNode.class);
     }
-    
-    private int fetchOpenIssuesCount(String username, String accessToken) {
-        try {
-            JsonNode search = webClient.get()
-                    .uri(uriBuilder -> uriBuilder
-                            .scheme("https")
-                            .host("api.github.com")
-                            .path("/search/issues")
-                            .queryParam("q", "type:issue+author:" + username + "+state:open")
-                            .queryParam("per_page", "1")
-                            .build())
-                    .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
-                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
-                    .retrieve()
-                    .bodyToMono(JsonNode.class)
-                    .block();
-            return search != null && search.has("total_count") ? search.get("total_count").asInt() : 0;
-        } catch (Exception e) {
-            log.warn("GitHub open issues fetch failed");
-            return 0;
-        }
+
+    private Mono<Integer> searchCount(String query, String accessToken) {
+        return webClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .scheme("https")
+                        .host("api.github.com")
+                        .path("/search/issues")
+                        .queryParam("q", query)
+                        .queryParam("per_page", "1")
+                        .build())
+                .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+                .retrieve()
+                .bodyToMono(JsonNode.class)
+                .map(search -> search.has("total_count") ? search.get("total_count").asInt() : 0);
     }
-    
-    private int fetchRecentPRCount(String username, String accessToken) {
-        try {
-            Instant cutoff = Instant.now().minus(7, ChronoUnit.DAYS);
-            String dateStr = cutoff.toString().substring(0, 10);
-            String query = "type:pr+author:" + username + "+created:>=" + dateStr;
-            JsonNode search = webClient.get()
-                    .uri(uriBuilder -> uriBuilder
-                            .scheme("https")
-                            .host("api.github.com")
-                            .path("/search/issues")
-                            .queryParam("q", query)
-                            .queryParam("per_page", "1")
-                            .build())
-                    .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
-                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
-                    .retrieve()
-                    .bodyToMono(JsonNode.class)
-                    .block();
-            int count = search != null && search.has("total_count") ? search.get("total_count").asInt() : 0;
-            log.info("GitHub recent PR count fetched");
-            return count;
-        } catch (Exception e) {
-            log.error("GitHub recent PR fetch failed");
-            return 0;
-        }
+
+    private Object defaultValue(String field) {
+        return "mostActiveRepo".equals(field) ? "" : 0;
     }
-    
-    private int fetchRecentIssuesCount(String username, String accessToken) {
-        try {
-            Instant cutoff = Instant.now().minus(7, ChronoUnit.DAYS);
-            String dateStr = cutoff.toString().substring(0, 10);
-            String query = "type:issue+author:" + username + "+created:>=" + dateStr;
-            JsonNode search = webClient.get()
-                    .uri(uriBuilder -> uriBuilder
-                            .scheme("https")
-                            .host("api.github.com")
-                            .path("/search/issues")
-                            .queryParam("q", query)
-                            .queryParam("per_page", "1")
-                            .build())
-                    .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
-                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
-                    .retrieve()
-                    .bodyToMono(JsonNode.class)
-                    .block();
-            int count = search != null && search.has("total_count") ? search.get("total_count").asInt() : 0;
-            log.info("GitHub recent issue count fetched");
-            return count;
-        } catch (Exception e) {
-            log.error("GitHub recent issue fetch failed");
-            return 0;
-        }
+
+    private int intValue(Map<String, Object> values, String field) {
+        Object value = values.get(field);
+        return value instanceof Integer i ? i : 0;
     }
-    
-    private int fetchTotalStars(String accessToken) {
-        try {
-            JsonNode repos = webClient.get()
-                    .uri("https://api.github.com/user/repos?per_page=100")
-                    .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
-                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
-                    .retrieve()
-                    .bodyToMono(JsonNode.class)
-                    .block();
-            if (repos == null || !repos.isArray()) return 0;
-            int stars = 0;
-            for (JsonNode repo : repos) {
-                stars += repo.path("stargazers_count").asInt(0);
-            }
-            return stars;
-        } catch (Exception e) {
-            log.warn("GitHub total stars fetch failed");
-            return 0;
+
+    private int sumStars(JsonNode repos) {
+        if (repos == null || !repos.isArray()) return 0;
+        int stars = 0;
+        for (JsonNode repo : repos) {
+            stars += repo.path("stargazers_count").asInt(0);
         }
+        return stars;
     }
-    
-    private String fetchMostActiveRepo(String username, String accessToken) {
-        try {
-            JsonNode events = webClient.get()
-                    .uri("https://api.github.com/users/" + username + "/events?per_page=100")
-                    .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
-                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
-                    .retrieve()
-                    .bodyToMono(JsonNode.class)
-                    .block();
-            if (events == null || !events.isArray()) return "";
-            
-            // Count events per repo
-            java.util.Map<String, Integer> repoActivity = new java.util.HashMap<>();
-            Instant cutoff = Instant.now().minus(30, ChronoUnit.DAYS);
-            for (JsonNode event : events) {
-                String createdAt = event.path("created_at").asText("");
-                if (!createdAt.isEmpty() && Instant.parse(createdAt).isAfter(cutoff)) {
-                    String repoName = event.path("repo").path("name").asText("");
-                    if (!repoName.isEmpty()) {
-                        repoActivity.put(repoName, repoActivity.getOrDefault(repoName, 0) + 1);
-                    }
+
+    private String findMostActiveRepo(JsonNode events) {
+        if (events == null || !events.isArray()) return "";
+
+        // Count events per repo
+        Map<String, Integer> repoActivity = new HashMap<>();
+        Instant cutoff = Instant.now().minus(30, ChronoUnit.DAYS);
+        for (JsonNode event : events) {
+            String createdAt = event.path("created_at").asText("");
+            if (!createdAt.isEmpty() && Instant.parse(createdAt).isAfter(cutoff)) {
+                String repoName = event.path("repo").path("name").asText("");
+                if (!repoName.isEmpty()) {
+                    repoActivity.merge(repoName, 1, Integer::sum);
                 }
             }
-            
-            return repoActivity.entrySet().stream()
-                    .max(java.util.Map.Entry.comparingByValue())
-                    .map(java.util.Map.Entry::getKey)
-                    .orElse("");
-        } catch (Exception e) {
-            log.warn("GitHub most active repo fetch failed");
-            return "";
         }
-    }
 
-    private int fetchRepoCount(String accessToken) {
-        try {
-            // Fetch first page with 100 repos and count length; sufficient for basic analytics
-            JsonNode repos = webClient.get()
-                    .uri("https://api.github.com/user/repos?per_page=100")
-                    .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
-                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
-                    .retrieve()
-                    .bodyToMono(JsonNode.class)
-                    .block();
-            return repos != null ? repos.size() : 0;
-        } catch (Exception e) {
-            log.warn("GitHub repo count fetch failed");
-            return 0;
-        }
+        return repoActivity.entrySet().stream()
+                .max(Map.Entry.comparingByValue())
+                .map(Map.Entry::getKey)
+                .orElse("");
     }
 
-    private int fetchTotalPullRequests(String username, String accessToken) {
-        try {
-            // Use search API to get total PRs authored by the user
-            JsonNode search = webClient.get()
-                    .uri(uriBuilder -> uriBuilder
-                            .scheme("https")
-                            .host("api.github.com")
-                            .path("/search/issues")
-                            .queryParam("q", "type:pr+author:" + username)
-                            .queryParam("per_page", "1")
-                            .build())
-                    .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
-                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
-                    .retrieve()
-                    .bodyToMono(JsonNode.class)
-                    .block();
-            return search != null && search.has("total_count") ? search.get("total_count").asInt() : 0;
-        } catch (Exception e) {
-            log.warn("GitHub PR count fetch failed");
+    private int countRecentCommits(JsonNode events) {
+        // Use public events to approximate recent commits in last 7 days
+        if (events == null || !events.isArray()) {
+            log.warn("GitHub activity events fetch failed");
             return 0;
         }
+        Instant cutoff = Instant.now().minus(7, ChronoUnit.DAYS);
+        int commits = 0;
+        for (JsonNode ev : events) {
+            String type = ev.path("type").asText("");
+            String createdAt = ev.path("created_at").asText("");
+            if ("PushEvent".equals(type) && !createdAt.isEmpty()) {
+                try {
+                    Instant t = Instant.parse(createdAt);
+                    if (t.isAfter(cutoff)) {
+                        // payload.size is number of commits in push
+                        commits += ev.path("payload").path("size").asInt(0);
+                    }
+                } catch (Exception e) {
+                    log.warn("GitHub event timestamp parse failed");
+                }
+            }
+        }
+        return commits;
     }
 
-    private int fetchRecentCommitCount(String username, String accessToken) {
+    /**
+     * Fetch daily contribution counts with a single GraphQL contributionsCollection query.
+     * GitHub limits the range to one year.
+     *
+     * @return Counts by day (days without activity may be present with 0), or null on failure
+     */
+    public Map<LocalDate, Integer> fetchContributionDays(String username, String accessToken,
+                                                         OffsetDateTime from, OffsetDateTime to) {
         try {
-            // Use public events to approximate recent commits in last 7 days
-            JsonNode events = webClient.get()
-                    .uri(uriBuilder -> uriBuilder
-                            .scheme("https")
-                            .host("api.github.com")
-                            .path("/users/" + username + "/events")
-                            .queryParam("per_page", "100")
-                            .build())
-                    .header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
+            Map<String, Object> body = Map.of(
+                    "query", CONTRIBUTIONS_QUERY,
+                    "variables", Map.of("login", username, "from", from.toString(), "to", to.toString()));
+            JsonNode response = webClient.post()
+                    .uri("https://api.github.com/graphql")
                     .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue(body)
                     .retrieve()
                     .bodyToMono(JsonNode.class)
                     .block();
-            if (events == null || !events.isArray()) {
-                log.warn("GitHub activity events fetch failed");
-                return 0;
+            JsonNode weeks = response == null ? null : response
+                    .path("data").path("user").path("contributionsCollection").path("contributionCalendar").path("weeks");
+            if (weeks == null || !weeks.isArray()) {
+                log.warn("GitHub contributions fetch returned no calendar");
+                return null;
             }
-            Instant cutoff = Instant.now().minus(7, ChronoUnit.DAYS);
-            int commits = 0;
-            for (JsonNode ev : events) {
-                String type = ev.path("type").asText("");
-                String createdAt = ev.path("created_at").asText("");
-                if ("PushEvent".equals(type) && !createdAt.isEmpty()) {
-                    try {
-                        Instant t = Instant.parse(createdAt);
-                        if (t.isAfter(cutoff)) {
-                            // payload.size is number of commits in push
-                            int pushSize = ev.path("payload").path("size").asInt(0);
-                            commits += pushSize;
-                        }
-                    } catch (Exception e) {
-                        log.warn("GitHub event timestamp parse failed");
-                    }
+            Map<LocalDate, Integer> days = new HashMap<>();
+            for (JsonNode week : weeks) {
+                for (JsonNode day : week.path("contributionDays")) {
+                    days.put(LocalDate.parse(day.path("date").asText()), day.path("contributionCount").asInt(0));
                 }
             }
-            log.info("GitHub recent commit count fetched");
-            return commits;
+            log.info("GitHub contributions fetch succeeded");
+            return days;
         } catch (Exception e) {
-            log.error("GitHub recent commit fetch failed");
-            return 0;
+            log.error("GitHub contributions fetch failed");
+            return null;
         }
     }
 
@@ -357,6 +328,19 @@ public class GitHubService {
      */
     @Cacheable(value = "githubRepositories", key = "#accessToken.hashCode()")
     public JsonNode fetchRepositories(String accessToken) {
+        return loadRepositories(accessToken);
+    }
+
+    /**
+     * Re-fetch repositories and overwrite the cached entry (used by cache warm-up).
+     * Failed fetches leave the existing entry untouched.
+     */
+    @CachePut(value = "githubRepositories", key = "#accessToken.hashCode()", unless = "#result == null")
+    public JsonNode refreshRepositories(String accessToken) {
+        return loadRepositories(accessToken);
+    }
+
+    private JsonNode loadRepositories(String accessToken) {
         log.info("GitHub repositories fetch started");
         try {
             String uri = "https://api.github.com/user/repos?per_page=100&sort=updated";
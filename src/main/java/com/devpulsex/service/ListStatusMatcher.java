@@ -0,0 +1,90 @@
+package com.devpulsex.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+import com.devpulsex.model.TaskStatus;
+import com.devpulsex.model.TrelloStatusRule;
+
+/**
+ * A project's list-to-status rules compiled for matching: list ids and exact names are
+ * hash lookups, prefixes are lower-cased once and regexes compiled once.
+ *
+ * Precedence: list id, then exact name, then prefix and regex rules in configured order,
+ * then the built-in mapping ("done"/"complete" → DONE, "doing"/"progress"/"review" →
+ * IN_PROGRESS, "block" → BLOCKED, anything else TODO). Immutable and thread-safe.
+ */
+public final class ListStatusMatcher {
+
+    /** Built-in mapping only, for projects without rules. */
+    public static final ListStatusMatcher DEFAULT = new ListStatusMatcher(List.of());
+
+    private final Map<String, TaskStatus> byListId = new HashMap<>();
+    private final Map<String, TaskStatus> byName = new HashMap<>();
+    private final List<NameRule> nameRules = new ArrayList<>();
+
+    private record NameRule(String prefix, Pattern regex, TaskStatus status) {
+        boolean matches(String lowerName) {
+            return prefix != null ? lowerName.startsWith(prefix) : regex.matcher(lowerName).find();
+        }
+    }
+
+    /**
+     * @throws IllegalArgumentException if a regex rule does not compile
+     */
+    public static ListStatusMatcher compile(List<TrelloStatusRule> rules) {
+        return rules.isEmpty() ? DEFAULT : new ListStatusMatcher(rules);
+    }
+
+    private ListStatusMatcher(List<TrelloStatusRule> rules) {
+        for (TrelloStatusRule rule : rules) {
+            String pattern = rule.getPattern();
+            switch (rule.getType()) {
+                case LIST_ID -> byListId.putIfAbsent(pattern, rule.getStatus());
+                case EXACT -> byName.putIfAbsent(lower(pattern), rule.getStatus());
+                case PREFIX -> nameRules.add(new NameRule(lower(pattern), null, rule.getStatus()));
+                case REGEX -> nameRules.add(new NameRule(null, compileRegex(pattern), rule.getStatus()));
+            }
+        }
+    }
+
+    public TaskStatus statusFor(String listId, String listName) {
+        if (listId != null) {
+            TaskStatus status = byListId.get(listId);
+            if (status != null) return status;
+        }
+        if (listName == null) return TaskStatus.TODO;
+        String ln = lower(listName);
+        TaskStatus status = byName.get(ln);
+        if (status != null) return status;
+        for (NameRule rule : nameRules) {
+            if (rule.matches(ln)) return rule.status();
+        }
+        return builtIn(ln);
+    }
+
+    private static TaskStatus builtIn(String ln) {
+        if (ln.contains("done") || ln.contains("complete")) return TaskStatus.DONE;
+        if (ln.contains("doing") || ln.contains("progress") || ln.contains("review")) return TaskStatus.IN_PROGRESS;
+        if (ln.contains("block")) return TaskStatus.BLOCKED;
+        return TaskStatus.TODO;
+    }
+
+    static Pattern compileRegex(String regex) {
+        try {
+            // Matched against the lower-cased name; the flag covers upper-case literals in the rule
+            return Pattern.compile(regex, Pattern.CASE_INSENSITIVE | Pattern.UNICODE_CASE);
+        } catch (PatternSyntaxException e) {
+            throw new IllegalArgumentException("Invalid status rule regex: " + e.getDescription());
+        }
+    }
+
+    private static String lower(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+}
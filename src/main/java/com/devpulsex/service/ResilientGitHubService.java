@@ -1,16 +1,25 @@
 package com.devpulsex.service;
 
+import java.time.Duration;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Service;
 
 import com.devpulsex.dto.github.GithubInsightsResponse;
+import com.devpulsex.dto.github.GithubRepositoryPageResponse;
 import com.devpulsex.exception.GitHubRateLimitException;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 /**
  * Wrapper service that provides resilient GitHub data fetching with cache fallback.
@@ -18,6 +27,7 @@ import com.fasterxml.jackson.databind.JsonNode;
  * This service wraps the GitHubService and provides:
  * - Automatic fallback to cached data on API failures
  * - Rate limit detection and handling
+ * - Request-level latency budget with partial responses
  * - Graceful degradation
  */
 @Service
@@ -27,28 +37,53 @@ public class ResilientGitHubService {
     
     private final GitHubService gitHubService;
     private final CacheManager cacheManager;
+    private final Duration insightsBudget;
+    
+    // Query indexes over cached repository lists, keyed like the githubRepositories cache
+    private final com.github.benmanes.caffeine.cache.Cache<Integer, GitHubRepositoryIndex> repositoryIndexes = Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofMinutes(10))
+            .maximumSize(1000)
+            .build();
+    
+    // Usernames with a background refresh in flight, so bursts of partial responses refresh once
+    private final Set<String> refreshesInFlight = ConcurrentHashMap.newKeySet();
     
-    public ResilientGitHubService(GitHubService gitHubService, CacheManager cacheManager) {
+    public ResilientGitHubService(GitHubService gitHubService, CacheManager cacheManager,
+                                  @Value("${github.insights.latency-budget-ms:800}") long insightsBudgetMs) {
         this.gitHubService = gitHubService;
         this.cacheManager = cacheManager;
+        this.insightsBudget = Duration.ofMillis(insightsBudgetMs);
     }
     
     /**
      * Fetch GitHub insights with automatic fallback to cache on failure.
      * 
      * Flow:
-     * 1. Try to fetch fresh data from GitHub API
-     * 2. If rate limited or API fails, return cached data
-     * 3. If no cached data, return empty response
+     * 1. Return cached insights if present
+     * 2. Otherwise fetch from GitHub API within the configured latency budget
+     * 3. Complete results are cached; partial results are returned as-is and the
+     *    missing metrics are filled in by a background refresh into the cache
+     * 4. If rate limited or API fails, return cached data
+     * 5. If no cached data, return empty response
      * 
      * @param username GitHub username
      * @param accessToken GitHub access token
-     * @return GitHub insights (fresh or cached)
+     * @return GitHub insights (fresh, partial or cached)
      */
     public GithubInsightsResponse fetchInsightsWithFallback(String username, String accessToken) {
         try {
-            // Try to fetch fresh data
-            return gitHubService.fetchInsights(username, accessToken);
+            Optional<GithubInsightsResponse> cached = getCachedInsights(username);
+            if (cached.isPresent()) {
+                return cached.get();
+            }
+
+            GithubInsightsResponse insights = gitHubService.fetchInsightsWithinBudget(username, accessToken, insightsBudget);
+            if (insights.isPartial()) {
+                scheduleInsightsRefresh(username, accessToken);
+            } else {
+                cacheInsights(username, insights);
+            }
+            return insights;
             
         } catch (GitHubRateLimitException e) {
             log.warn("GitHub rate limit exceeded");
@@ -93,6 +128,50 @@ public class ResilientGitHubService {
         }
     }
     
+    /**
+     * Browse the user's repositories: filter, sort and page on the server.
+     * The index is rebuilt only when the underlying repositories payload changes
+     * (i.e. once per cache refresh), not per request.
+     * 
+     * @param accessToken GitHub access token
+     * @return One page of repositories, or null if none could be fetched
+     */
+    public GithubRepositoryPageResponse browseRepositoriesWithFallback(String accessToken, String language,
+                                                                      GitHubRepositoryIndex.Sort sort, String namePrefix,
+                                                                      int page, int size) {
+        JsonNode repos = fetchRepositoriesWithFallback(accessToken);
+        if (repos == null) {
+            return null;
+        }
+        GitHubRepositoryIndex index = repositoryIndexes.asMap().compute(accessToken.hashCode(),
+                (key, current) -> current != null && current.source() == repos ? current : new GitHubRepositoryIndex(repos));
+        return index.query(language, sort, namePrefix, page, size);
+    }
+
+    /**
+     * Recompute insights off the request thread and store them in the cache.
+     * Subsequent requests are then served the complete response from cache.
+     */
+    private void scheduleInsightsRefresh(String username, String accessToken) {
+        if (!refreshesInFlight.add(username)) {
+            return;
+        }
+        Mono.fromCallable(() -> gitHubService.refreshInsights(username, accessToken))
+                .subscribeOn(Schedulers.boundedElastic())
+                .doFinally(signal -> refreshesInFlight.remove(username))
+                .subscribe(
+                        refreshed -> log.info("GitHub insights background refresh succeeded"),
+                        error -> log.warn("GitHub insights background refresh failed"));
+    }
+
+    @SuppressWarnings("null")
+    private void cacheInsights(String username, GithubInsightsResponse insights) {
+        Cache cache = cacheManager.getCache("githubInsights");
+        if (cache != null) {
+            cache.put(username, insights);
+        }
+    }
+    
     /**
      * Get cached GitHub insights if available.
      * 
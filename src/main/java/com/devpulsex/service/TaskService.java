@@ -1,6 +1,7 @@
 package com.devpulsex.service;
 
 import java.util.List;
+import java.util.Objects;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -25,13 +26,15 @@ public class TaskService {
     private final ProjectRepository projectRepository;
     private final UserRepository userRepository;
     private final AuthorizationScopeService authorizationScopeService;
+    private final TrelloPushService trelloPushService;
 
     public TaskService(TaskRepository taskRepository, ProjectRepository projectRepository, UserRepository userRepository,
-            AuthorizationScopeService authorizationScopeService) {
+            AuthorizationScopeService authorizationScopeService, TrelloPushService trelloPushService) {
         this.taskRepository = taskRepository;
         this.projectRepository = projectRepository;
         this.userRepository = userRepository;
         this.authorizationScopeService = authorizationScopeService;
+        this.trelloPushService = trelloPushService;
     }
 
     public List<TaskDto> getAll() {
@@ -59,8 +62,14 @@ public class TaskService {
     public TaskDto update(Long id, TaskDto dto) {
         Task task = taskRepository.findById(id).orElseThrow(() -> new ResourceNotFoundException("Task not found: " + id));
         authorizationScopeService.requireProjectAccess(task.getProject());
+        String previousTitle = task.getTitle();
+        TaskStatus previousStatus = task.getStatus();
         apply(dto, task);
-        return toDto(taskRepository.save(task));
+        Task saved = taskRepository.save(task);
+        if (!Objects.equals(previousTitle, saved.getTitle()) || previousStatus != saved.getStatus()) {
+            trelloPushService.enqueue(saved);
+        }
+        return toDto(saved);
     }
 
     @SuppressWarnings("null")
@@ -101,6 +110,7 @@ public class TaskService {
         }
         task.setStatus(newStatus);
         Task saved = taskRepository.save(task);
+        trelloPushService.enqueue(saved);
         log.info("Task {} transitioned from {} to {}", taskId, current, newStatus);
         return toDto(saved);
     }
@@ -153,6 +163,7 @@ public class TaskService {
                 .assignedUserId(assignedId)
                 .status(t.getStatus())
                 .dueDate(t.getDueDate())
+                .trelloCardId(t.getTrelloCardId())
                 .build();
     }
 
@@ -0,0 +1,122 @@
+package com.devpulsex.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.devpulsex.model.RevokedToken;
+import com.devpulsex.repository.RevokedTokenRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.jsonwebtoken.Claims;
+
+/**
+ * Revocation of individual JWTs by {@code jti}, without a database lookup per request.
+ *
+ * Revoked ids are stored in {@code revoked_tokens} and mirrored into an in-memory
+ * {@link BloomFilter}, rebuilt from the table every {@code app.security.revocation.rebuild-interval-ms}
+ * (which also purges expired rows and picks up revocations made by other instances). Only ids
+ * the filter reports as possibly revoked are checked against the table; those answers are
+ * cached until the next rebuild. Tokens without a {@code jti} (issued before ids were added)
+ * cannot be revoked one by one; they are covered by revoking all of a user's sessions.
+ */
+@Service
+public class TokenRevocationService {
+
+    private static final Logger log = LoggerFactory.getLogger(TokenRevocationService.class);
+
+    private final RevokedTokenRepository repository;
+    private final int expectedTokens;
+    private final double falsePositiveRate;
+    private final Cache<String, Boolean> exactChecks;
+
+    // Null until the first rebuild; every lookup is exact until then
+    private volatile BloomFilter filter;
+    // Revocations made while a rebuild reads the table, added to the rebuilt filter before it is published
+    private Set<String> revokedDuringRebuild;
+
+    public TokenRevocationService(RevokedTokenRepository repository,
+                                  @Value("${app.security.revocation.expected-tokens:10000}") int expectedTokens,
+                                  @Value("${app.security.revocation.false-positive-rate:0.01}") double falsePositiveRate,
+                                  @Value("${app.security.revocation.rebuild-interval-ms:60000}") long rebuildIntervalMs) {
+        this.repository = repository;
+        this.expectedTokens = expectedTokens;
+        this.falsePositiveRate = falsePositiveRate;
+        this.exactChecks = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(rebuildIntervalMs))
+                .maximumSize(expectedTokens)
+                .build();
+    }
+
+    public boolean isRevoked(Claims claims) {
+        String jti = claims.getId();
+        if (jti == null) {
+            return false;
+        }
+        BloomFilter current = filter;
+        if (current != null && !current.mightContain(jti)) {
+            return false;
+        }
+        return exactChecks.get(jti, repository::existsById);
+    }
+
+    /**
+     * Revoke the token with {@code jti} until it expires. No-op for tokens without an id or already expired.
+     */
+    public void revoke(String jti, Date expiresAt) {
+        if (jti == null || expiresAt == null || !expiresAt.toInstant().isAfter(Instant.now())) {
+            return;
+        }
+        repository.save(RevokedToken.builder()
+                .jti(jti)
+                .expiresAt(expiresAt.toInstant())
+                .revokedAt(Instant.now())
+                .build());
+        synchronized (this) {
+            if (filter != null) {
+                filter.add(jti);
+            }
+            if (revokedDuringRebuild != null) {
+                revokedDuringRebuild.add(jti);
+            }
+        }
+        exactChecks.put(jti, true);
+        log.info("JWT revoked");
+    }
+
+    @Scheduled(fixedDelayString = "${app.security.revocation.rebuild-interval-ms:60000}")
+    public void rebuild() {
+        Instant now = Instant.now();
+        synchronized (this) {
+            revokedDuringRebuild = new HashSet<>();
+        }
+        try {
+            repository.deleteByExpiresAtBefore(now);
+            List<RevokedToken> active = repository.findByExpiresAtAfter(now);
+            BloomFilter next = BloomFilter.create(Math.max(expectedTokens, active.size() * 2), falsePositiveRate);
+            active.forEach(token -> next.add(token.getJti()));
+            synchronized (this) {
+                revokedDuringRebuild.forEach(next::add);
+                filter = next;
+            }
+            exactChecks.invalidateAll();
+            log.debug("JWT revocation filter rebuilt: {} revoked tokens", active.size());
+        } catch (Exception e) {
+            log.error("JWT revocation filter rebuild failed", e);
+        } finally {
+            synchronized (this) {
+                revokedDuringRebuild = null;
+            }
+        }
+    }
+}
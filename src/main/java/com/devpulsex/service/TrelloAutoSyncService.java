@@ -0,0 +1,255 @@
+package com.devpulsex.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.devpulsex.dto.trello.TrelloAutoSyncRunResponse;
+import com.devpulsex.model.Project;
+import com.devpulsex.model.TrelloAutoSyncRun;
+import com.devpulsex.model.TrelloProjectSyncState;
+import com.devpulsex.model.TrelloSyncJob;
+import com.devpulsex.model.TrelloSyncJobStatus;
+import com.devpulsex.repository.ProjectRepository;
+import com.devpulsex.repository.TrelloAutoSyncRunRepository;
+import com.devpulsex.repository.TrelloProjectSyncStateRepository;
+import com.devpulsex.repository.TrelloSyncJobRepository;
+
+/**
+ * Periodically syncs every project linked to a Trello board.
+ *
+ * Each run spreads the projects evenly across the first 80% of {@code trello.autosync.interval-ms},
+ * so Trello and the database see a steady trickle instead of a burst, and the last syncs finish
+ * before the next tick instead of making it skip; every sync goes through
+ * TrelloClient, which throttles per token. A project is synced with the Trello token of the
+ * user who ran its last completed sync (projects never synced by hand are skipped), and is
+ * skipped when its board shows no activity since its watermark. Otherwise it gets a delta
+ * sync (see {@link TrelloSyncJobService#runScheduled}). When all projects are done the run's
+ * duration and counts are saved as a {@link TrelloAutoSyncRun}, and runs older than
+ * {@code trello.autosync.run-retention-days} are deleted. A tick is skipped while the
+ * previous run is still going.
+ */
+@Service
+public class TrelloAutoSyncService {
+
+    private static final Logger log = LoggerFactory.getLogger(TrelloAutoSyncService.class);
+    // Share of the interval the project starts are spread over; the rest is headroom for the last syncs
+    private static final int SPREAD_PERCENT = 80;
+
+    private final ProjectRepository projectRepository;
+    private final TrelloProjectSyncStateRepository syncStateRepository;
+    private final TrelloSyncJobRepository jobRepository;
+    private final TrelloAutoSyncRunRepository runRepository;
+    private final TrelloService trelloService;
+    private final TrelloSyncJobService syncJobService;
+    private final TaskScheduler taskScheduler;
+    private final TaskExecutor executor;
+
+    private final boolean enabled;
+    private final Duration interval;
+    private final Duration runRetention;
+
+    private final AtomicReference<RunProgress> current = new AtomicReference<>();
+
+    public TrelloAutoSyncService(ProjectRepository projectRepository,
+                                 TrelloProjectSyncStateRepository syncStateRepository,
+                                 TrelloSyncJobRepository jobRepository,
+                                 TrelloAutoSyncRunRepository runRepository,
+                                 TrelloService trelloService,
+                                 TrelloSyncJobService syncJobService,
+                                 TaskScheduler taskScheduler,
+                                 @Qualifier("trelloSyncExecutor") TaskExecutor executor,
+                                 @Value("${trello.autosync.enabled:true}") boolean enabled,
+                                 @Value("${trello.autosync.interval-ms:900000}") long intervalMs,
+                                 @Value("${trello.autosync.run-retention-days:30}") long runRetentionDays) {
+        this.projectRepository = projectRepository;
+        this.syncStateRepository = syncStateRepository;
+        this.jobRepository = jobRepository;
+        this.runRepository = runRepository;
+        this.trelloService = trelloService;
+        this.syncJobService = syncJobService;
+        this.taskScheduler = taskScheduler;
+        this.executor = executor;
+        this.enabled = enabled;
+        this.interval = Duration.ofMillis(intervalMs);
+        this.runRetention = Duration.ofDays(runRetentionDays);
+    }
+
+    @Scheduled(fixedDelayString = "${trello.autosync.interval-ms:900000}",
+               initialDelayString = "${trello.autosync.initial-delay-ms:120000}")
+    public void syncAll() {
+        if (!enabled) {
+            return;
+        }
+        if (current.get() != null) {
+            log.info("Trello auto-sync skipped: previous run still in progress");
+            return;
+        }
+
+        List<Project> projects = projectRepository.findByTrelloBoardIdIsNotNullOrderByNameAsc();
+        Map<Long, TrelloProjectSyncState> states = syncStateRepository
+                .findAllById(projects.stream().map(Project::getId).toList()).stream()
+                .collect(Collectors.toMap(TrelloProjectSyncState::getProjectId, Function.identity()));
+
+        RunProgress run = new RunProgress(projects.size());
+        current.set(run);
+        Instant now = Instant.now();
+        long slotMs = projects.isEmpty() ? 0 : interval.toMillis() * SPREAD_PERCENT / 100 / projects.size();
+        for (int i = 0; i < projects.size(); i++) {
+            Project project = projects.get(i);
+            TrelloProjectSyncState state = states.get(project.getId());
+            Instant watermark = state != null && state.getBoardId().equals(project.getTrelloBoardId())
+                    ? state.getWatermark()
+                    : null;
+            taskScheduler.schedule(() -> dispatch(run, project, watermark), now.plusMillis(slotMs * i));
+        }
+        log.info("Trello auto-sync started: projects={} spreadMs={}", projects.size(), slotMs * projects.size());
+        if (projects.isEmpty()) {
+            finish(run);
+        }
+    }
+
+    public List<TrelloAutoSyncRunResponse> recentRuns() {
+        return runRepository.findTop20ByOrderByStartedAtDesc().stream().map(this::toResponse).toList();
+    }
+
+    /**
+     * Hand a project over to the sync pool, so the shared scheduler thread never waits on Trello.
+     */
+    private void dispatch(RunProgress run, Project project, Instant watermark) {
+        try {
+            executor.execute(() -> syncProject(run, project, watermark));
+        } catch (RuntimeException e) {
+            log.warn("Trello auto-sync of a project not queued: sync queue is full");
+            run.failed.incrementAndGet();
+            projectDone(run);
+        }
+    }
+
+    private void syncProject(RunProgress run, Project project, Instant watermark) {
+        try {
+            String owner = jobRepository
+                    .findFirstByProjectIdAndStatusOrderByFinishedAtDesc(project.getId(), TrelloSyncJobStatus.COMPLETED)
+                    .map(TrelloSyncJob::getRequestedBy)
+                    .orElse(null);
+            if (owner == null) {
+                run.skippedNoOwner.incrementAndGet();
+                return;
+            }
+            if (watermark != null) {
+                Instant lastActivity = trelloService.getBoardLastActivityForUser(project.getTrelloBoardId(), owner).block();
+                if (lastActivity != null && lastActivity.isBefore(watermark)) {
+                    run.skippedInactive.incrementAndGet();
+                    return;
+                }
+            }
+            TrelloSyncJob job = syncJobService.runScheduled(project, owner);
+            if (job == null) {
+                run.skippedBusy.incrementAndGet();
+            } else if (job.getStatus() == TrelloSyncJobStatus.COMPLETED) {
+                run.synced.incrementAndGet();
+                run.cardsProcessed.addAndGet(job.getCardsProcessed());
+                run.created.addAndGet(job.getCreated());
+                run.updated.addAndGet(job.getUpdated());
+            } else {
+                run.failed.incrementAndGet();
+            }
+        } catch (Exception e) {
+            log.warn("Trello auto-sync of a project failed");
+            run.failed.incrementAndGet();
+        } finally {
+            projectDone(run);
+        }
+    }
+
+    private void projectDone(RunProgress run) {
+        if (run.pending.decrementAndGet() == 0) {
+            finish(run);
+        }
+    }
+
+    private void finish(RunProgress run) {
+        Instant finishedAt = Instant.now();
+        try {
+            TrelloAutoSyncRun saved = runRepository.save(TrelloAutoSyncRun.builder()
+                    .startedAt(run.startedAt)
+                    .finishedAt(finishedAt)
+                    .durationMs(Duration.between(run.startedAt, finishedAt).toMillis())
+                    .projects(run.projects)
+                    .synced(run.synced.get())
+                    .skippedInactive(run.skippedInactive.get())
+                    .skippedBusy(run.skippedBusy.get())
+                    .skippedNoOwner(run.skippedNoOwner.get())
+                    .failed(run.failed.get())
+                    .cardsProcessed(run.cardsProcessed.get())
+                    .created(run.created.get())
+                    .updated(run.updated.get())
+                    .build());
+            log.info("Trello auto-sync finished: durationMs={} projects={} synced={} skippedInactive={} skippedBusy={} skippedNoOwner={} failed={}",
+                    saved.getDurationMs(), saved.getProjects(), saved.getSynced(), saved.getSkippedInactive(),
+                    saved.getSkippedBusy(), saved.getSkippedNoOwner(), saved.getFailed());
+            long pruned = runRepository.deleteByStartedAtBefore(finishedAt.minus(runRetention));
+            if (pruned > 0) {
+                log.info("Trello auto-sync runs pruned: {}", pruned);
+            }
+        } catch (Exception e) {
+            log.error("Trello auto-sync run could not be recorded", e);
+        } finally {
+            current.compareAndSet(run, null);
+        }
+    }
+
+    private TrelloAutoSyncRunResponse toResponse(TrelloAutoSyncRun run) {
+        return TrelloAutoSyncRunResponse.builder()
+                .id(run.getId())
+                .startedAt(run.getStartedAt())
+                .finishedAt(run.getFinishedAt())
+                .durationMs(run.getDurationMs())
+                .projects(run.getProjects())
+                .synced(run.getSynced())
+                .skippedInactive(run.getSkippedInactive())
+                .skippedBusy(run.getSkippedBusy())
+                .skippedNoOwner(run.getSkippedNoOwner())
+                .failed(run.getFailed())
+                .cardsProcessed(run.getCardsProcessed())
+                .created(run.getCreated())
+                .updated(run.getUpdated())
+                .build();
+    }
+
+    /**
+     * Counters of the run in progress; project syncs update them from pool threads.
+     */
+    private static final class RunProgress {
+        private final Instant startedAt = Instant.now();
+        private final int projects;
+        private final AtomicInteger pending;
+        private final AtomicInteger synced = new AtomicInteger();
+        private final AtomicInteger skippedInactive = new AtomicInteger();
+        private final AtomicInteger skippedBusy = new AtomicInteger();
+        private final AtomicInteger skippedNoOwner = new AtomicInteger();
+        private final AtomicInteger failed = new AtomicInteger();
+        private final AtomicInteger cardsProcessed = new AtomicInteger();
+        private final AtomicInteger created = new AtomicInteger();
+        private final AtomicInteger updated = new AtomicInteger();
+
+        private RunProgress(int projects) {
+            this.projects = projects;
+            this.pending = new AtomicInteger(projects);
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.devpulsex.service;
+
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.devpulsex.dto.trello.BoardAnalyticsResponse;
+import com.devpulsex.dto.trello.BoardAnalyticsResponse.AgeDistribution;
+import com.devpulsex.dto.trello.BoardAnalyticsResponse.Count;
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Board statistics in one pass over a board snapshot's cards, with one mutable counter
+ * per list, label and member. Overdue cards and card ages depend on the time of the
+ * request, so the pass keeps open due dates and creation times in sorted arrays and
+ * {@link Summary#at} counts them for a given instant with binary searches.
+ */
+final class TrelloBoardAnalytics {
+
+    private static final long DAY_SECONDS = 24 * 60 * 60;
+
+    private TrelloBoardAnalytics() {
+    }
+
+    private static final class Counter {
+        private final String name;
+        private int count;
+
+        private Counter(String name) {
+            this.name = name;
+        }
+    }
+
+    /**
+     * The time-independent part of a board's analytics, reusable for as long as its snapshot is.
+     */
+    static final class Summary {
+        private final String boardId;
+        private final int totalCards;
+        private final List<Count> byList;
+        private final List<Count> byLabel;
+        private final List<Count> byMember;
+        // Epoch millis of due dates not marked complete, ascending
+        private final long[] openDueMillis;
+        // Epoch seconds of card creation, ascending
+        private final long[] createdSeconds;
+
+        private Summary(String boardId, int totalCards, List<Count> byList, List<Count> byLabel,
+                        List<Count> byMember, long[] openDueMillis, long[] createdSeconds) {
+            this.boardId = boardId;
+            this.totalCards = totalCards;
+            this.byList = byList;
+            this.byLabel = byLabel;
+            this.byMember = byMember;
+            this.openDueMillis = openDueMillis;
+            this.createdSeconds = createdSeconds;
+        }
+
+        BoardAnalyticsResponse at(Instant now) {
+            long nowSeconds = now.getEpochSecond();
+            // Cards created after each cutoff, i.e. younger than 7, 30 and 90 whole days
+            int under7 = createdSeconds.length - countAtMost(createdSeconds, nowSeconds - 7 * DAY_SECONDS);
+            int under30 = createdSeconds.length - countAtMost(createdSeconds, nowSeconds - 30 * DAY_SECONDS);
+            int under90 = createdSeconds.length - countAtMost(createdSeconds, nowSeconds - 90 * DAY_SECONDS);
+            return BoardAnalyticsResponse.builder()
+                    .boardId(boardId)
+                    .totalCards(totalCards)
+                    .overdueCards(countAtMost(openDueMillis, now.toEpochMilli() - 1))
+                    .byList(byList)
+                    .byLabel(byLabel)
+                    .byMember(byMember)
+                    .age(AgeDistribution.builder()
+                            .under7Days(under7)
+                            .from7To30Days(under30 - under7)
+                            .from30To90Days(under90 - under30)
+                            .over90Days(createdSeconds.length - under90)
+                            .build())
+                    .computedAt(now)
+                    .build();
+        }
+    }
+
+    static BoardAnalyticsResponse analyze(String boardId, JsonNode board, Instant now) {
+        return summarize(boardId, board).at(now);
+    }
+
+    static Summary summarize(String boardId, JsonNode board) {
+        JsonNode lists = board.path("lists");
+        Map<String, Counter> byList = new LinkedHashMap<>();
+        for (JsonNode l : lists) {
+            byList.put(l.path("id").asText(), new Counter(l.path("name").asText()));
+        }
+        Map<String, Counter> byLabel = new LinkedHashMap<>();
+        Map<String, Counter> byMember = new LinkedHashMap<>();
+        JsonNode cards = board.path("cards");
+        long[] openDue = new long[cards.size()];
+        long[] created = new long[cards.size()];
+        int total = 0;
+        int dueCount = 0;
+        int createdCount = 0;
+
+        for (JsonNode card : cards) {
+            total++;
+            Counter list = byList.get(card.path("idList").asText());
+            if (list != null) {
+                list.count++;
+            }
+            for (JsonNode label : card.path("labels")) {
+                byLabel.computeIfAbsent(label.path("id").asText(), id -> new Counter(label.path("name").asText())).count++;
+            }
+            for (JsonNode member : card.path("idMembers")) {
+                byMember.computeIfAbsent(member.asText(), id -> new Counter(null)).count++;
+            }
+            Instant due = openDue(card);
+            if (due != null) {
+                openDue[dueCount++] = due.toEpochMilli();
+            }
+            long createdAt = createdEpochSecond(card.path("id").asText());
+            if (createdAt > 0) {
+                created[createdCount++] = createdAt;
+            }
+        }
+
+        openDue = Arrays.copyOf(openDue, dueCount);
+        created = Arrays.copyOf(created, createdCount);
+        Arrays.sort(openDue);
+        Arrays.sort(created);
+        return new Summary(boardId, total, toCounts(byList), toCounts(byLabel), toCounts(byMember), openDue, created);
+    }
+
+    /**
+     * Number of values in {@code sorted} that are at most {@code limit}.
+     */
+    private static int countAtMost(long[] sorted, long limit) {
+        int low = 0;
+        int high = sorted.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (sorted[mid] <= limit) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * The card's due date, or null when it has none or it is marked complete.
+     */
+    private static Instant openDue(JsonNode card) {
+        String due = card.path("due").asText(null);
+        if (due == null || card.path("dueComplete").asBoolean(false)) {
+            return null;
+        }
+        try {
+            return Instant.parse(due);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Trello ids are Mongo ObjectIds: the first 8 hex digits are the creation time in epoch seconds.
+     */
+    static long createdEpochSecond(String id) {
+        if (id == null || id.length() < 8) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(id.substring(0, 8), 16);
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static List<Count> toCounts(Map<String, Counter> counters) {
+        List<Count> counts = new ArrayList<>(counters.size());
+        counters.forEach((id, counter) -> counts.add(new Count(id, counter.name, counter.count)));
+        return counts;
+    }
+}
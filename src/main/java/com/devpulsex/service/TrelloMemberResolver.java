@@ -0,0 +1,73 @@
+package com.devpulsex.service;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.devpulsex.model.User;
+import com.devpulsex.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Maps Trello member ids to DevPulseX user ids via {@link User#getTrelloId()}.
+ *
+ * Resolutions, including members no user has linked, are cached for
+ * {@code trello.members.cache-ttl-seconds}; the misses of a call are looked up together with
+ * one {@code IN} query. Linking, unlinking or deleting a user must {@link #evict} their
+ * Trello id.
+ */
+@Service
+public class TrelloMemberResolver {
+
+    private final UserRepository userRepository;
+    private final Cache<String, Optional<Long>> userIds;
+
+    public TrelloMemberResolver(UserRepository userRepository,
+                                @Value("${trello.members.cache-ttl-seconds:600}") long ttlSeconds,
+                                @Value("${trello.members.max-entries:10000}") long maxEntries) {
+        this.userRepository = userRepository;
+        this.userIds = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .maximumSize(maxEntries)
+                .build();
+    }
+
+    /**
+     * User ids of the given members; members without a linked user are left out.
+     */
+    public Map<String, Long> resolve(Collection<String> memberIds) {
+        Map<String, Long> resolved = new HashMap<>();
+        Set<String> missing = new HashSet<>();
+        for (String memberId : memberIds) {
+            Optional<Long> userId = userIds.getIfPresent(memberId);
+            if (userId == null) {
+                missing.add(memberId);
+            } else {
+                userId.ifPresent(id -> resolved.put(memberId, id));
+            }
+        }
+        if (!missing.isEmpty()) {
+            for (User user : userRepository.findByTrelloIdIn(missing)) {
+                resolved.put(user.getTrelloId(), user.getId());
+            }
+            for (String memberId : missing) {
+                userIds.put(memberId, Optional.ofNullable(resolved.get(memberId)));
+            }
+        }
+        return resolved;
+    }
+
+    public void evict(String memberId) {
+        if (memberId != null) {
+            userIds.invalidate(memberId);
+        }
+    }
+}
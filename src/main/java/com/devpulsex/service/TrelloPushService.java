@@ -0,0 +1,194 @@
+package com.devpulsex.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+
+import com.devpulsex.integration.IntegrationCredentialContext;
+import com.devpulsex.model.Project;
+import com.devpulsex.model.Task;
+import com.devpulsex.model.TaskStatus;
+import com.devpulsex.repository.ProjectRepository;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Pushes task title and status changes of Trello-linked tasks back to their cards.
+ *
+ * Changes are queued in memory per card and coalesced: each edit replaces the card's pending
+ * push and restarts its {@code trello.push.coalesce-ms} quiet period, so a burst of edits
+ * becomes one card update. A scheduled flush sends ready pushes without blocking (the Trello
+ * client throttles per token) and never runs two pushes for one card at once. A failed push is
+ * retried with exponential backoff up to {@code trello.push.max-attempts} times unless a newer
+ * edit of the card has been queued meanwhile. Pushes use the Trello token of the user who made
+ * the change; changes by users who have not linked Trello are not pushed, so nobody's Trello
+ * account shows edits they did not make. Pending pushes do not survive a restart.
+ */
+@Service
+public class TrelloPushService {
+
+    private static final Logger log = LoggerFactory.getLogger(TrelloPushService.class);
+
+    private final TrelloService trelloService;
+    private final ProjectRepository projectRepository;
+    private final IntegrationCredentialContext credentialContext;
+
+    private final boolean enabled;
+    private final Duration coalesce;
+    private final Duration retryBackoff;
+    private final int maxAttempts;
+    private final int maxPending;
+    private final int concurrency;
+
+    // card id -> latest change not yet sent
+    private final Map<String, PendingPush> pending = new ConcurrentHashMap<>();
+    // card ids with a push on the wire
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+
+    public TrelloPushService(TrelloService trelloService,
+                             ProjectRepository projectRepository,
+                             IntegrationCredentialContext credentialContext,
+                             @Value("${trello.push.enabled:true}") boolean enabled,
+                             @Value("${trello.push.coalesce-ms:2000}") long coalesceMs,
+                             @Value("${trello.push.retry-backoff-ms:5000}") long retryBackoffMs,
+                             @Value("${trello.push.max-attempts:5}") int maxAttempts,
+                             @Value("${trello.push.max-pending:10000}") int maxPending,
+                             @Value("${trello.push.concurrency:4}") int concurrency) {
+        this.trelloService = trelloService;
+        this.projectRepository = projectRepository;
+        this.credentialContext = credentialContext;
+        this.enabled = enabled;
+        this.coalesce = Duration.ofMillis(coalesceMs);
+        this.retryBackoff = Duration.ofMillis(retryBackoffMs);
+        this.maxAttempts = maxAttempts;
+        this.maxPending = maxPending;
+        this.concurrency = concurrency;
+    }
+
+    /**
+     * Queue the task's current title and status for its card. No-op for tasks not synced from
+     * a board the project is still linked to.
+     */
+    public void enqueue(Task task) {
+        Project project = task.getProject();
+        if (!enabled || task.getTrelloCardId() == null || project == null || project.getTrelloBoardId() == null) {
+            return;
+        }
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        String email = authentication != null ? authentication.getName() : null;
+        String cardId = task.getTrelloCardId();
+        if (pending.size() >= maxPending && !pending.containsKey(cardId)) {
+            log.warn("Trello push queue full; task change not pushed");
+            return;
+        }
+        pending.put(cardId, new PendingPush(cardId, project.getId(), task.getTitle(), task.getStatus(), email,
+                Instant.now().plus(coalesce), 0));
+    }
+
+    @Scheduled(fixedDelayString = "${trello.push.flush-interval-ms:1000}")
+    public void flush() {
+        if (!enabled || pending.isEmpty()) {
+            return;
+        }
+        Instant now = Instant.now();
+        List<PendingPush> ready = new ArrayList<>();
+        for (PendingPush push : pending.values()) {
+            if (!push.readyAt().isAfter(now) && !inFlight.contains(push.cardId())
+                    && pending.remove(push.cardId(), push)) {
+                inFlight.add(push.cardId());
+                ready.add(push);
+            }
+        }
+        if (ready.isEmpty()) {
+            return;
+        }
+
+        // Tokens, owners and status rules are resolved here, so no database work runs on Trello client threads
+        Map<Long, Project> projects = projectRepository
+                .findAllById(ready.stream().map(PendingPush::projectId).collect(Collectors.toSet())).stream()
+                .collect(Collectors.toMap(Project::getId, Function.identity()));
+        List<Mono<Void>> sends = new ArrayList<>(ready.size());
+        for (PendingPush push : ready) {
+            Mono<Void> send = prepare(push, projects.get(push.projectId()));
+            if (send == null) {
+                inFlight.remove(push.cardId());
+                continue;
+            }
+            sends.add(send
+                    .doFinally(signal -> inFlight.remove(push.cardId()))
+                    .onErrorResume(e -> {
+                        retryLater(push, e);
+                        return Mono.empty();
+                    }));
+        }
+        Flux.fromIterable(sends).flatMap(Function.identity(), concurrency).subscribe();
+        log.info("Trello push flush started: cards={} stillPending={}", sends.size(), pending.size());
+    }
+
+    /**
+     * The card update for a push, or null when it cannot be sent.
+     */
+    private Mono<Void> prepare(PendingPush push, Project project) {
+        if (project == null || project.getTrelloBoardId() == null) {
+            return null;
+        }
+        if (!editorLinkedTrello(push)) {
+            log.info("Trello push skipped: the editing user has not linked Trello");
+            return null;
+        }
+        try {
+            return trelloService.pushCardForUser(project, push.cardId(), push.title(), push.status(), push.email());
+        } catch (RuntimeException e) {
+            retryLater(push, e);
+            return null;
+        }
+    }
+
+    private boolean editorLinkedTrello(PendingPush push) {
+        if (push.email() == null) {
+            return false;
+        }
+        try {
+            return credentialContext.forUser(push.email()).hasTrelloToken();
+        } catch (RuntimeException e) {
+            // User deleted since the change
+            return false;
+        }
+    }
+
+    private void retryLater(PendingPush push, Throwable error) {
+        int attempts = push.attempts() + 1;
+        // Missing or undecryptable tokens will not fix themselves
+        if (error instanceof IllegalStateException || attempts >= maxAttempts) {
+            log.warn("Trello card push dropped after {} attempt(s)", attempts);
+            return;
+        }
+        Instant retryAt = Instant.now().plus(retryBackoff.multipliedBy(1L << (attempts - 1)));
+        // A newer edit queued meanwhile supersedes this one
+        if (pending.putIfAbsent(push.cardId(), push.retry(retryAt, attempts)) == null) {
+            log.info("Trello card push failed; retry {} scheduled", attempts);
+        }
+    }
+
+    private record PendingPush(String cardId, Long projectId, String title, TaskStatus status, String email,
+                               Instant readyAt, int attempts) {
+        private PendingPush retry(Instant at, int attempt) {
+            return new PendingPush(cardId, projectId, title, status, email, at, attempt);
+        }
+    }
+}
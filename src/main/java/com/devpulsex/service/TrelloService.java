@@ -1,9 +1,15 @@
 package com.devpulsex.service;
 
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -11,89 +17,321 @@ import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Service;
 
 import com.devpulsex.dto.task.TaskDto;
+import com.devpulsex.dto.trello.BoardAnalyticsResponse;
+import com.devpulsex.dto.trello.BoardView;
+import com.devpulsex.dto.trello.CardView;
+import com.devpulsex.dto.trello.ListView;
+import com.devpulsex.dto.trello.StreamingBoardView;
 import com.devpulsex.exception.ResourceNotFoundException;
 import com.devpulsex.exception.TrelloApiException;
+import com.devpulsex.integration.IntegrationCredentialContext;
+import com.devpulsex.integration.IntegrationCredentialContext.LinkedAccount;
 import com.devpulsex.integration.trello.TrelloClient;
+import com.devpulsex.integration.trello.TrelloResponseCache;
+import com.devpulsex.integration.trello.TrelloResponseCache.Entry;
+import com.devpulsex.integration.trello.TrelloResponseCache.Scope;
+import com.devpulsex.integration.trello.TrelloWebhookRegistry;
 import com.devpulsex.model.Project;
 import com.devpulsex.model.TaskStatus;
-import com.devpulsex.integration.trello.TrelloTokenEncryptor;
-import com.devpulsex.model.User;
 import com.devpulsex.repository.ProjectRepository;
-import com.devpulsex.repository.UserRepository;
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import reactor.core.publisher.Mono;
 
 @Service
 public class TrelloService {
 
     private static final Logger log = LoggerFactory.getLogger(TrelloService.class);
 
+    private static final Set<String> LIST_ACTION_TYPES = Set.of("createList", "updateList", "moveListToBoard", "moveListFromBoard");
+
     private final TrelloClient trelloClient;
     private final ProjectRepository projectRepository;
-    private final UserRepository userRepository;
-    private final TrelloTokenEncryptor tokenEncryptor;
+    private final IntegrationCredentialContext credentialContext;
+    private final TrelloResponseCache responseCache;
+    private final TrelloWebhookRegistry webhookRegistry;
+    private final TrelloStatusRuleService statusRuleService;
+    // Keyed by snapshot identity: an entry lives as long as the cached snapshot it was computed from
+    private final Cache<JsonNode, TrelloBoardAnalytics.Summary> boardAnalytics = Caffeine.newBuilder()
+            .weakKeys()
+            .maximumSize(1000)
+            .build();
 
     public TrelloService(TrelloClient trelloClient, ProjectRepository projectRepository,
-                         UserRepository userRepository, TrelloTokenEncryptor tokenEncryptor) {
+                         IntegrationCredentialContext credentialContext,
+                         TrelloResponseCache responseCache, TrelloWebhookRegistry webhookRegistry,
+                         TrelloStatusRuleService statusRuleService) {
         this.trelloClient = trelloClient;
         this.projectRepository = projectRepository;
-        this.userRepository = userRepository;
-        this.tokenEncryptor = tokenEncryptor;
+        this.credentialContext = credentialContext;
+        this.responseCache = responseCache;
+        this.webhookRegistry = webhookRegistry;
+        this.statusRuleService = statusRuleService;
     }
 
-    public JsonNode getUserBoards(Authentication authentication) {
-        String token = requireUserToken(authentication);
-        try {
-            log.info("Trello boards fetch started");
-            JsonNode boards = trelloClient.getBoards(token);
-            log.info("Trello boards fetch succeeded");
-            return boards;
-        }
-        catch (Exception e) {
-            log.error("Trello boards fetch failed", e);
-            throw new TrelloApiException(e.getMessage() != null ? e.getMessage() : "External integration failed", e);
-        }
+    public Mono<JsonNode> getUserBoards(Authentication authentication) {
+        TrelloCredentials credentials = requireCredentials(authentication);
+        String memberId = credentials.account().getTrelloId();
+        return responseCache.get(Scope.BOARDS, credentials.ownerId(), memberId,
+                () -> fetch("boards", trelloClient.getBoards(credentials.token()))
+                        .map(boards -> {
+                            Set<String> tags = idsOf(boards, "id");
+                            tags.add(memberId);
+                            return new Entry(boards, tags, webhookRegistry.ensureWatched(memberId, credentials.ownerId(), credentials.token()));
+                        }));
+    }
+
+    public Mono<JsonNode> getBoardLists(String boardId, Authentication authentication) {
+        TrelloCredentials credentials = requireCredentials(authentication);
+        return responseCache.get(Scope.LISTS, credentials.ownerId(), boardId,
+                () -> fetch("lists", trelloClient.getLists(boardId, credentials.token()))
+                        .map(lists -> {
+                            Set<String> tags = idsOf(lists, "id");
+                            tags.add(boardId);
+                            return new Entry(lists, tags, webhookRegistry.ensureWatched(boardId, credentials.ownerId(), credentials.token()));
+                        }));
+    }
+    
+    public Mono<JsonNode> getListCards(String listId, Authentication authentication) {
+        TrelloCredentials credentials = requireCredentials(authentication);
+        return responseCache.get(Scope.CARDS, credentials.ownerId(), listId,
+                () -> fetch("cards", trelloClient.getCards(listId, credentials.token()))
+                        .map(cards -> {
+                            // An empty list has no card to tell us its board; it stays unwatched
+                            Set<String> boardIds = idsOf(cards, "idBoard");
+                            boolean watched = !boardIds.isEmpty() && boardIds.stream()
+                                    .allMatch(boardId -> webhookRegistry.ensureWatched(boardId, credentials.ownerId(), credentials.token()));
+                            Set<String> tags = new HashSet<>(boardIds);
+                            tags.add(listId);
+                            return new Entry(cards, tags, watched);
+                        }));
+    }
+
+    /**
+     * Fetch a board with its open lists and cards in one Trello call, using the Trello token of
+     * the user with {@code email}. Always goes to Trello; used by background task sync, which
+     * must see the current board.
+     */
+    public Mono<JsonNode> getBoardSnapshotForUser(String boardId, String email) {
+        String token = credentialsFor(email).token();
+        return fetch("board snapshot", trelloClient.getBoardWithListsAndCards(boardId, token));
+    }
+
+    /**
+     * When anything last happened on the board, as seen with {@code email}'s token;
+     * empty if Trello does not report it.
+     */
+    public Mono<Instant> getBoardLastActivityForUser(String boardId, String email) {
+        String token = credentialsFor(email).token();
+        return fetch("board activity", trelloClient.getBoardActivity(boardId, token))
+                .mapNotNull(board -> parseInstant(board.path("dateLastActivity").asText(null)));
+    }
+
+    /**
+     * Bring a card in line with its task using {@code email}'s Trello token: rename it to
+     * {@code title}, and move it to the first open list that maps to {@code status} unless
+     * the list it is on already does. Sends nothing when the card already matches, is no
+     * longer on the project's board, or no list maps to the status (the rename still goes).
+     */
+    public Mono<Void> pushCardForUser(Project project, String cardId, String title, TaskStatus status, String email) {
+        String token = credentialsFor(email).token();
+        String boardId = project.getTrelloBoardId();
+        ListStatusMatcher matcher = statusRuleService.matcherFor(project);
+        return fetch("card push state", trelloClient.getBoardListsAndCards(boardId, List.of(cardId), token))
+                .flatMap(board -> {
+                    JsonNode card = board.path("cards").path(0);
+                    if (!boardId.equals(card.path("idBoard").asText())) {
+                        log.info("Trello card push skipped: card is not on the project's board");
+                        return Mono.empty();
+                    }
+                    Map<String, String> changes = new LinkedHashMap<>();
+                    if (title != null && !title.equals(card.path("name").asText())) {
+                        changes.put("name", title);
+                    }
+                    String currentListId = card.path("idList").asText();
+                    String targetListId = null;
+                    boolean onMatchingList = false;
+                    for (JsonNode list : board.path("lists")) {
+                        String listId = list.path("id").asText();
+                        if (matcher.statusFor(listId, list.path("name").asText()) == status) {
+                            onMatchingList |= listId.equals(currentListId);
+                            if (targetListId == null) {
+                                targetListId = listId;
+                            }
+                        }
+                    }
+                    if (status != null && !onMatchingList && targetListId != null) {
+                        changes.put("idList", targetListId);
+                    }
+                    if (changes.isEmpty()) {
+                        return Mono.empty();
+                    }
+                    Set<String> touched = new HashSet<>(List.of(boardId, currentListId));
+                    if (targetListId != null) {
+                        touched.add(targetListId);
+                    }
+                    return trelloClient.updateCard(cardId, changes, token)
+                            .doOnSuccess(updated -> responseCache.invalidate(touched))
+                            .then();
+                });
+    }
+
+    /**
+     * Cards changed on a board since {@code since}, shaped like a board snapshot
+     * ({@code lists} holds only the lists those cards are on now).
+     *
+     * @param board the changes, with {@code latestActivity} the date of the newest action
+     *              seen ({@code since} when there was none)
+     */
+    public record BoardDelta(JsonNode board, Instant latestActivity) {}
+
+    /**
+     * Read the board's actions feed after {@code since} and fetch only the cards it touches.
+     * Empty when a delta cannot be trusted and the caller should read the whole board:
+     * a list was created, renamed, moved or archived (statuses depend on list names), the
+     * feed was truncated, or more than {@code maxCards} cards changed.
+     */
+    public Mono<BoardDelta> getBoardDeltaForUser(String boardId, String email, Instant since, int maxCards) {
+        String token = credentialsFor(email).token();
+        return fetch("board actions", trelloClient.getBoardActionsSince(boardId, since, token))
+                .flatMap(actions -> {
+                    if (actions.size() >= TrelloClient.ACTIONS_PAGE_LIMIT) {
+                        return Mono.<BoardDelta>empty();
+                    }
+                    Set<String> cardIds = new LinkedHashSet<>();
+                    Instant latest = since;
+                    for (JsonNode action : actions) {
+                        if (LIST_ACTION_TYPES.contains(action.path("type").asText())) {
+                            return Mono.<BoardDelta>empty();
+                        }
+                        String cardId = action.path("data").path("card").path("id").asText("");
+                        if (!cardId.isEmpty()) {
+                            cardIds.add(cardId);
+                        }
+                        Instant date = parseInstant(action.path("date").asText(null));
+                        if (date != null && date.isAfter(latest)) {
+                            latest = date;
+                        }
+                    }
+                    if (cardIds.size() > maxCards) {
+                        return Mono.<BoardDelta>empty();
+                    }
+                    Instant latestActivity = latest;
+                    if (cardIds.isEmpty()) {
+                        return Mono.just(new BoardDelta(boardOf(List.of(), List.of()), latestActivity));
+                    }
+                    // The board's lists and every changed card in one /batch call per ten routes
+                    return fetch("changed cards", trelloClient.getBoardListsAndCards(boardId, List.copyOf(cardIds), token))
+                            .map(found -> {
+                                List<JsonNode> changedCards = new ArrayList<>();
+                                for (JsonNode card : found.path("cards")) {
+                                    if (!card.path("closed").asBoolean(false) && boardId.equals(card.path("idBoard").asText())) {
+                                        changedCards.add(card);
+                                    }
+                                }
+                                Set<String> touchedLists = idsOf(toArray(changedCards), "idList");
+                                List<JsonNode> lists = new ArrayList<>();
+                                for (JsonNode l : found.path("lists")) {
+                                    if (touchedLists.contains(l.path("id").asText())) {
+                                        lists.add(l);
+                                    }
+                                }
+                                return new BoardDelta(boardOf(lists, changedCards), latestActivity);
+                            });
+                });
+    }
+
+    private JsonNode toArray(List<JsonNode> nodes) {
+        ArrayNode array = JsonNodeFactory.instance.arrayNode();
+        array.addAll(nodes);
+        return array;
     }
-    public JsonNode getBoardLists(String boardId, Authentication authentication) {
-        String token = requireUserToken(authentication);
+
+    private JsonNode boardOf(List<JsonNode> lists, List<JsonNode> cards) {
+        ObjectNode board = JsonNodeFactory.instance.objectNode();
+        board.set("lists", toArray(lists));
+        board.set("cards", toArray(cards));
+        return board;
+    }
+
+    private static Instant parseInstant(String value) {
+        if (value == null) return null;
         try {
-            log.info("Trello lists fetch started");
-            JsonNode lists = trelloClient.getLists(boardId, token);
-            log.info("Trello lists fetch succeeded");
-            return lists;
+            return Instant.parse(value);
+        } catch (DateTimeParseException e) {
+            return null;
         }
-        catch (Exception e) {
-            log.error("Trello lists fetch failed", e);
-            throw new TrelloApiException(e.getMessage() != null ? e.getMessage() : "External integration failed", e);
+    }
+
+    /**
+     * Board snapshot served from the response cache until the board changes.
+     */
+    private Mono<JsonNode> getCachedBoardSnapshot(String boardId, Authentication authentication) {
+        TrelloCredentials credentials = requireCredentials(authentication);
+        return responseCache.get(Scope.BOARD, credentials.ownerId(), boardId,
+                () -> fetch("board snapshot", trelloClient.getBoardWithListsAndCards(boardId, credentials.token()))
+                        .map(board -> {
+                            Set<String> tags = idsOf(board.path("lists"), "id");
+                            tags.add(boardId);
+                            return new Entry(board, tags, webhookRegistry.ensureWatched(boardId, credentials.ownerId(), credentials.token()));
+                        }));
+    }
+
+    private static Set<String> idsOf(JsonNode items, String field) {
+        Set<String> ids = new HashSet<>();
+        for (JsonNode item : items) {
+            String id = item.path(field).asText(null);
+            if (id != null && !id.isBlank()) {
+                ids.add(id);
+            }
         }
+        return ids;
     }
-    
-    public JsonNode getListCards(String listId, Authentication authentication) {
-        String token = requireUserToken(authentication);
-        try {
-            log.info("Trello cards fetch started");
-            JsonNode cards = trelloClient.getCards(listId, token);
-            log.info("Trello cards fetch succeeded");
-            return cards;
+
+    /**
+     * Group a board snapshot's cards by list, preserving the board's list order.
+     * Lists without cards map to an empty list; cards on unknown lists are dropped.
+     */
+    public Map<String, List<JsonNode>> groupCardsByList(JsonNode board) {
+        Map<String, List<JsonNode>> cardsByList = new LinkedHashMap<>();
+        if (board == null) return cardsByList;
+        for (JsonNode l : board.path("lists")) {
+            cardsByList.put(l.path("id").asText(), new ArrayList<>());
         }
-        catch (Exception e) {
-            log.error("Trello cards fetch failed", e);
-            throw new TrelloApiException(e.getMessage() != null ? e.getMessage() : "External integration failed", e);
+        for (JsonNode c : board.path("cards")) {
+            List<JsonNode> listCards = cardsByList.get(c.path("idList").asText());
+            if (listCards != null) {
+                listCards.add(c);
+            }
         }
+        return cardsByList;
     }
 
-    public List<TaskDto> mapCardsToTaskDtos(JsonNode cards, Long projectId) {
+    /**
+     * Preview a board snapshot's cards as tasks of {@code project}, with statuses from the
+     * project's list-to-status rules.
+     */
+    public List<TaskDto> mapCardsToTaskDtos(JsonNode board, Project project) {
         List<TaskDto> tasks = new ArrayList<>();
-        if (cards == null || !cards.isArray()) return tasks;
-        for (JsonNode c : cards) {
-            String name = c.path("name").asText();
-            String desc = c.path("desc").asText(null);
-            TaskStatus status = TaskStatus.TODO; // default
-            // Attempt to derive status from labels or card name patterns if desired
+        if (board == null || !board.path("cards").isArray()) return tasks;
+        ListStatusMatcher matcher = statusRuleService.matcherFor(project);
+        Map<String, String> listNames = new HashMap<>();
+        for (JsonNode l : board.path("lists")) {
+            listNames.put(l.path("id").asText(), l.path("name").asText());
+        }
+        for (JsonNode c : board.path("cards")) {
+            String listId = c.path("idList").asText();
             tasks.add(TaskDto.builder()
-                    .title(name)
-                    .description(desc)
-                    .projectId(projectId)
-                    .status(status)
+                    .title(c.path("name").asText())
+                    .description(c.path("desc").asText(null))
+                    .projectId(project.getId())
+                    .status(matcher.statusFor(listId, listNames.get(listId)))
+                    .trelloCardId(c.path("id").asText())
                     .build());
         }
         return tasks;
@@ -104,90 +342,105 @@ public class TrelloService {
         return project;
     }
 
-    public TaskStatus mapListNameToStatus(String listName) {
-        if (listName == null) return TaskStatus.TODO;
-        String ln = listName.toLowerCase();
-        if (ln.contains("done") || ln.contains("complete") || ln.matches(".*\\bdone\\b.*")) return TaskStatus.DONE;
-        if (ln.contains("doing") || ln.contains("progress") || ln.contains("review")) return TaskStatus.IN_PROGRESS;
-        if (ln.contains("block")) return TaskStatus.BLOCKED;
-        return TaskStatus.TODO;
-    }
-
-    public Map<String, Object> buildBoardAggregate(String boardId, Authentication authentication) {
-        JsonNode lists = getBoardLists(boardId, authentication);
-        List<Map<String, Object>> listAgg = new ArrayList<>();
-        if (lists != null && lists.isArray()) {
-            for (JsonNode l : lists) {
-                String listId = l.path("id").asText();
-                String listName = l.path("name").asText();
-                JsonNode cards = getListCards(listId, authentication);
-                List<Map<String, Object>> cardViews = new ArrayList<>();
-                if (cards != null && cards.isArray()) {
-                    for (JsonNode c : cards) {
-                        Map<String, Object> cardMap = new HashMap<>();
-                        cardMap.put("id", c.path("id").asText());
-                        cardMap.put("name", c.path("name").asText());
-                        cardMap.put("desc", c.path("desc").asText());
-                        // labels
-                        List<String> labels = new ArrayList<>();
-                        if (c.path("labels").isArray()) {
-                            for (JsonNode lab : c.path("labels")) {
-                                labels.add(lab.path("name").asText());
-                            }
-                        }
-                        cardMap.put("labels", labels);
-                        // members
-                        List<String> members = new ArrayList<>();
-                        if (c.path("idMembers").isArray()) {
-                            for (JsonNode m : c.path("idMembers")) {
-                                members.add(m.asText());
-                            }
-                        }
-                        cardMap.put("memberIds", members);
-                        cardViews.add(cardMap);
-                    }
-                }
-                Map<String, Object> listMap = new HashMap<>();
-                listMap.put("listId", listId);
-                listMap.put("listName", listName);
-                listMap.put("cards", cardViews);
-                listAgg.add(listMap);
+    /**
+     * Counts by list, label and member, overdue cards and card ages for a board. The counts are
+     * computed once per cached board snapshot; overdue cards and ages are evaluated at request time.
+     */
+    public Mono<BoardAnalyticsResponse> getBoardAnalytics(String boardId, Authentication authentication) {
+        return getCachedBoardSnapshot(boardId, authentication)
+                .map(board -> boardAnalytics.get(board, b -> TrelloBoardAnalytics.summarize(boardId, b)).at(Instant.now()));
+    }
+
+    /**
+     * Board aggregate as typed projections, for callers that work with the result.
+     */
+    public Mono<BoardView> buildBoardAggregate(String boardId, Authentication authentication) {
+        return getCachedBoardSnapshot(boardId, authentication).map(this::toBoardView);
+    }
+
+    /**
+     * Board aggregate serialized straight from the cached snapshot, for responses.
+     */
+    public Mono<StreamingBoardView> streamBoardAggregate(String boardId, Authentication authentication) {
+        return getCachedBoardSnapshot(boardId, authentication)
+                .map(board -> new StreamingBoardView(board.path("lists"), groupCardsByList(board)));
+    }
+
+    private BoardView toBoardView(JsonNode board) {
+        Map<String, List<JsonNode>> cardsByList = groupCardsByList(board);
+        List<ListView> lists = new ArrayList<>(cardsByList.size());
+        for (JsonNode l : board.path("lists")) {
+            String listId = l.path("id").asText();
+            List<JsonNode> cards = cardsByList.getOrDefault(listId, List.of());
+            List<CardView> cardViews = new ArrayList<>(cards.size());
+            for (JsonNode c : cards) {
+                cardViews.add(toCardView(c));
             }
+            lists.add(new ListView(listId, l.path("name").asText(), cardViews));
+        }
+        return new BoardView(lists);
+    }
+
+    private static CardView toCardView(JsonNode card) {
+        JsonNode labelNodes = card.path("labels");
+        List<String> labels = new ArrayList<>(labelNodes.size());
+        for (JsonNode label : labelNodes) {
+            labels.add(label.path("name").asText());
+        }
+        JsonNode memberNodes = card.path("idMembers");
+        List<String> memberIds = new ArrayList<>(memberNodes.size());
+        for (JsonNode member : memberNodes) {
+            memberIds.add(member.asText());
         }
-        Map<String, Object> root = new HashMap<>();
-        root.put("lists", listAgg);
-        return root;
+        return new CardView(card.path("id").asText(), card.path("name").asText(), card.path("desc").asText(),
+                labels, memberIds);
     }
 
-    @SuppressWarnings("null")
-    public Map<String, Object> getTrelloDashboardForProject(Long projectId, Authentication authentication) {
+    public Mono<StreamingBoardView> getTrelloDashboardForProject(Long projectId, Authentication authentication) {
         Project project = projectRepository.findById(projectId)
                 .orElseThrow(() -> new ResourceNotFoundException("Project not found: " + projectId));
         if (project.getTrelloBoardId() == null || project.getTrelloBoardId().isBlank()) {
             throw new IllegalArgumentException("Project has no trelloBoardId configured");
         }
-        return buildBoardAggregate(project.getTrelloBoardId(), authentication);
+        return streamBoardAggregate(project.getTrelloBoardId(), authentication);
     }
 
-    private String requireUserToken(Authentication authentication) {
+    /**
+     * Log and wrap failures of a Trello call; the token lookup has already happened on the caller's thread.
+     */
+    private Mono<JsonNode> fetch(String what, Mono<JsonNode> call) {
+        return call
+                .doOnSubscribe(subscription -> log.info("Trello {} fetch started", what))
+                .doOnSuccess(result -> log.info("Trello {} fetch succeeded", what))
+                .onErrorMap(e -> {
+                    log.error("Trello {} fetch failed", what, e);
+                    return e instanceof TrelloApiException ? e
+                            : new TrelloApiException(e.getMessage() != null ? e.getMessage() : "External integration failed", e);
+                });
+    }
+
+    private record TrelloCredentials(LinkedAccount account, String token) {
+        Long ownerId() {
+            return account.getUserId();
+        }
+    }
+
+    private TrelloCredentials requireCredentials(Authentication authentication) {
         if (authentication == null || !authentication.isAuthenticated()) {
             log.warn("Trello authentication required");
             throw new IllegalArgumentException("Authentication required for Trello calls");
         }
-        String email = authentication.getName();
-        User user = userRepository.findByEmail(email)
-                .orElseThrow(() -> {
-                    log.error("Trello user lookup failed");
-                    return new ResourceNotFoundException("User not found");
-                });
-        if (user.getTrelloAccessToken() == null || user.getTrelloAccessToken().isBlank()) {
+        return credentialsFor(authentication.getName());
+    }
+
+    private TrelloCredentials credentialsFor(String email) {
+        LinkedAccount account = credentialContext.forUser(email);
+        if (!account.hasTrelloToken()) {
             log.warn("Trello token missing for user");
             throw new IllegalStateException("Authentication failed");
         }
         try {
-            String decrypted = tokenEncryptor.decrypt(user.getTrelloAccessToken());
-            log.info("Trello token decrypted");
-            return decrypted;
+            return new TrelloCredentials(account, account.trelloToken());
         } catch (Exception e) {
             log.error("Trello token decrypt failed");
             throw new IllegalStateException("Authentication failed", e);
@@ -0,0 +1,131 @@
+package com.devpulsex.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.devpulsex.dto.trello.TrelloStatusRuleDto;
+import com.devpulsex.exception.ResourceNotFoundException;
+import com.devpulsex.model.Project;
+import com.devpulsex.model.TrelloStatusRule;
+import com.devpulsex.repository.ProjectRepository;
+import com.devpulsex.repository.TrelloProjectSyncStateRepository;
+import com.devpulsex.repository.TrelloStatusRuleRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Per-project Trello list-to-status rules and their compiled {@link ListStatusMatcher}s,
+ * cached per (project, board) so a sync compiles them once. Replacing the rules evicts the
+ * project's matchers once the change is committed; other instances pick it up when their
+ * entries expire after {@code trello.status-rules.cache-ttl-seconds}.
+ */
+@Service
+public class TrelloStatusRuleService {
+
+    private final TrelloStatusRuleRepository ruleRepository;
+    private final ProjectRepository projectRepository;
+    private final TrelloProjectSyncStateRepository syncStateRepository;
+    private final AuthorizationScopeService authorizationScopeService;
+    private final Cache<MatcherKey, ListStatusMatcher> matchers;
+
+    private record MatcherKey(Long projectId, String boardId) {}
+
+    public TrelloStatusRuleService(TrelloStatusRuleRepository ruleRepository,
+                                   ProjectRepository projectRepository,
+                                   TrelloProjectSyncStateRepository syncStateRepository,
+                                   AuthorizationScopeService authorizationScopeService,
+                                   @Value("${trello.status-rules.max-cached-boards:1000}") long maxCachedBoards,
+                                   @Value("${trello.status-rules.cache-ttl-seconds:300}") long cacheTtlSeconds) {
+        this.ruleRepository = ruleRepository;
+        this.projectRepository = projectRepository;
+        this.syncStateRepository = syncStateRepository;
+        this.authorizationScopeService = authorizationScopeService;
+        this.matchers = Caffeine.newBuilder()
+                .maximumSize(maxCachedBoards)
+                .expireAfterWrite(Duration.ofSeconds(cacheTtlSeconds))
+                .build();
+    }
+
+    /**
+     * The compiled rules for the project's current board. Callers check project access.
+     */
+    public ListStatusMatcher matcherFor(Project project) {
+        return matchers.get(new MatcherKey(project.getId(), project.getTrelloBoardId()),
+                key -> ListStatusMatcher.compile(ruleRepository.findByProjectIdOrderByPositionAsc(key.projectId())));
+    }
+
+    public List<TrelloStatusRuleDto> getRules(Long projectId) {
+        requireProject(projectId);
+        return ruleRepository.findByProjectIdOrderByPositionAsc(projectId).stream().map(this::toDto).toList();
+    }
+
+    /**
+     * Replace the project's rules. Tasks already synced keep their status until their cards
+     * are synced again, so the project's delta watermark is dropped and the next sync is full.
+     */
+    @Transactional
+    public List<TrelloStatusRuleDto> replaceRules(Long projectId, List<TrelloStatusRuleDto> rules) {
+        requireProject(projectId);
+        List<TrelloStatusRule> entities = new ArrayList<>(rules.size());
+        for (TrelloStatusRuleDto rule : rules) {
+            entities.add(TrelloStatusRule.builder()
+                    .projectId(projectId)
+                    .position(entities.size())
+                    .type(rule.getType())
+                    .pattern(rule.getPattern().trim())
+                    .status(rule.getStatus())
+                    .build());
+        }
+        // Rejects invalid regexes before anything is written
+        ListStatusMatcher.compile(entities);
+
+        ruleRepository.deleteByProjectId(projectId);
+        List<TrelloStatusRule> saved = ruleRepository.saveAll(entities);
+        syncStateRepository.deleteById(projectId);
+        evictAfterCommit(projectId);
+        return saved.stream().map(this::toDto).toList();
+    }
+
+    /**
+     * Evicting before the commit would let a concurrent sync reload and cache the old rules.
+     */
+    private void evictAfterCommit(Long projectId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(projectId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict(projectId);
+            }
+        });
+    }
+
+    private void evict(Long projectId) {
+        matchers.asMap().keySet().removeIf(key -> key.projectId().equals(projectId));
+    }
+
+    @SuppressWarnings("null")
+    private Project requireProject(Long projectId) {
+        Project project = projectRepository.findById(projectId)
+                .orElseThrow(() -> new ResourceNotFoundException("Project not found: " + projectId));
+        authorizationScopeService.requireProjectAccess(project);
+        return project;
+    }
+
+    private TrelloStatusRuleDto toDto(TrelloStatusRule rule) {
+        return TrelloStatusRuleDto.builder()
+                .type(rule.getType())
+                .pattern(rule.getPattern())
+                .status(rule.getStatus())
+                .build();
+    }
+}
@@ -0,0 +1,377 @@
+package com.devpulsex.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Service;
+
+import com.devpulsex.dto.trello.TrelloSyncJobResponse;
+import com.devpulsex.exception.ResourceNotFoundException;
+import com.devpulsex.model.Project;
+import com.devpulsex.model.TrelloSyncJob;
+import com.devpulsex.model.TrelloProjectSyncState;
+import com.devpulsex.model.TrelloSyncJobStatus;
+import com.devpulsex.model.TrelloSyncMode;
+import com.devpulsex.repository.ProjectRepository;
+import com.devpulsex.repository.TrelloProjectSyncStateRepository;
+import com.devpulsex.repository.TrelloSyncJobRepository;
+import com.devpulsex.service.TrelloService.BoardDelta;
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Runs Trello task syncs as background jobs with progress, cancellation and resume.
+ *
+ * Starting a sync for a project that already has a job running returns that job. Starts
+ * are serialized per project, so concurrent requests (or a request racing the auto-sync
+ * scheduler) never run two jobs for one project in this instance. A failed, cancelled or
+ * interrupted job (still QUEUED/RUNNING in the database but not running here, e.g. after
+ * a restart) younger than {@code trello.sync.resume-window-minutes} is resumed: lists
+ * already checkpointed are skipped. Older partial jobs are left as they are and a fresh
+ * job starts.
+ *
+ * A completed job advances the project's sync watermark. {@link TrelloSyncMode#DELTA} jobs
+ * read only the board's actions since the watermark and upsert just the cards they touch;
+ * they fall back to a full read when there is no watermark for the project's current
+ * board or the delta is too large to trust (see {@link TrelloService#getBoardDeltaForUser}).
+ * {@link TrelloAutoSyncService} runs scheduled syncs through {@link #runScheduled}.
+ */
+@Service
+public class TrelloSyncJobService {
+
+    private static final Logger log = LoggerFactory.getLogger(TrelloSyncJobService.class);
+
+    private static final int ERROR_MAX_LENGTH = 500;
+    private static final EnumSet<TrelloSyncJobStatus> RESUMABLE = EnumSet.of(
+            TrelloSyncJobStatus.QUEUED, TrelloSyncJobStatus.RUNNING,
+            TrelloSyncJobStatus.FAILED, TrelloSyncJobStatus.CANCELLED);
+    // Full syncs set the watermark a little before they started, to absorb clock skew with Trello
+    private static final Duration WATERMARK_OVERLAP = Duration.ofMinutes(1);
+
+    private final TrelloSyncJobRepository jobRepository;
+    private final TrelloProjectSyncStateRepository syncStateRepository;
+    private final ProjectRepository projectRepository;
+    private final TrelloService trelloService;
+    private final TrelloSyncService trelloSyncService;
+    private final AuthorizationScopeService authorizationScopeService;
+    private final TrelloMemberResolver memberResolver;
+    private final TaskExecutor executor;
+    private final Duration resumeWindow;
+    private final int deltaMaxCards;
+
+    // job id -> cancellation flag, for jobs queued or running in this instance
+    private final Map<String, AtomicBoolean> activeJobs = new ConcurrentHashMap<>();
+    // project id -> its job queued or running in this instance
+    private final Map<Long, String> projectJobs = new ConcurrentHashMap<>();
+    // project id -> monitor held while deciding whether to start a job
+    private final Map<Long, Object> startLocks = new ConcurrentHashMap<>();
+
+    public TrelloSyncJobService(TrelloSyncJobRepository jobRepository,
+                                TrelloProjectSyncStateRepository syncStateRepository,
+                                ProjectRepository projectRepository,
+                                TrelloService trelloService,
+                                TrelloSyncService trelloSyncService,
+                                AuthorizationScopeService authorizationScopeService,
+                                TrelloMemberResolver memberResolver,
+                                @Qualifier("trelloSyncExecutor") TaskExecutor executor,
+                                @Value("${trello.sync.resume-window-minutes:60}") long resumeWindowMinutes,
+                                @Value("${trello.sync.delta-max-cards:100}") int deltaMaxCards) {
+        this.jobRepository = jobRepository;
+        this.syncStateRepository = syncStateRepository;
+        this.projectRepository = projectRepository;
+        this.trelloService = trelloService;
+        this.trelloSyncService = trelloSyncService;
+        this.authorizationScopeService = authorizationScopeService;
+        this.memberResolver = memberResolver;
+        this.executor = executor;
+        this.resumeWindow = Duration.ofMinutes(resumeWindowMinutes);
+        this.deltaMaxCards = deltaMaxCards;
+    }
+
+    /**
+     * Start (or resume) a sync of the project's board and return immediately. A requested
+     * delta becomes a full sync when the project has no watermark for its board yet.
+     */
+    @SuppressWarnings("null")
+    public TrelloSyncJobResponse start(Long projectId, TrelloSyncMode requestedMode, Authentication authentication) {
+        Project project = requireProject(projectId);
+        if (project.getTrelloBoardId() == null || project.getTrelloBoardId().isBlank()) {
+            throw new IllegalArgumentException("Project has no trelloBoardId configured");
+        }
+
+        TrelloSyncJob job;
+        synchronized (startLock(projectId)) {
+            String runningId = projectJobs.get(projectId);
+            if (runningId != null) {
+                TrelloSyncJob running = jobRepository.findById(runningId).orElse(null);
+                if (running != null) {
+                    return toResponse(running);
+                }
+            }
+
+            TrelloSyncJob previous = jobRepository
+                    .findFirstByProjectIdAndStatusInOrderByCreatedAtDesc(projectId, RESUMABLE)
+                    .orElse(null);
+            TrelloSyncMode mode = requestedMode == TrelloSyncMode.DELTA && watermarkFor(project) == null
+                    ? TrelloSyncMode.FULL
+                    : requestedMode;
+
+            // Delta jobs are small and re-read from the unchanged watermark, so only full syncs are resumed
+            if (previous != null && mode == TrelloSyncMode.FULL && modeOf(previous) == mode
+                    && previous.getCreatedAt().isAfter(Instant.now().minus(resumeWindow))) {
+                job = previous;
+                job.setRequestedBy(authentication.getName());
+                job.setError(null);
+                job.setFinishedAt(null);
+                log.info("Trello sync job resumed: {} lists already done", job.getCompletedListIds().size());
+            } else {
+                job = TrelloSyncJob.builder()
+                        .id(UUID.randomUUID().toString())
+                        .projectId(projectId)
+                        .requestedBy(authentication.getName())
+                        .mode(mode)
+                        .createdAt(Instant.now())
+                        .build();
+            }
+            job.setStatus(TrelloSyncJobStatus.QUEUED);
+            job = jobRepository.save(job);
+            claim(job);
+        }
+
+        String jobId = job.getId();
+        try {
+            executor.execute(() -> run(jobId));
+        } catch (RuntimeException e) {
+            release(job);
+            finish(job, TrelloSyncJobStatus.FAILED, "Sync queue is full");
+            throw new IllegalStateException("Too many Trello syncs in progress; try again later", e);
+        }
+        return toResponse(job);
+    }
+
+    /**
+     * Sync the project on the calling thread with {@code ownerEmail}'s Trello token, for the
+     * auto-sync scheduler: there is no access check, and nothing runs while the project already
+     * has a job in progress here. Delta when the project has a watermark for its board, else full.
+     *
+     * @return the finished job, or null when the project was busy
+     */
+    @SuppressWarnings("null")
+    public TrelloSyncJob runScheduled(Project project, String ownerEmail) {
+        TrelloSyncJob job;
+        synchronized (startLock(project.getId())) {
+            if (projectJobs.containsKey(project.getId())) {
+                return null;
+            }
+            job = jobRepository.save(TrelloSyncJob.builder()
+                    .id(UUID.randomUUID().toString())
+                    .projectId(project.getId())
+                    .requestedBy(ownerEmail)
+                    .status(TrelloSyncJobStatus.QUEUED)
+                    .mode(watermarkFor(project) == null ? TrelloSyncMode.FULL : TrelloSyncMode.DELTA)
+                    .createdAt(Instant.now())
+                    .build());
+            claim(job);
+        }
+        run(job.getId());
+        return jobRepository.findById(job.getId()).orElse(job);
+    }
+
+    @SuppressWarnings("null")
+    public TrelloSyncJobResponse get(String jobId) {
+        TrelloSyncJob job = jobRepository.findById(jobId)
+                .orElseThrow(() -> new ResourceNotFoundException("Sync job not found: " + jobId));
+        requireProject(job.getProjectId());
+        return toResponse(job);
+    }
+
+    /**
+     * Request cancellation. A running job stops after its current list; progress so far is kept
+     * and a later sync resumes from there.
+     */
+    @SuppressWarnings("null")
+    public TrelloSyncJobResponse cancel(String jobId) {
+        TrelloSyncJob job = jobRepository.findById(jobId)
+                .orElseThrow(() -> new ResourceNotFoundException("Sync job not found: " + jobId));
+        requireProject(job.getProjectId());
+        AtomicBoolean cancelled = activeJobs.get(jobId);
+        if (cancelled != null) {
+            cancelled.set(true);
+        } else if (job.getStatus() == TrelloSyncJobStatus.QUEUED || job.getStatus() == TrelloSyncJobStatus.RUNNING) {
+            // Interrupted in another run of the application; nothing is executing it
+            finish(job, TrelloSyncJobStatus.CANCELLED, null);
+        }
+        return toResponse(job);
+    }
+
+    @SuppressWarnings("null")
+    private void run(String jobId) {
+        AtomicBoolean cancelled = activeJobs.get(jobId);
+        TrelloSyncJob job = jobRepository.findById(jobId).orElse(null);
+        if (job == null || cancelled == null) {
+            activeJobs.remove(jobId);
+            projectJobs.values().remove(jobId);
+            return;
+        }
+        try {
+            if (cancelled.get()) {
+                finish(job, TrelloSyncJobStatus.CANCELLED, null);
+                return;
+            }
+            Project project = projectRepository.findById(job.getProjectId())
+                    .orElseThrow(() -> new ResourceNotFoundException("Project not found: " + job.getProjectId()));
+            job.setStatus(TrelloSyncJobStatus.RUNNING);
+            if (job.getStartedAt() == null) {
+                job.setStartedAt(Instant.now());
+            }
+
+            String boardId = project.getTrelloBoardId();
+            Instant watermark = null;
+            JsonNode board = null;
+            if (modeOf(job) == TrelloSyncMode.DELTA) {
+                Instant since = watermarkFor(project);
+                BoardDelta delta = since == null ? null
+                        : trelloService.getBoardDeltaForUser(boardId, job.getRequestedBy(), since, deltaMaxCards).block();
+                if (delta != null) {
+                    board = delta.board();
+                    // Trello's `since` is inclusive; step past the newest action already applied
+                    watermark = delta.latestActivity().equals(since) ? since : delta.latestActivity().plusMillis(1);
+                } else {
+                    log.info("Trello delta sync not possible; reading the whole board");
+                    job.setMode(TrelloSyncMode.FULL);
+                }
+            }
+            if (board == null) {
+                // One Trello call for the whole board; lists are then written and checkpointed one by one
+                watermark = job.getStartedAt().minus(WATERMARK_OVERLAP);
+                board = trelloService.getBoardSnapshotForUser(boardId, job.getRequestedBy()).block();
+            }
+            Map<String, List<JsonNode>> cardsByList = trelloService.groupCardsByList(board);
+            Map<String, Long> memberUsers = memberResolver.resolve(memberIdsOf(board));
+            job.setListsTotal(cardsByList.size());
+            job.setListsDone((int) cardsByList.keySet().stream().filter(job.getCompletedListIds()::contains).count());
+            jobRepository.save(job);
+
+            for (JsonNode l : board.path("lists")) {
+                String listId = l.path("id").asText();
+                if (job.getCompletedListIds().contains(listId)) {
+                    continue;
+                }
+                if (cancelled.get()) {
+                    finish(job, TrelloSyncJobStatus.CANCELLED, null);
+                    log.info("Trello sync job cancelled");
+                    return;
+                }
+                trelloSyncService.upsertList(project, listId, l.path("name").asText(), cardsByList.get(listId),
+                        memberUsers, job);
+            }
+            saveWatermark(project, watermark);
+            finish(job, TrelloSyncJobStatus.COMPLETED, null);
+            log.info("Trello sync job completed: created={} updated={} ignored={}",
+                    job.getCreated(), job.getUpdated(), job.getIgnored());
+        } catch (Exception e) {
+            log.error("Trello sync job failed", e);
+            String message = e.getMessage() != null ? e.getMessage() : "Trello sync failed";
+            finish(job, TrelloSyncJobStatus.FAILED,
+                    message.length() > ERROR_MAX_LENGTH ? message.substring(0, ERROR_MAX_LENGTH) : message);
+        } finally {
+            release(job);
+        }
+    }
+
+    private Object startLock(Long projectId) {
+        return startLocks.computeIfAbsent(projectId, id -> new Object());
+    }
+
+    /**
+     * Mark the job as the project's running job. Callers hold the project's start lock.
+     */
+    private void claim(TrelloSyncJob job) {
+        activeJobs.put(job.getId(), new AtomicBoolean());
+        projectJobs.put(job.getProjectId(), job.getId());
+    }
+
+    private void release(TrelloSyncJob job) {
+        activeJobs.remove(job.getId());
+        projectJobs.remove(job.getProjectId(), job.getId());
+    }
+
+    /**
+     * The project's watermark, or null when it has none for the board it is linked to now.
+     */
+    @SuppressWarnings("null")
+    private Instant watermarkFor(Project project) {
+        return syncStateRepository.findById(project.getId())
+                .filter(state -> state.getBoardId().equals(project.getTrelloBoardId()))
+                .map(TrelloProjectSyncState::getWatermark)
+                .orElse(null);
+    }
+
+    private void saveWatermark(Project project, Instant watermark) {
+        syncStateRepository.save(TrelloProjectSyncState.builder()
+                .projectId(project.getId())
+                .boardId(project.getTrelloBoardId())
+                .watermark(watermark)
+                .updatedAt(Instant.now())
+                .build());
+    }
+
+    private static Set<String> memberIdsOf(JsonNode board) {
+        Set<String> memberIds = new HashSet<>();
+        for (JsonNode card : board.path("cards")) {
+            card.path("idMembers").forEach(member -> memberIds.add(member.asText()));
+        }
+        return memberIds;
+    }
+
+    private static TrelloSyncMode modeOf(TrelloSyncJob job) {
+        return job.getMode() != null ? job.getMode() : TrelloSyncMode.FULL;
+    }
+
+    private void finish(TrelloSyncJob job, TrelloSyncJobStatus status, String error) {
+        job.setStatus(status);
+        job.setError(error);
+        job.setFinishedAt(Instant.now());
+        jobRepository.save(job);
+    }
+
+    @SuppressWarnings("null")
+    private Project requireProject(Long projectId) {
+        Project project = projectRepository.findById(projectId)
+                .orElseThrow(() -> new ResourceNotFoundException("Project not found: " + projectId));
+        authorizationScopeService.requireProjectAccess(project);
+        return project;
+    }
+
+    private TrelloSyncJobResponse toResponse(TrelloSyncJob job) {
+        return TrelloSyncJobResponse.builder()
+                .jobId(job.getId())
+                .projectId(job.getProjectId())
+                .status(job.getStatus())
+                .mode(modeOf(job))
+                .listsTotal(job.getListsTotal())
+                .listsDone(job.getListsDone())
+                .cardsProcessed(job.getCardsProcessed())
+                .created(job.getCreated())
+                .updated(job.getUpdated())
+                .ignored(job.getIgnored())
+                .error(job.getError())
+                .createdAt(job.getCreatedAt())
+                .startedAt(job.getStartedAt())
+                .finishedAt(job.getFinishedAt())
+                .build();
+    }
+}
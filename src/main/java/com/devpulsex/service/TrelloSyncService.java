@@ -0,0 +1,199 @@
+package com.devpulsex.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.devpulsex.model.Project;
+import com.devpulsex.model.Task;
+import com.devpulsex.model.TaskStatus;
+import com.devpulsex.model.TrelloSyncJob;
+import com.devpulsex.repository.TaskRepository;
+import com.devpulsex.repository.TrelloSyncJobRepository;
+import com.devpulsex.repository.UserRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Upserts Trello cards into a project's tasks, keyed by {@link Task#getTrelloCardId()}.
+ *
+ * Each list is one transaction: the list's existing tasks are read with one query, new
+ * tasks are written with one saveAll and changed tasks with another (JDBC-batched via
+ * hibernate.jdbc.batch_size), and the job checkpoint is recorded alongside. Cards that
+ * moved to another list get the status of the new list. Tasks created by earlier,
+ * title-based syncs are adopted by matching title and description once, so they are
+ * not duplicated. When several such tasks match, the oldest (lowest id) is adopted and
+ * the others stay unlinked and untouched, left for further cards with the same title and
+ * description, again oldest first. A task is assigned to the first of its card's members
+ * linked to a user (see {@link TrelloMemberResolver}); a card without members unassigns its
+ * task, and a card whose members are all unlinked leaves the assignment alone. Callers
+ * check project access before syncing.
+ */
+@Service
+public class TrelloSyncService {
+
+    private static final int DESCRIPTION_MAX_LENGTH = 2000;
+
+    private final TaskRepository taskRepository;
+    private final TrelloSyncJobRepository jobRepository;
+    private final TrelloStatusRuleService statusRuleService;
+    private final UserRepository userRepository;
+
+    public TrelloSyncService(TaskRepository taskRepository, TrelloSyncJobRepository jobRepository,
+                             TrelloStatusRuleService statusRuleService, UserRepository userRepository) {
+        this.taskRepository = taskRepository;
+        this.jobRepository = jobRepository;
+        this.statusRuleService = statusRuleService;
+        this.userRepository = userRepository;
+    }
+
+    public record SyncCounts(int created, int updated, int ignored) {}
+
+    /**
+     * Upsert the cards of one list and mark the list done on {@code job} in the same transaction.
+     *
+     * @param memberUsers user ids of the board's linked Trello members, by member id
+     */
+    @Transactional
+    public SyncCounts upsertList(Project project, String listId, String listName, List<JsonNode> cards,
+                                 Map<String, Long> memberUsers, TrelloSyncJob job) {
+        TaskStatus status = statusRuleService.matcherFor(project).statusFor(listId, listName);
+        List<Task> inserts = new ArrayList<>();
+        List<Task> updates = new ArrayList<>();
+        int ignored = 0;
+        if (!cards.isEmpty()) {
+            TaskIndex index = loadIndex(project.getId(), cards);
+            for (JsonNode card : cards) {
+                if (!upsert(project, index, card, status, memberUsers, inserts, updates)) {
+                    ignored++;
+                }
+            }
+            taskRepository.saveAll(inserts);
+            taskRepository.saveAll(updates);
+        }
+
+        job.getCompletedListIds().add(listId);
+        job.setListsDone(job.getListsDone() + 1);
+        job.setCardsProcessed(job.getCardsProcessed() + cards.size());
+        job.setCreated(job.getCreated() + inserts.size());
+        job.setUpdated(job.getUpdated() + updates.size());
+        job.setIgnored(job.getIgnored() + ignored);
+        jobRepository.save(job);
+        return new SyncCounts(inserts.size(), updates.size(), ignored);
+    }
+
+    /**
+     * Queue a card as an insert or update; returns false when its task is already up to date.
+     */
+    private boolean upsert(Project project, TaskIndex index, JsonNode card, TaskStatus status,
+                           Map<String, Long> memberUsers, List<Task> inserts, List<Task> updates) {
+        String cardId = card.path("id").asText();
+        String title = card.path("name").asText();
+        String description = truncate(card.path("desc").asText(null));
+        JsonNode members = card.path("idMembers");
+        Long assigneeId = null;
+        for (JsonNode member : members) {
+            assigneeId = memberUsers.get(member.asText());
+            if (assigneeId != null) {
+                break;
+            }
+        }
+
+        Task task = index.byCardId.get(cardId);
+        if (task == null) {
+            task = index.adoptLegacy(cardId, title, description);
+        }
+        if (task == null) {
+            Task created = Task.builder()
+                    .title(title)
+                    .description(description)
+                    .project(project)
+                    .status(status)
+                    .trelloCardId(cardId)
+                    .assignedUser(assigneeId != null ? userRepository.getReferenceById(assigneeId) : null)
+                    .build();
+            index.byCardId.put(cardId, created);
+            inserts.add(created);
+            return true;
+        }
+
+        Long currentAssigneeId = task.getAssignedUser() != null ? task.getAssignedUser().getId() : null;
+        boolean reassign = assigneeId != null
+                ? !assigneeId.equals(currentAssigneeId)
+                : members.isArray() && members.isEmpty() && currentAssigneeId != null;
+        boolean changed = !cardId.equals(task.getTrelloCardId())
+                || !Objects.equals(task.getTitle(), title)
+                || !Objects.equals(task.getDescription(), description)
+                || task.getStatus() != status
+                || reassign;
+        if (!changed) {
+            return false;
+        }
+        if (reassign) {
+            task.setAssignedUser(assigneeId != null ? userRepository.getReferenceById(assigneeId) : null);
+        }
+        task.setTrelloCardId(cardId);
+        task.setTitle(title);
+        task.setDescription(description);
+        // Trello is the source of truth for synced tasks: a card moved between lists takes the new list's status
+        task.setStatus(status);
+        updates.add(task);
+        return true;
+    }
+
+    private TaskIndex loadIndex(Long projectId, List<JsonNode> cards) {
+        Set<String> cardIds = new HashSet<>();
+        Set<String> titles = new HashSet<>();
+        for (JsonNode card : cards) {
+            cardIds.add(card.path("id").asText());
+            titles.add(card.path("name").asText());
+        }
+        TaskIndex index = new TaskIndex();
+        for (Task task : taskRepository.findByProject_IdAndTrelloCardIdIn(projectId, cardIds)) {
+            index.byCardId.put(task.getTrelloCardId(), task);
+        }
+        for (Task task : taskRepository.findByProject_IdAndTrelloCardIdIsNullAndTitleInOrderByIdAsc(projectId, titles)) {
+            index.legacyByKey.computeIfAbsent(legacyKey(task.getTitle(), task.getDescription()), key -> new ArrayDeque<>())
+                    .add(task);
+        }
+        return index;
+    }
+
+    private static String truncate(String description) {
+        return description != null && description.length() > DESCRIPTION_MAX_LENGTH
+                ? description.substring(0, DESCRIPTION_MAX_LENGTH)
+                : description;
+    }
+
+    private static String legacyKey(String title, String description) {
+        String normalizedTitle = title == null ? "" : title.trim().toLowerCase();
+        String normalizedDescription = description == null ? "" : description.trim().toLowerCase();
+        return normalizedTitle + "|" + normalizedDescription;
+    }
+
+    /**
+     * Existing tasks for a batch of cards by Trello card id, plus matching tasks from
+     * title-based syncs not yet linked to a card, oldest first per title and description.
+     */
+    private static final class TaskIndex {
+        private final Map<String, Task> byCardId = new HashMap<>();
+        private final Map<String, Deque<Task>> legacyByKey = new HashMap<>();
+
+        private Task adoptLegacy(String cardId, String title, String description) {
+            Deque<Task> candidates = legacyByKey.get(legacyKey(title, description));
+            Task task = candidates != null ? candidates.poll() : null;
+            if (task != null) {
+                byCardId.put(cardId, task);
+            }
+            return task;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.devpulsex.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.Set;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.devpulsex.integration.trello.TrelloResponseCache;
+import com.devpulsex.integration.trello.TrelloWebhookRegistry;
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Verifies Trello webhook callbacks and invalidates the cached responses they affect.
+ *
+ * Trello signs each callback as base64(HMAC-SHA1(app secret, body + callback URL)) in
+ * the {@code X-Trello-Webhook} header.
+ */
+@Service
+public class TrelloWebhookService {
+
+    private static final Logger log = LoggerFactory.getLogger(TrelloWebhookService.class);
+
+    private final TrelloResponseCache responseCache;
+    private final TrelloWebhookRegistry webhookRegistry;
+    private final String apiSecret;
+
+    public TrelloWebhookService(TrelloResponseCache responseCache,
+                                TrelloWebhookRegistry webhookRegistry,
+                                @Value("${trello.api.secret:}") String apiSecret) {
+        this.responseCache = responseCache;
+        this.webhookRegistry = webhookRegistry;
+        this.apiSecret = apiSecret;
+    }
+
+    public boolean isValidSignature(String body, String signature) {
+        if (signature == null || apiSecret == null || apiSecret.isBlank() || !webhookRegistry.isEnabled()) {
+            return false;
+        }
+        try {
+            Mac mac = Mac.getInstance("HmacSHA1");
+            mac.init(new SecretKeySpec(apiSecret.getBytes(StandardCharsets.UTF_8), "HmacSHA1"));
+            byte[] expected = mac.doFinal((body + webhookRegistry.getCallbackUrl()).getBytes(StandardCharsets.UTF_8));
+            byte[] actual = Base64.getDecoder().decode(signature.trim());
+            return MessageDigest.isEqual(expected, actual);
+        } catch (IllegalArgumentException e) {
+            return false;
+        } catch (Exception e) {
+            log.error("Trello webhook signature check failed");
+            return false;
+        }
+    }
+
+    /**
+     * Invalidate every cached response that depends on the model, board, lists or card
+     * list touched by the action.
+     *
+     * @return number of cache entries removed
+     */
+    public int handle(JsonNode payload) {
+        Set<String> changed = new HashSet<>();
+        addId(changed, payload.path("model").path("id"));
+        JsonNode data = payload.path("action").path("data");
+        addId(changed, data.path("board").path("id"));
+        addId(changed, data.path("list").path("id"));
+        addId(changed, data.path("listBefore").path("id"));
+        addId(changed, data.path("listAfter").path("id"));
+        addId(changed, data.path("card").path("idList"));
+        addId(changed, data.path("old").path("idList"));
+
+        int removed = responseCache.invalidate(changed);
+        log.info("Trello webhook processed: invalidated {} cache entries", removed);
+        return removed;
+    }
+
+    private static void addId(Set<String> ids, JsonNode node) {
+        if (node.isTextual() && !node.asText().isBlank()) {
+            ids.add(node.asText());
+        }
+    }
+}
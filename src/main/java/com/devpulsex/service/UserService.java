@@ -1,6 +1,8 @@
 package com.devpulsex.service;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Objects;
 
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.Authentication;
@@ -8,10 +10,12 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import com.devpulsex.config.security.PrincipalCache;
 import com.devpulsex.dto.user.CreateUserRequest;
 import com.devpulsex.dto.user.UpdateUserRequest;
 import com.devpulsex.dto.user.UserDto;
 import com.devpulsex.exception.ResourceNotFoundException;
+import com.devpulsex.integration.IntegrationCredentialContext;
 import com.devpulsex.model.User;
 import com.devpulsex.repository.UserRepository;
 
@@ -20,10 +24,23 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
-
-    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    private final IntegrationCredentialContext credentialContext;
+    private final TrelloMemberResolver memberResolver;
+    private final PrincipalCache principalCache;
+    private final GitHubContributionService contributionService;
+    private final GitHubInsightsHistoryService insightsHistoryService;
+
+    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder,
+                       IntegrationCredentialContext credentialContext, TrelloMemberResolver memberResolver,
+                       PrincipalCache principalCache, GitHubContributionService contributionService,
+                       GitHubInsightsHistoryService insightsHistoryService) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.credentialContext = credentialContext;
+        this.memberResolver = memberResolver;
+        this.principalCache = principalCache;
+        this.contributionService = contributionService;
+        this.insightsHistoryService = insightsHistoryService;
     }
 
     public List<UserDto> getAll() {
@@ -68,18 +85,51 @@ public class UserService {
             throw new AccessDeniedException("Only admins can change roles");
         }
 
+        credentialContext.evict(user.getEmail());
+        principalCache.evict(user.getEmail());
         user.setName(req.getName());
         user.setEmail(req.getEmail());
         user.setRole(req.getRole());
-        return toDto(userRepository.save(user));
+        User saved = userRepository.save(user);
+        principalCache.evict(saved.getEmail());
+        return toDto(saved);
     }
 
     @SuppressWarnings("null")
     public void delete(Long id) {
-        if (!userRepository.existsById(id)) {
-            throw new ResourceNotFoundException("User not found: " + id);
-        }
+        User user = userRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found: " + id));
+        credentialContext.evict(user.getEmail());
+        memberResolver.evict(user.getTrelloId());
         userRepository.deleteById(id);
+        principalCache.evict(user.getEmail());
+        contributionService.forgetUser(id);
+        insightsHistoryService.forgetUser(id);
+    }
+
+    /**
+     * Call before {@code user} is linked to the GitHub account {@code githubId}: the user's cached
+     * principal and credentials are evicted and, when it replaces another account, the GitHub data
+     * stored for the previous one is dropped.
+     */
+    public void beforeGithubLink(User user, Long githubId) {
+        credentialContext.evict(user.getEmail());
+        principalCache.evict(user.getEmail());
+        if (user.getId() != null && user.getGithubUsername() != null && !Objects.equals(user.getGithubId(), githubId)) {
+            contributionService.forgetUser(user.getId());
+        }
+    }
+
+    /**
+     * Reject every JWT issued to the user so far; they have to sign in again.
+     */
+    @SuppressWarnings("null")
+    public void revokeSessions(Long id) {
+        User user = userRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found: " + id));
+        user.setSessionsRevokedAt(Instant.now());
+        userRepository.save(user);
+        principalCache.evict(user.getEmail());
     }
 
     // Public method for auth controllers to build complete UserDto
@@ -0,0 +1,84 @@
+package com.devpulsex.config.security;
+
+import java.util.Base64;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.MalformedJwtException;
+import io.jsonwebtoken.security.SignatureException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class JwtUtilTest {
+
+    private static final String SECRET = "devpulseXdevpulseXdevpulseXdevpulseXdevpulseXdevpulseX";
+    // Same length and alphabet as SECRET, so it derives a key of the same size
+    private static final String OTHER_SECRET = new StringBuilder(SECRET).reverse().toString();
+
+    private final JwtUtil jwtUtil = new JwtUtil(SECRET, 3_600_000);
+
+    @Test
+    void validate_shouldReturnClaims_whenTokenIsValid() {
+        String token = jwtUtil.generateToken("dev@example.com", Map.of("role", "DEVELOPER"));
+
+        Claims claims = jwtUtil.validate(token);
+
+        assertEquals("dev@example.com", claims.getSubject());
+        assertEquals("DEVELOPER", claims.get("role", String.class));
+    }
+
+    @Test
+    void validate_shouldThrow_whenTokenIsExpired() {
+        String token = new JwtUtil(SECRET, -1_000).generateToken("dev@example.com", Map.of());
+
+        assertThrows(ExpiredJwtException.class, () -> jwtUtil.validate(token));
+    }
+
+    @Test
+    void validate_shouldThrow_whenTokenIsSignedWithAnotherKey() {
+        String token = new JwtUtil(OTHER_SECRET, 3_600_000).generateToken("dev@example.com", Map.of());
+
+        assertThrows(SignatureException.class, () -> jwtUtil.validate(token));
+    }
+
+    @Test
+    void validate_shouldThrow_whenPayloadWasTamperedWith() {
+        String token = jwtUtil.generateToken("dev@example.com", Map.of());
+        String forgedPayload = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("{\"sub\":\"admin@example.com\"}".getBytes());
+        String[] parts = token.split("\\.");
+        String forged = parts[0] + "." + forgedPayload + "." + parts[2];
+
+        assertThrows(SignatureException.class, () -> jwtUtil.validate(forged));
+    }
+
+    @Test
+    void validate_shouldThrow_whenTokenIsMalformed() {
+        assertThrows(MalformedJwtException.class, () -> jwtUtil.validate("not-a-jwt"));
+    }
+
+    @Test
+    void validate_shouldThrow_whenTokenIsBlank() {
+        assertThrows(IllegalArgumentException.class, () -> jwtUtil.validate(" "));
+    }
+
+    @Test
+    void isTokenValid_shouldParseTokenOnce() {
+        JwtUtil spied = spy(jwtUtil);
+        String token = spied.generateToken("dev@example.com", Map.of());
+
+        assertTrue(spied.isTokenValid(token, "dev@example.com"));
+        assertFalse(spied.isTokenValid(token, "other@example.com"));
+
+        verify(spied, times(2)).validate(token);
+    }
+}
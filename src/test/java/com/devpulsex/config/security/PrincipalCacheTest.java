@@ -0,0 +1,105 @@
+package com.devpulsex.config.security;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import com.devpulsex.config.security.PrincipalCache.CachedPrincipal;
+import com.devpulsex.model.Role;
+import com.devpulsex.model.User;
+import com.devpulsex.repository.UserRepository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PrincipalCacheTest {
+
+    private static final String EMAIL = "dev@devpulsex.io";
+    private static final Instant REVOKED_AT = Instant.parse("2026-03-01T10:00:00.500Z");
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final PrincipalCache cache = new PrincipalCache(userRepository, 60, 100);
+
+    @Test
+    void accepts_shouldAcceptAnyToken_whenSessionsWereNeverRevoked() {
+        CachedPrincipal principal = new CachedPrincipal(null, null);
+
+        assertTrue(principal.accepts(Date.from(REVOKED_AT.minusSeconds(3600))));
+        assertTrue(principal.accepts(null));
+    }
+
+    @Test
+    void accepts_shouldRejectTokensIssuedBeforeTheRevocationSecond() {
+        CachedPrincipal principal = new CachedPrincipal(null, REVOKED_AT);
+
+        assertFalse(principal.accepts(Date.from(Instant.parse("2026-03-01T09:59:59Z"))));
+        assertFalse(principal.accepts(null));
+        // iat has second precision: a token issued in the second of the revocation is still accepted
+        assertTrue(principal.accepts(Date.from(Instant.parse("2026-03-01T10:00:00Z"))));
+        assertTrue(principal.accepts(Date.from(Instant.parse("2026-03-01T10:00:01Z"))));
+    }
+
+    @Test
+    void get_shouldQueryUserOnce_andCarryRoleAndRevocation() {
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user(Role.MANAGER, REVOKED_AT)));
+
+        CachedPrincipal first = cache.get(EMAIL);
+        CachedPrincipal second = cache.get(EMAIL);
+
+        assertEquals(first, second);
+        assertEquals(EMAIL, first.userDetails().getUsername());
+        assertEquals("ROLE_MANAGER", first.userDetails().getAuthorities().iterator().next().getAuthority());
+        assertEquals(REVOKED_AT, first.sessionsRevokedAt());
+        verify(userRepository, times(1)).findByEmail(EMAIL);
+    }
+
+    @Test
+    void get_shouldNotCacheUnknownEmails() {
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.empty());
+
+        assertNull(cache.get(EMAIL));
+        assertNull(cache.get(EMAIL));
+
+        verify(userRepository, times(2)).findByEmail(EMAIL);
+    }
+
+    @Test
+    void get_shouldReloadUser_afterEvict() {
+        when(userRepository.findByEmail(EMAIL)).thenReturn(
+                Optional.of(user(Role.DEVELOPER, null)),
+                Optional.of(user(Role.ADMIN, REVOKED_AT)));
+
+        cache.get(EMAIL);
+        cache.evict(EMAIL);
+        cache.evict(null);
+        CachedPrincipal reloaded = cache.get(EMAIL);
+
+        assertEquals("ROLE_ADMIN", reloaded.userDetails().getAuthorities().iterator().next().getAuthority());
+        assertEquals(REVOKED_AT, reloaded.sessionsRevokedAt());
+        verify(userRepository, times(2)).findByEmail(EMAIL);
+    }
+
+    @Test
+    void get_shouldReloadUser_onceTheTtlHasPassed() {
+        // A zero TTL expires every entry as soon as it is written
+        PrincipalCache expiring = new PrincipalCache(userRepository, 0, 100);
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user(Role.DEVELOPER, null)));
+
+        expiring.get(EMAIL);
+        expiring.get(EMAIL);
+
+        verify(userRepository, times(2)).findByEmail(EMAIL);
+    }
+
+    private static User user(Role role, Instant sessionsRevokedAt) {
+        return User.builder().id(7L).email(EMAIL).role(role).sessionsRevokedAt(sessionsRevokedAt).build();
+    }
+}
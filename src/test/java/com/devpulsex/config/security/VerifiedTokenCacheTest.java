@@ -0,0 +1,42 @@
+package com.devpulsex.config.security;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class VerifiedTokenCacheTest {
+
+    private static final String SECRET = "devpulseXdevpulseXdevpulseXdevpulseXdevpulseXdevpulseX";
+
+    private final JwtUtil jwtUtil = spy(new JwtUtil(SECRET, 3_600_000));
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final VerifiedTokenCache cache = new VerifiedTokenCache(jwtUtil, meterRegistry, 100, 300);
+
+    @Test
+    void validate_shouldVerifyTokenOnce_andReportHitRatio() {
+        String token = jwtUtil.generateToken("dev@example.com", Map.of("role", "DEVELOPER"));
+
+        assertEquals("dev@example.com", cache.validate(token).getSubject());
+        assertEquals("dev@example.com", cache.validate(token).getSubject());
+
+        verify(jwtUtil, times(1)).validate(token);
+        assertEquals(0.5, meterRegistry.get("security.jwt.cache.hit-ratio").gauge().value());
+    }
+
+    @Test
+    void validate_shouldNotCacheExpiredTokens() {
+        JwtUtil expiring = new JwtUtil(SECRET, -1_000);
+        String token = expiring.generateToken("dev@example.com", Map.of());
+
+        assertThrows(io.jsonwebtoken.ExpiredJwtException.class, () -> cache.validate(token));
+        assertThrows(io.jsonwebtoken.ExpiredJwtException.class, () -> cache.validate(token));
+    }
+}
@@ -0,0 +1,73 @@
+package com.devpulsex.integration;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import com.devpulsex.exception.ResourceNotFoundException;
+import com.devpulsex.integration.IntegrationCredentialContext.LinkedAccount;
+import com.devpulsex.integration.oauth.OAuthTokenEncryptor;
+import com.devpulsex.integration.trello.TrelloTokenEncryptor;
+import com.devpulsex.model.User;
+import com.devpulsex.repository.UserRepository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class IntegrationCredentialContextTest {
+
+    private static final String SECRET = "0123456789abcdef0123456789abcdef";
+    private static final String EMAIL = "dev@example.com";
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final TrelloTokenEncryptor trelloTokenEncryptor = new TrelloTokenEncryptor(SECRET);
+    private final IntegrationCredentialContext context = new IntegrationCredentialContext(
+            userRepository, trelloTokenEncryptor, new OAuthTokenEncryptor(SECRET), 60, 100);
+
+    @Test
+    void forUser_shouldLoadOnce_andDecryptTokensOnFirstUse() {
+        User user = User.builder().id(7L).email(EMAIL)
+                .trelloAccessToken(trelloTokenEncryptor.encrypt("trello-token"))
+                .githubAccessToken("legacy-plaintext")
+                .build();
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(user));
+
+        LinkedAccount first = context.forUser(EMAIL);
+        LinkedAccount second = context.forUser(EMAIL);
+
+        assertSame(first, second);
+        assertEquals(7L, first.getUserId());
+        assertEquals("trello-token", first.trelloToken());
+        assertEquals("legacy-plaintext", first.githubToken());
+        verify(userRepository, times(1)).findByEmail(EMAIL);
+    }
+
+    @Test
+    void evict_shouldReloadTheUser() {
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(User.builder().id(7L).email(EMAIL).build()));
+
+        LinkedAccount unlinked = context.forUser(EMAIL);
+        context.evict(EMAIL);
+        context.forUser(EMAIL);
+
+        assertFalse(unlinked.hasTrelloToken());
+        assertNull(unlinked.githubToken());
+        verify(userRepository, times(2)).findByEmail(EMAIL);
+    }
+
+    @Test
+    void forUser_shouldNotStoreMissingUsers() {
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.empty());
+
+        assertThrows(ResourceNotFoundException.class, () -> context.forUser(EMAIL));
+        assertThrows(ResourceNotFoundException.class, () -> context.forUser(EMAIL));
+        verify(userRepository, times(2)).findByEmail(EMAIL);
+    }
+}
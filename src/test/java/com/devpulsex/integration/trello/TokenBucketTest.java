@@ -0,0 +1,51 @@
+package com.devpulsex.integration.trello;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TokenBucketTest {
+
+    private static final long SECOND = Duration.ofSeconds(1).toNanos();
+
+    @Test
+    void fullBucketAllowsBurstThenRefillsEvenly() {
+        TokenBucket bucket = new TokenBucket(10, Duration.ofSeconds(10), 0L);
+
+        for (int i = 0; i < 10; i++) {
+            assertTrue(bucket.tryAcquire(0L));
+        }
+        assertFalse(bucket.tryAcquire(0L));
+        assertEquals(0, bucket.available(0L));
+
+        // One permit per second comes back
+        assertTrue(bucket.tryAcquire(SECOND));
+        assertFalse(bucket.tryAcquire(SECOND));
+        assertEquals(10, bucket.available(20 * SECOND));
+    }
+
+    @Test
+    void reserveReturnsScheduledWaitAndRejectsBeyondMaximum() {
+        TokenBucket bucket = new TokenBucket(2, Duration.ofSeconds(2), 0L);
+
+        assertEquals(0L, bucket.reserve(0L, 5 * SECOND));
+        assertEquals(0L, bucket.reserve(0L, 5 * SECOND));
+        assertEquals(SECOND, bucket.reserve(0L, 5 * SECOND));
+        assertEquals(2 * SECOND, bucket.reserve(0L, 5 * SECOND));
+        assertEquals(TokenBucket.REJECTED, bucket.reserve(0L, SECOND));
+    }
+
+    @Test
+    void releaseReturnsUnusedPermit() {
+        TokenBucket bucket = new TokenBucket(1, Duration.ofSeconds(1), 0L);
+
+        assertTrue(bucket.tryAcquire(0L));
+        assertFalse(bucket.tryAcquire(0L));
+        bucket.release();
+        assertTrue(bucket.tryAcquire(0L));
+    }
+}
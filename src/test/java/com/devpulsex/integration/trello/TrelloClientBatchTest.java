@@ -0,0 +1,97 @@
+package com.devpulsex.integration.trello;
+
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TrelloClientBatchTest {
+
+    // Shape of a recorded GET /1/batch?urls=/boards/b1/lists,/cards/c1,/cards/gone,/cards/private response
+    private static final String BATCH_RESPONSE = "["
+            + "{\"200\":[{\"id\":\"l1\",\"name\":\"To Do\"},{\"id\":\"l2\",\"name\":\"Done\"}]},"
+            + "{\"200\":{\"id\":\"c1\",\"name\":\"Fix login\",\"idList\":\"l1\",\"idBoard\":\"b1\",\"closed\":false}},"
+            + "{\"name\":\"NotFoundError\",\"message\":\"The requested resource was not found.\",\"statusCode\":404},"
+            + "{\"name\":\"UnauthorizedError\",\"message\":\"unauthorized card permission requested\",\"statusCode\":401}"
+            + "]";
+
+    @Test
+    void demultiplex_shouldKeepOrder_andMapFailedItemsToMissing() throws Exception {
+        JsonNode response = new ObjectMapper().readTree(BATCH_RESPONSE);
+
+        List<JsonNode> results = TrelloClient.demultiplex(4, response);
+
+        assertEquals(4, results.size());
+        assertEquals(2, results.get(0).size());
+        assertEquals("c1", results.get(1).path("id").asText());
+        assertTrue(results.get(2).isMissingNode());
+        assertTrue(results.get(3).isMissingNode());
+    }
+
+    @Test
+    void demultiplex_shouldTreatAShortResponseAsMissingItems() throws Exception {
+        JsonNode response = new ObjectMapper().readTree("[{\"200\":{\"id\":\"c1\"}}]");
+
+        List<JsonNode> results = TrelloClient.demultiplex(3, response);
+
+        assertEquals("c1", results.get(0).path("id").asText());
+        assertTrue(results.get(1).isMissingNode());
+        assertTrue(results.get(2).isMissingNode());
+    }
+
+    @Test
+    void getBatch_shouldSendTenRoutesPerCall_andReturnResultsInPathOrder() {
+        List<Integer> routesPerCall = new ArrayList<>();
+        // Echo each route back as {"200": {"path": route}}
+        WebClient webClient = WebClient.builder().exchangeFunction(request -> {
+            String urls = request.url().getRawQuery().replaceFirst("^urls=([^&]*).*$", "$1");
+            List<String> routes = Arrays.stream(urls.split(","))
+                    .map(route -> URLDecoder.decode(route, StandardCharsets.UTF_8))
+                    .toList();
+            routesPerCall.add(routes.size());
+            String body = routes.stream()
+                    .map(route -> "{\"200\":{\"path\":\"" + route + "\"}}")
+                    .collect(Collectors.joining(",", "[", "]"));
+            return Mono.just(ClientResponse.create(HttpStatus.OK)
+                    .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                    .body(body)
+                    .build());
+        }).build();
+        TrelloClient client = new TrelloClient(webClient,
+                new TrelloRateLimiter(new SimpleMeterRegistry(), 295, 10, 100, 10, 30000, 1000));
+        ReflectionTestUtils.setField(client, "baseUrl", "https://api.trello.com/1");
+        ReflectionTestUtils.setField(client, "apiKey", "key");
+        List<String> paths = IntStream.range(0, 25).mapToObj(i -> "/cards/c" + i).toList();
+
+        List<JsonNode> results = client.getBatch(paths, "token").block();
+
+        assertEquals(List.of(10, 10, 5), routesPerCall);
+        assertEquals(paths, results.stream().map(result -> result.path("path").asText()).toList());
+    }
+
+    @Test
+    void batchPath_shouldEncodeEachRoute_andSeparateThemWithCommas() {
+        assertEquals("/batch?urls=%2Fboards%2Fb1%2Flists%3Ffilter%3Dopen%26fields%3Dname,%2Fcards%2Fc1",
+                TrelloClient.batchPath(List.of("/boards/b1/lists?filter=open&fields=name", "/cards/c1")));
+    }
+}
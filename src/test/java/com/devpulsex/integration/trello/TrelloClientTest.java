@@ -0,0 +1,24 @@
+package com.devpulsex.integration.trello;
+
+import java.net.URI;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TrelloClientTest {
+
+    @Test
+    void cardUri_shouldEncodeEveryValue_includingPlusAmpersandAndBraces() {
+        Map<String, String> fields = new LinkedHashMap<>();
+        fields.put("name", "C++ parser & {draft}");
+        fields.put("idList", "l1");
+
+        URI uri = TrelloClient.cardUri("https://api.trello.com/1", "c1", fields, "key", "to+ken");
+
+        assertEquals("/1/cards/c1", uri.getPath());
+        assertEquals("name=C%2B%2B%20parser%20%26%20%7Bdraft%7D&idList=l1&key=key&token=to%2Bken", uri.getRawQuery());
+    }
+}
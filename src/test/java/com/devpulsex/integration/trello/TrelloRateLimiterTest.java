@@ -0,0 +1,36 @@
+package com.devpulsex.integration.trello;
+
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TrelloRateLimiterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    // One request per token and window, plenty for the key
+    private final TrelloRateLimiter limiter = new TrelloRateLimiter(meterRegistry, 100, 10, 1, 10, 0, 100);
+
+    @Test
+    void tryAcquire_shouldGiveTokensWithCollidingHashCodesTheirOwnBudget() {
+        assertEquals("Aa".hashCode(), "BB".hashCode());
+
+        assertTrue(limiter.tryAcquire("Aa"));
+        assertTrue(limiter.tryAcquire("BB"));
+        assertFalse(limiter.tryAcquire("Aa"));
+    }
+
+    @Test
+    void metrics_shouldReportTokenBucketsInAggregate() {
+        limiter.tryAcquire("token-1");
+        limiter.tryAcquire("token-2");
+
+        assertEquals(2, meterRegistry.get("trello.ratelimit.token.buckets").gauge().value());
+        assertEquals(0, meterRegistry.get("trello.ratelimit.token.min-available").gauge().value());
+        // Only the key bucket has its own series
+        assertEquals(1, meterRegistry.get("trello.ratelimit.available").gauges().size());
+    }
+}
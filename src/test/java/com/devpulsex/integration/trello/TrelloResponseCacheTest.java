@@ -0,0 +1,61 @@
+package com.devpulsex.integration.trello;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.IntNode;
+
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TrelloResponseCacheTest {
+
+    private final TrelloResponseCache cache = new TrelloResponseCache(30, 60, 100);
+
+    @Test
+    void invalidate_shouldDropOnlyEntriesTaggedWithChangedIds() {
+        AtomicInteger boardLoads = new AtomicInteger();
+        AtomicInteger otherLoads = new AtomicInteger();
+
+        cache.get(TrelloResponseCache.Scope.LISTS, 1L, "b1", () -> load(boardLoads, Set.of("b1", "l1"))).block();
+        cache.get(TrelloResponseCache.Scope.LISTS, 1L, "b2", () -> load(otherLoads, Set.of("b2"))).block();
+
+        assertEquals(1, cache.invalidate(List.of("l1")));
+        cache.get(TrelloResponseCache.Scope.LISTS, 1L, "b1", () -> load(boardLoads, Set.of("b1", "l1"))).block();
+        cache.get(TrelloResponseCache.Scope.LISTS, 1L, "b2", () -> load(otherLoads, Set.of("b2"))).block();
+
+        assertEquals(2, boardLoads.get());
+        assertEquals(1, otherLoads.get());
+    }
+
+    @Test
+    void get_shouldNotKeepLoad_thatOverlappedAnInvalidation() {
+        AtomicInteger loads = new AtomicInteger();
+        Sinks.One<TrelloResponseCache.Entry> slowLoad = Sinks.one();
+
+        CompletableFuture<JsonNode> first = cache.get(TrelloResponseCache.Scope.BOARD, 1L, "b1", () -> {
+            loads.incrementAndGet();
+            return slowLoad.asMono();
+        }).toFuture();
+        // The webhook arrives while Trello is still answering the first read
+        cache.invalidate(List.of("b1"));
+        slowLoad.tryEmitValue(new TrelloResponseCache.Entry(IntNode.valueOf(1), Set.of("b1"), true));
+        first.join();
+
+        cache.get(TrelloResponseCache.Scope.BOARD, 1L, "b1", () -> load(loads, Set.of("b1"))).block();
+        cache.get(TrelloResponseCache.Scope.BOARD, 1L, "b1", () -> load(loads, Set.of("b1"))).block();
+
+        assertEquals(2, loads.get());
+    }
+
+    private static Mono<TrelloResponseCache.Entry> load(AtomicInteger counter, Set<String> tags) {
+        return Mono.fromSupplier(() -> new TrelloResponseCache.Entry(IntNode.valueOf(counter.incrementAndGet()), tags, true));
+    }
+}
@@ -0,0 +1,33 @@
+package com.devpulsex.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BloomFilterTest {
+
+    @Test
+    void mightContain_shouldFindEveryAddedValue_andRarelyOthers() {
+        BloomFilter filter = BloomFilter.create(1000, 0.01);
+        List<String> added = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            String jti = UUID.randomUUID().toString();
+            filter.add(jti);
+            added.add(jti);
+        }
+
+        assertTrue(added.stream().allMatch(filter::mightContain));
+        long falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (filter.mightContain(UUID.randomUUID().toString())) {
+                falsePositives++;
+            }
+        }
+        // 1% expected; generous bound to keep the test stable
+        assertTrue(falsePositives < 300, "false positives: " + falsePositives);
+    }
+}
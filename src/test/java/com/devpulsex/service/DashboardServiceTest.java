@@ -0,0 +1,122 @@
+package com.devpulsex.service;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import com.devpulsex.dto.trello.BoardView;
+import com.devpulsex.dto.trello.TrelloProjectBoardsResponse;
+import com.devpulsex.dto.trello.TrelloProjectBoardsResponse.ProjectBoard;
+import com.devpulsex.dto.trello.TrelloProjectBoardsResponse.Status;
+import com.devpulsex.model.Project;
+import com.devpulsex.model.User;
+import com.devpulsex.repository.CommitRepository;
+import com.devpulsex.repository.DeploymentRepository;
+import com.devpulsex.repository.IssueRepository;
+import com.devpulsex.repository.ProjectRepository;
+import com.devpulsex.repository.TaskRepository;
+import com.devpulsex.repository.TeamRepository;
+import com.devpulsex.repository.UserRepository;
+
+import reactor.core.publisher.Mono;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DashboardServiceTest {
+
+    private final ProjectRepository projectRepository = mock(ProjectRepository.class);
+    private final TrelloService trelloService = mock(TrelloService.class);
+    private final AuthorizationScopeService authorizationScopeService = mock(AuthorizationScopeService.class);
+    // Boards that take longer than 100 ms are reported as timed out
+    private final DashboardService service = new DashboardService(projectRepository, mock(UserRepository.class),
+            mock(TaskRepository.class), mock(CommitRepository.class), mock(IssueRepository.class),
+            mock(DeploymentRepository.class), mock(TeamRepository.class), trelloService, authorizationScopeService, 100, 6);
+
+    private final Authentication authentication = new UsernamePasswordAuthenticationToken("member@devpulsex.io", null);
+    private final User member = User.builder().id(7L).email("member@devpulsex.io").build();
+
+    @BeforeEach
+    void setUp() {
+        when(authorizationScopeService.getCurrentUser()).thenReturn(member);
+        when(trelloService.buildBoardAggregate("slow", authentication)).thenReturn(Mono.never());
+        when(trelloService.buildBoardAggregate("broken", authentication))
+                .thenReturn(Mono.error(new RuntimeException("Trello unavailable")));
+        when(trelloService.buildBoardAggregate("ok", authentication)).thenReturn(Mono.just(new BoardView(List.of())));
+    }
+
+    @Test
+    void getTrelloDashboardForAllProjects_shouldReportTimedOutAndFailedBoards_andReturnTheRest() {
+        when(authorizationScopeService.isAdmin(member)).thenReturn(true);
+        when(projectRepository.findByTrelloBoardIdIsNotNullOrderByNameAsc())
+                .thenReturn(List.of(project(1L, "slow"), project(2L, "broken"), project(3L, "ok")));
+
+        TrelloProjectBoardsResponse response = service.getTrelloDashboardForAllProjects(authentication).block();
+
+        assertNotNull(response);
+        assertEquals(3, response.getTotal());
+        assertEquals(1, response.getSucceeded());
+        assertEquals(2, response.getFailed());
+        List<ProjectBoard> boards = response.getProjects();
+        assertEquals(Status.TIMEOUT, boards.get(0).getStatus());
+        assertEquals("Trello did not respond in time", boards.get(0).getError());
+        assertNull(boards.get(0).getBoard());
+        assertEquals(Status.FAILED, boards.get(1).getStatus());
+        assertEquals("Trello board could not be loaded", boards.get(1).getError());
+        assertNull(boards.get(1).getBoard());
+        assertEquals(Status.OK, boards.get(2).getStatus());
+        assertEquals(3L, boards.get(2).getProjectId());
+        assertNotNull(boards.get(2).getBoard());
+    }
+
+    @Test
+    void getTrelloDashboardForAllProjects_shouldLoadAllLinkedProjects_whenUserIsAdmin() {
+        when(authorizationScopeService.isAdmin(member)).thenReturn(true);
+        when(projectRepository.findByTrelloBoardIdIsNotNullOrderByNameAsc()).thenReturn(List.of(project(3L, "ok")));
+
+        TrelloProjectBoardsResponse response = service.getTrelloDashboardForAllProjects(authentication).block();
+
+        assertEquals(1, response.getTotal());
+        verify(projectRepository, never()).findByTeam_Members_IdAndTrelloBoardIdIsNotNullOrderByNameAsc(anyLong());
+    }
+
+    @Test
+    void getTrelloDashboardForAllProjects_shouldOnlyLoadTeamProjects_whenUserIsNotAdmin() {
+        when(authorizationScopeService.isAdmin(member)).thenReturn(false);
+        when(projectRepository.findByTeam_Members_IdAndTrelloBoardIdIsNotNullOrderByNameAsc(7L))
+                .thenReturn(List.of(project(3L, "ok")));
+
+        TrelloProjectBoardsResponse response = service.getTrelloDashboardForAllProjects(authentication).block();
+
+        assertEquals(1, response.getTotal());
+        assertEquals(3L, response.getProjects().get(0).getProjectId());
+        verify(projectRepository, never()).findByTrelloBoardIdIsNotNullOrderByNameAsc();
+    }
+
+    @Test
+    void getTrelloDashboardForAllProjects_shouldSkipProjects_whenBoardIdIsBlank() {
+        when(authorizationScopeService.isAdmin(member)).thenReturn(true);
+        when(projectRepository.findByTrelloBoardIdIsNotNullOrderByNameAsc())
+                .thenReturn(List.of(project(1L, " "), project(3L, "ok")));
+
+        TrelloProjectBoardsResponse response = service.getTrelloDashboardForAllProjects(authentication).block();
+
+        assertEquals(1, response.getTotal());
+        verify(trelloService, never()).buildBoardAggregate(eq(" "), any());
+    }
+
+    private static Project project(Long id, String boardId) {
+        return Project.builder().id(id).name("Project " + id).trelloBoardId(boardId).build();
+    }
+}
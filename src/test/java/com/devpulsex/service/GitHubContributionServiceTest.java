@@ -0,0 +1,59 @@
+package com.devpulsex.service;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import com.devpulsex.model.GithubContributionCalendar;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class GitHubContributionServiceTest {
+
+    @Test
+    void pack_shouldRoundTripAllSlots_andPadShortArrays() {
+        int[] counts = new int[GithubContributionCalendar.SLOTS];
+        counts[0] = 4;
+        counts[59] = 70000;
+        counts[365] = 2;
+
+        assertArrayEquals(counts, GitHubContributionService.unpack(GitHubContributionService.pack(counts)));
+        assertEquals(3, GitHubContributionService.unpack(GitHubContributionService.pack(new int[] {3}))[0]);
+        assertArrayEquals(new int[GithubContributionCalendar.SLOTS], GitHubContributionService.unpack(null));
+    }
+
+    @Test
+    void stitchRollingYear_shouldJoinTailOfPreviousYearToHeadOfCurrent() {
+        // Window 2025-03-02 .. 2026-03-01: slots 60..364 of 2025, then slots 0..59 of 2026
+        LocalDate start = LocalDate.of(2025, 3, 2);
+        int[] previous = slots(1000);
+        int[] current = slots(2000);
+
+        int[] days = GitHubContributionService.stitchRollingYear(start, previous, current);
+
+        assertEquals(365, days.length);
+        assertEquals(1060, days[0]);
+        assertEquals(1364, days[304]);
+        assertEquals(2000, days[305]);
+        assertEquals(2059, days[364]);
+    }
+
+    @Test
+    void stitchRollingYear_shouldReadOneYear_whenWindowDoesNotCrossNewYear() {
+        // Leap year: window 2024-01-02 .. 2024-12-31 is slots 1..365
+        int[] days = GitHubContributionService.stitchRollingYear(LocalDate.of(2024, 1, 2), null, slots(0));
+
+        assertEquals(1, days[0]);
+        assertEquals(365, days[364]);
+    }
+
+    // Slot i holds base + i, so every copied slot is identifiable
+    private static int[] slots(int base) {
+        int[] counts = new int[GithubContributionCalendar.SLOTS];
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = base + i;
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,147 @@
+package com.devpulsex.service;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import com.devpulsex.dto.github.GithubInsightsHistoryResponse;
+import com.devpulsex.dto.github.GithubInsightsResponse;
+import com.devpulsex.integration.oauth.OAuthTokenEncryptor;
+import com.devpulsex.model.GithubInsightsSnapshot;
+import com.devpulsex.repository.GithubInsightsSnapshotRepository;
+import com.devpulsex.repository.UserRepository;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class GitHubInsightsHistoryServiceTest {
+
+    private static final LocalDate DAY_1 = LocalDate.of(2026, 3, 1);
+
+    private final GithubInsightsSnapshotRepository snapshotRepository = mock(GithubInsightsSnapshotRepository.class);
+    private final GitHubInsightsHistoryService service = new GitHubInsightsHistoryService(snapshotRepository,
+            mock(UserRepository.class), mock(GitHubService.class), mock(OAuthTokenEncryptor.class), true);
+
+    @Test
+    void encode_shouldStoreDeltas_whenPreviousPointGiven() {
+        GithubInsightsSnapshot keyframe = GitHubInsightsHistoryService.encode(1L, 100L, point(DAY_1, 10, 5, 3, 7), null);
+        GithubInsightsSnapshot delta = GitHubInsightsHistoryService.encode(1L, 100L, point(DAY_1.plusDays(1), 12, 5, 2, 4), point(DAY_1, 10, 5, 3, 7));
+
+        assertTrue(keyframe.isKeyframe());
+        assertArrayEquals(new int[] {10, 5, 3, 7}, GitHubInsightsHistoryService.unpack(keyframe.getMetrics()));
+        assertFalse(delta.isKeyframe());
+        assertArrayEquals(new int[] {2, 0, -1, -3}, GitHubInsightsHistoryService.unpack(delta.getMetrics()));
+        // Small deltas take one byte per metric
+        assertEquals(4, delta.getMetrics().length);
+    }
+
+    @Test
+    void pack_shouldRoundTripLargeAndNegativeValues() {
+        int[] values = {Integer.MAX_VALUE, Integer.MIN_VALUE, -1, 300};
+
+        assertArrayEquals(values, GitHubInsightsHistoryService.unpack(GitHubInsightsHistoryService.pack(values)));
+        assertArrayEquals(new int[4], GitHubInsightsHistoryService.unpack(null));
+    }
+
+    @Test
+    void decode_shouldRebuildAbsoluteValues_andOnlyEmitPointsFromRangeStart() {
+        List<GithubInsightsSnapshot> rows = List.of(
+                GitHubInsightsHistoryService.encode(1L, 100L, point(DAY_1, 10, 5, 3, 7), null),
+                GitHubInsightsHistoryService.encode(1L, 100L, point(DAY_1.plusDays(1), 12, 6, 3, 4), point(DAY_1, 10, 5, 3, 7)),
+                GitHubInsightsHistoryService.encode(1L, 100L, point(DAY_1.plusDays(2), 15, 6, 4, 9), point(DAY_1.plusDays(1), 12, 6, 3, 4)));
+
+        List<GithubInsightsHistoryResponse.Point> points = GitHubInsightsHistoryService.decode(rows, DAY_1.plusDays(1));
+
+        assertEquals(2, points.size());
+        assertEquals(point(DAY_1.plusDays(1), 12, 6, 3, 4), points.get(0));
+        assertEquals(point(DAY_1.plusDays(2), 15, 6, 4, 9), points.get(1));
+    }
+
+    @Test
+    void recordSnapshot_shouldStoreNothing_whenInsightsArePartial() {
+        GithubInsightsResponse failed = GithubInsightsResponse.builder()
+                .username("octo")
+                .partial(true)
+                .missingFields(List.of("totalStars", "followers"))
+                .build();
+
+        assertFalse(service.recordSnapshot(1L, 100L, DAY_1, failed));
+        verify(snapshotRepository, never()).save(any());
+    }
+
+    @Test
+    void recordSnapshot_shouldStoreDelta_whenSameAccount() {
+        GithubInsightsSnapshot keyframe = GitHubInsightsHistoryService.encode(1L, 100L, point(DAY_1, 10, 5, 3, 7), null);
+        previousRows(keyframe);
+
+        assertTrue(service.recordSnapshot(1L, 100L, DAY_1.plusDays(1), insights(12, 5, 3, 7)));
+
+        GithubInsightsSnapshot saved = saved();
+        assertFalse(saved.isKeyframe());
+        assertArrayEquals(new int[] {2, 0, 0, 0}, GitHubInsightsHistoryService.unpack(saved.getMetrics()));
+    }
+
+    @Test
+    void recordSnapshot_shouldStartNewKeyframe_whenUserLinkedAnotherAccount() {
+        GithubInsightsSnapshot keyframe = GitHubInsightsHistoryService.encode(1L, 100L, point(DAY_1, 10, 5, 3, 7), null);
+        previousRows(keyframe);
+
+        assertTrue(service.recordSnapshot(1L, 200L, DAY_1.plusDays(1), insights(1, 0, 2, 4)));
+
+        GithubInsightsSnapshot saved = saved();
+        assertTrue(saved.isKeyframe());
+        assertEquals(200L, saved.getGithubId());
+        assertArrayEquals(new int[] {1, 0, 2, 4}, GitHubInsightsHistoryService.unpack(saved.getMetrics()));
+    }
+
+    @Test
+    void forgetUser_shouldDeleteSnapshots() {
+        service.forgetUser(1L);
+
+        verify(snapshotRepository).deleteByUserId(1L);
+    }
+
+    private void previousRows(GithubInsightsSnapshot keyframe) {
+        when(snapshotRepository.findFirstByUserIdAndKeyframeTrueAndSnapshotDateLessThanEqualOrderBySnapshotDateDesc(eq(1L), any()))
+                .thenReturn(Optional.of(keyframe));
+        when(snapshotRepository.findByUserIdAndSnapshotDateBetweenOrderBySnapshotDateAsc(eq(1L), eq(DAY_1), any()))
+                .thenReturn(List.of(keyframe));
+    }
+
+    private GithubInsightsSnapshot saved() {
+        ArgumentCaptor<GithubInsightsSnapshot> captor = ArgumentCaptor.forClass(GithubInsightsSnapshot.class);
+        verify(snapshotRepository).save(captor.capture());
+        return captor.getValue();
+    }
+
+    private static GithubInsightsResponse insights(int stars, int prs, int followers, int commits) {
+        return GithubInsightsResponse.builder()
+                .username("octo")
+                .totalStars(stars)
+                .totalPullRequests(prs)
+                .followers(followers)
+                .recentCommits(commits)
+                .build();
+    }
+
+    private static GithubInsightsHistoryResponse.Point point(LocalDate date, int stars, int prs, int followers, int commits) {
+        return GithubInsightsHistoryResponse.Point.builder()
+                .date(date)
+                .stars(stars)
+                .pullRequests(prs)
+                .followers(followers)
+                .commitsPerWeek(commits)
+                .build();
+    }
+}
@@ -0,0 +1,72 @@
+package com.devpulsex.service;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.devpulsex.dto.GithubRepositoryResponse;
+import com.devpulsex.dto.github.GithubRepositoryPageResponse;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class GitHubRepositoryIndexTest {
+
+    private static final String REPOS = "["
+            + "{\"id\":1,\"name\":\"devpulse-api\",\"language\":\"Java\",\"stargazers_count\":5,\"updated_at\":\"2026-01-03T00:00:00Z\"},"
+            + "{\"id\":2,\"name\":\"devpulse-web\",\"language\":\"TypeScript\",\"stargazers_count\":9,\"updated_at\":\"2026-01-01T00:00:00Z\"},"
+            + "{\"id\":3,\"name\":\"Dotfiles\",\"language\":null,\"stargazers_count\":1,\"updated_at\":\"2026-01-02T00:00:00Z\"},"
+            + "{\"id\":4,\"name\":\"devtools\",\"language\":\"java\",\"stargazers_count\":7,\"updated_at\":\"2026-01-04T00:00:00Z\"}"
+            + "]";
+
+    private final GitHubRepositoryIndex index;
+
+    GitHubRepositoryIndexTest() throws Exception {
+        JsonNode repos = new ObjectMapper().readTree(REPOS);
+        this.index = new GitHubRepositoryIndex(repos);
+    }
+
+    @Test
+    void query_shouldFilterByLanguageCaseInsensitively_andSortByStars() {
+        GithubRepositoryPageResponse page = index.query("JAVA", GitHubRepositoryIndex.Sort.STARS, null, 0, 10);
+
+        assertEquals(List.of(4L, 1L), ids(page));
+        assertEquals(2, page.getTotalElements());
+    }
+
+    @Test
+    void query_shouldMatchNamePrefix_andPage() {
+        GithubRepositoryPageResponse first = index.query(null, GitHubRepositoryIndex.Sort.NAME, "devp", 0, 1);
+        GithubRepositoryPageResponse second = index.query(null, GitHubRepositoryIndex.Sort.NAME, "devp", 1, 1);
+
+        assertEquals(List.of(1L), ids(first));
+        assertEquals(List.of(2L), ids(second));
+        assertEquals(2, first.getTotalPages());
+    }
+
+    @Test
+    void query_shouldReturnEmptyPage_whenPageOffsetOverflowsInt() {
+        GithubRepositoryPageResponse page = index.query(null, GitHubRepositoryIndex.Sort.NAME, null, Integer.MAX_VALUE, 100);
+
+        assertEquals(List.of(), ids(page));
+        assertEquals(4, page.getTotalElements());
+    }
+
+    @Test
+    void query_shouldDefaultToMostRecentlyUpdated() {
+        GithubRepositoryPageResponse page = index.query(null, GitHubRepositoryIndex.Sort.parse(null), null, 0, 10);
+
+        assertEquals(List.of(4L, 1L, 3L, 2L), ids(page));
+    }
+
+    @Test
+    void parse_shouldRejectUnknownSort() {
+        assertThrows(IllegalArgumentException.class, () -> GitHubRepositoryIndex.Sort.parse("forks"));
+    }
+
+    private static List<Long> ids(GithubRepositoryPageResponse page) {
+        return page.getItems().stream().map(GithubRepositoryResponse::getId).toList();
+    }
+}
@@ -0,0 +1,105 @@
+package com.devpulsex.service;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import com.devpulsex.dto.github.GithubInsightsResponse;
+import com.devpulsex.exception.GitHubRateLimitException;
+
+import reactor.core.publisher.Mono;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GitHubServiceTest {
+
+    @Test
+    void fetchInsightsWithinBudget_shouldBeComplete_whenAllCallsSucceed() {
+        GitHubService service = new GitHubService(client(false, false));
+
+        GithubInsightsResponse insights = service.fetchInsightsWithinBudget("octo", "token", Duration.ofSeconds(5));
+
+        assertFalse(insights.isPartial());
+        assertNull(insights.getMissingFields());
+        assertEquals(5, insights.getTotalStars());
+        assertEquals(2, insights.getTotalPullRequests());
+    }
+
+    @Test
+    void fetchInsightsWithinBudget_shouldReportFailedCallsAsMissing() {
+        GitHubService service = new GitHubService(client(true, false));
+
+        GithubInsightsResponse insights = service.fetchInsightsWithinBudget("octo", "token", Duration.ofSeconds(5));
+
+        assertTrue(insights.isPartial());
+        assertTrue(insights.getMissingFields().containsAll(
+                List.of("totalPullRequests", "totalIssues", "openIssues", "closedIssues", "recentPRs", "recentIssues")));
+        assertFalse(insights.getMissingFields().contains("followers"));
+        assertEquals(3, insights.getFollowers());
+    }
+
+    @Test
+    void fetchInsightsWithinBudget_shouldReportSlowCallsAsMissing_whenBudgetExpires() {
+        GitHubService service = new GitHubService(client(false, true));
+
+        GithubInsightsResponse insights = service.fetchInsightsWithinBudget("octo", "token", Duration.ofMillis(300));
+
+        assertTrue(insights.isPartial());
+        assertEquals(List.of("recentCommits", "mostActiveRepo"), insights.getMissingFields());
+        assertEquals(5, insights.getTotalStars());
+    }
+
+    @Test
+    void fetchInsightsWithinBudget_shouldThrow_whenRateLimited() {
+        WebClient rateLimited = WebClient.builder().exchangeFunction(request ->
+                request.url().getPath().equals("/search/issues")
+                        ? Mono.error(new GitHubRateLimitException("GitHub API rate limit exceeded", 0, 0L))
+                        : respond(request, false, false)).build();
+        GitHubService service = new GitHubService(rateLimited);
+
+        assertThrows(GitHubRateLimitException.class,
+                () -> service.fetchInsightsWithinBudget("octo", "token", Duration.ofSeconds(5)));
+    }
+
+    /**
+     * A GitHub stand-in: search fails with 503 when {@code failSearch}, events arrive after
+     * 5 seconds when {@code slowEvents}.
+     */
+    private static WebClient client(boolean failSearch, boolean slowEvents) {
+        return WebClient.builder().exchangeFunction(request -> respond(request, failSearch, slowEvents)).build();
+    }
+
+    private static Mono<ClientResponse> respond(ClientRequest request, boolean failSearch, boolean slowEvents) {
+        String path = request.url().getPath();
+        if (path.equals("/search/issues")) {
+            return failSearch
+                    ? Mono.just(ClientResponse.create(HttpStatus.SERVICE_UNAVAILABLE).build())
+                    : json("{\"total_count\":2}");
+        }
+        if (path.equals("/user/repos")) {
+            return json("[{\"stargazers_count\":5}]");
+        }
+        if (path.endsWith("/events")) {
+            return slowEvents ? Mono.delay(Duration.ofSeconds(5)).then(json("[]")) : json("[]");
+        }
+        return json("{\"followers\":3,\"following\":1,\"public_gists\":0}");
+    }
+
+    private static Mono<ClientResponse> json(String body) {
+        return Mono.just(ClientResponse.create(HttpStatus.OK)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body(body)
+                .build());
+    }
+}
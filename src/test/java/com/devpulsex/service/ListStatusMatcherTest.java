@@ -0,0 +1,50 @@
+package com.devpulsex.service;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.devpulsex.model.TaskStatus;
+import com.devpulsex.model.TrelloStatusRule;
+import com.devpulsex.model.TrelloStatusRuleType;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ListStatusMatcherTest {
+
+    @Test
+    void statusFor_shouldApplyBuiltInMapping_whenNoRules() {
+        ListStatusMatcher matcher = ListStatusMatcher.compile(List.of());
+
+        assertEquals(TaskStatus.DONE, matcher.statusFor("l1", "Done ✔"));
+        assertEquals(TaskStatus.IN_PROGRESS, matcher.statusFor("l2", "In Progress"));
+        assertEquals(TaskStatus.BLOCKED, matcher.statusFor("l3", "Blocked"));
+        assertEquals(TaskStatus.TODO, matcher.statusFor("l4", "Backlog"));
+    }
+
+    @Test
+    void statusFor_shouldPreferListIdThenExactThenOrderedNameRules() {
+        ListStatusMatcher matcher = ListStatusMatcher.compile(List.of(
+                rule(TrelloStatusRuleType.REGEX, "^qa\\b", TaskStatus.REVIEW),
+                rule(TrelloStatusRuleType.PREFIX, "QA", TaskStatus.BLOCKED),
+                rule(TrelloStatusRuleType.EXACT, "QA done", TaskStatus.DONE),
+                rule(TrelloStatusRuleType.LIST_ID, "list-42", TaskStatus.TODO)));
+
+        assertEquals(TaskStatus.TODO, matcher.statusFor("list-42", "QA done"));
+        assertEquals(TaskStatus.DONE, matcher.statusFor("l1", "qa DONE"));
+        assertEquals(TaskStatus.REVIEW, matcher.statusFor("l2", "QA pending"));
+        assertEquals(TaskStatus.BLOCKED, matcher.statusFor("l3", "QAx"));
+        assertEquals(TaskStatus.IN_PROGRESS, matcher.statusFor("l4", "Doing"));
+    }
+
+    @Test
+    void compile_shouldRejectInvalidRegex() {
+        assertThrows(IllegalArgumentException.class,
+                () -> ListStatusMatcher.compile(List.of(rule(TrelloStatusRuleType.REGEX, "(", TaskStatus.DONE))));
+    }
+
+    private static TrelloStatusRule rule(TrelloStatusRuleType type, String pattern, TaskStatus status) {
+        return TrelloStatusRule.builder().type(type).pattern(pattern).status(status).build();
+    }
+}
@@ -0,0 +1,87 @@
+package com.devpulsex.service;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.devpulsex.model.RevokedToken;
+import com.devpulsex.repository.RevokedTokenRepository;
+
+import io.jsonwebtoken.Claims;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TokenRevocationServiceTest {
+
+    private final RevokedTokenRepository repository = mock(RevokedTokenRepository.class);
+    private final TokenRevocationService service = new TokenRevocationService(repository, 1000, 0.01, 60000);
+    private final Date expiresAt = Date.from(Instant.now().plus(1, ChronoUnit.HOURS));
+
+    @Test
+    void isRevoked_shouldRejectRevokedJti_andSkipTheTableForOthers() {
+        when(repository.findByExpiresAtAfter(any())).thenReturn(List.of(row("revoked")));
+        when(repository.existsById("revoked")).thenReturn(true);
+        service.rebuild();
+
+        assertTrue(service.isRevoked(claims("revoked")));
+        assertFalse(service.isRevoked(claims("active")));
+        verify(repository, never()).existsById("active");
+    }
+
+    @Test
+    void isRevoked_shouldRejectJti_revokedJustNow() {
+        service.rebuild();
+
+        service.revoke("logout", expiresAt);
+
+        verify(repository).save(any(RevokedToken.class));
+        assertTrue(service.isRevoked(claims("logout")));
+    }
+
+    @Test
+    void rebuild_shouldKeepJti_revokedWhileTheTableWasRead() {
+        // The revocation lands after the rebuild's read, so the rows it returns do not include it
+        when(repository.findByExpiresAtAfter(any())).thenAnswer(invocation -> {
+            service.revoke("mid-rebuild", expiresAt);
+            return List.of();
+        });
+        when(repository.existsById("mid-rebuild")).thenReturn(true);
+
+        service.rebuild();
+
+        assertTrue(service.isRevoked(claims("mid-rebuild")));
+    }
+
+    @Test
+    void rebuild_shouldPurgeExpiredRows() {
+        service.rebuild();
+
+        verify(repository).deleteByExpiresAtBefore(any(Instant.class));
+    }
+
+    @Test
+    void revoke_shouldIgnoreExpiredTokens() {
+        service.revoke("expired", Date.from(Instant.now().minus(1, ChronoUnit.MINUTES)));
+
+        verify(repository, never()).save(any(RevokedToken.class));
+    }
+
+    private static Claims claims(String jti) {
+        Claims claims = mock(Claims.class);
+        when(claims.getId()).thenReturn(jti);
+        return claims;
+    }
+
+    private RevokedToken row(String jti) {
+        return RevokedToken.builder().jti(jti).expiresAt(expiresAt.toInstant()).revokedAt(Instant.now()).build();
+    }
+}
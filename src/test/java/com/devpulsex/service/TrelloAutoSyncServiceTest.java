@@ -0,0 +1,147 @@
+package com.devpulsex.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.TaskScheduler;
+
+import com.devpulsex.model.Project;
+import com.devpulsex.model.TrelloAutoSyncRun;
+import com.devpulsex.model.TrelloProjectSyncState;
+import com.devpulsex.model.TrelloSyncJob;
+import com.devpulsex.model.TrelloSyncJobStatus;
+import com.devpulsex.repository.ProjectRepository;
+import com.devpulsex.repository.TrelloAutoSyncRunRepository;
+import com.devpulsex.repository.TrelloProjectSyncStateRepository;
+import com.devpulsex.repository.TrelloSyncJobRepository;
+
+import reactor.core.publisher.Mono;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TrelloAutoSyncServiceTest {
+
+    private static final String OWNER = "owner@devpulsex.io";
+    private static final Instant WATERMARK = Instant.parse("2026-03-01T10:00:00Z");
+
+    private final ProjectRepository projectRepository = mock(ProjectRepository.class);
+    private final TrelloProjectSyncStateRepository syncStateRepository = mock(TrelloProjectSyncStateRepository.class);
+    private final TrelloSyncJobRepository jobRepository = mock(TrelloSyncJobRepository.class);
+    private final TrelloAutoSyncRunRepository runRepository = mock(TrelloAutoSyncRunRepository.class);
+    private final TrelloService trelloService = mock(TrelloService.class);
+    private final TrelloSyncJobService syncJobService = mock(TrelloSyncJobService.class);
+    // Scheduled project starts are captured and run by the test; the pool runs work inline
+    private final TaskScheduler taskScheduler = mock(TaskScheduler.class);
+    private final TaskExecutor executor = Runnable::run;
+    private final TrelloAutoSyncService service = new TrelloAutoSyncService(projectRepository, syncStateRepository,
+            jobRepository, runRepository, trelloService, syncJobService, taskScheduler, executor, true, 1000, 30);
+
+    private final Project noOwner = project(1L, "b1");
+    private final Project inactive = project(2L, "b2");
+    private final Project busy = project(3L, "b3");
+    private final Project active = project(4L, "b4");
+
+    @BeforeEach
+    void setUp() {
+        when(projectRepository.findByTrelloBoardIdIsNotNullOrderByNameAsc())
+                .thenReturn(List.of(noOwner, inactive, busy, active));
+        when(syncStateRepository.findAllById(any())).thenReturn(List.of(
+                TrelloProjectSyncState.builder().projectId(2L).boardId("b2").watermark(WATERMARK).build(),
+                TrelloProjectSyncState.builder().projectId(4L).boardId("b4").watermark(WATERMARK).build()));
+        for (Project project : List.of(inactive, busy, active)) {
+            when(jobRepository.findFirstByProjectIdAndStatusOrderByFinishedAtDesc(project.getId(), TrelloSyncJobStatus.COMPLETED))
+                    .thenReturn(Optional.of(TrelloSyncJob.builder().requestedBy(OWNER).build()));
+        }
+        when(trelloService.getBoardLastActivityForUser("b2", OWNER)).thenReturn(Mono.just(WATERMARK.minusSeconds(60)));
+        when(trelloService.getBoardLastActivityForUser("b4", OWNER)).thenReturn(Mono.just(WATERMARK.plusSeconds(60)));
+        when(syncJobService.runScheduled(busy, OWNER)).thenReturn(null);
+        when(syncJobService.runScheduled(active, OWNER)).thenReturn(TrelloSyncJob.builder()
+                .status(TrelloSyncJobStatus.COMPLETED).cardsProcessed(5).created(2).updated(1).build());
+        when(runRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    void syncAll_shouldSpreadProjectStartsOverEightyPercentOfTheInterval() {
+        service.syncAll();
+
+        List<Instant> starts = scheduledStarts().getAllValues();
+        assertEquals(4, starts.size());
+        // 80% of 1000 ms over 4 projects
+        for (int i = 1; i < starts.size(); i++) {
+            assertEquals(Duration.ofMillis(200), Duration.between(starts.get(i - 1), starts.get(i)));
+        }
+    }
+
+    @Test
+    void syncAll_shouldSkipInactiveBusyAndOwnerlessProjects_andRecordTheRun() {
+        service.syncAll();
+        runScheduled();
+
+        verify(syncJobService, never()).runScheduled(eq(noOwner), any());
+        verify(syncJobService, never()).runScheduled(eq(inactive), any());
+        ArgumentCaptor<TrelloAutoSyncRun> run = ArgumentCaptor.forClass(TrelloAutoSyncRun.class);
+        verify(runRepository).save(run.capture());
+        assertEquals(4, run.getValue().getProjects());
+        assertEquals(1, run.getValue().getSynced());
+        assertEquals(1, run.getValue().getSkippedInactive());
+        assertEquals(1, run.getValue().getSkippedBusy());
+        assertEquals(1, run.getValue().getSkippedNoOwner());
+        assertEquals(0, run.getValue().getFailed());
+        assertEquals(5, run.getValue().getCardsProcessed());
+        assertEquals(2, run.getValue().getCreated());
+        assertEquals(1, run.getValue().getUpdated());
+    }
+
+    @Test
+    void syncAll_shouldPruneRunsOlderThanTheRetention_whenARunFinishes() {
+        service.syncAll();
+        runScheduled();
+
+        ArgumentCaptor<Instant> cutoff = ArgumentCaptor.forClass(Instant.class);
+        verify(runRepository).deleteByStartedAtBefore(cutoff.capture());
+        Duration age = Duration.between(cutoff.getValue(), Instant.now());
+        assertEquals(30, age.toDays());
+    }
+
+    @Test
+    void syncAll_shouldSkipTick_whilePreviousRunIsInProgress() {
+        service.syncAll();
+        service.syncAll();
+
+        verify(projectRepository, times(1)).findByTrelloBoardIdIsNotNullOrderByNameAsc();
+
+        runScheduled();
+        service.syncAll();
+
+        verify(projectRepository, times(2)).findByTrelloBoardIdIsNotNullOrderByNameAsc();
+    }
+
+    private ArgumentCaptor<Instant> scheduledStarts() {
+        ArgumentCaptor<Instant> starts = ArgumentCaptor.forClass(Instant.class);
+        verify(taskScheduler, times(4)).schedule(any(Runnable.class), starts.capture());
+        return starts;
+    }
+
+    private void runScheduled() {
+        ArgumentCaptor<Runnable> tasks = ArgumentCaptor.forClass(Runnable.class);
+        verify(taskScheduler, times(4)).schedule(tasks.capture(), any(Instant.class));
+        tasks.getAllValues().forEach(Runnable::run);
+    }
+
+    private static Project project(Long id, String boardId) {
+        return Project.builder().id(id).name("Project " + id).trelloBoardId(boardId).build();
+    }
+}
@@ -0,0 +1,67 @@
+package com.devpulsex.service;
+
+import java.time.Instant;
+
+import org.junit.jupiter.api.Test;
+
+import com.devpulsex.dto.trello.BoardAnalyticsResponse;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TrelloBoardAnalyticsTest {
+
+    private static final Instant NOW = Instant.parse("2026-03-31T00:00:00Z");
+
+    @Test
+    void analyze_shouldCountListsLabelsMembersOverdueAndAges() throws Exception {
+        // Trello ids start with their creation time as 8 hex digits of epoch seconds
+        String oldId = Long.toHexString(NOW.minusSeconds(100L * 86400).getEpochSecond()) + "0000000000000000";
+        String newId = Long.toHexString(NOW.minusSeconds(2L * 86400).getEpochSecond()) + "0000000000000000";
+        JsonNode board = new ObjectMapper().readTree("""
+                {"lists": [{"id": "l1", "name": "To Do"}, {"id": "l2", "name": "Done"}],
+                 "cards": [
+                   {"id": "%s", "idList": "l1", "labels": [{"id": "b", "name": "Bug"}], "idMembers": ["m1"],
+                    "due": "2026-03-01T00:00:00.000Z", "dueComplete": false},
+                   {"id": "%s", "idList": "l1", "labels": [{"id": "b", "name": "Bug"}], "idMembers": ["m1", "m2"],
+                    "due": "2026-03-01T00:00:00.000Z", "dueComplete": true},
+                   {"id": "%s", "idList": "l2", "labels": [], "idMembers": [], "due": null}
+                 ]}
+                """.formatted(oldId, newId, newId));
+
+        BoardAnalyticsResponse analytics = TrelloBoardAnalytics.analyze("board", board, NOW);
+
+        assertEquals(3, analytics.getTotalCards());
+        assertEquals(1, analytics.getOverdueCards());
+        assertEquals(2, analytics.getByList().get(0).getCount());
+        assertEquals("Done", analytics.getByList().get(1).getName());
+        assertEquals(1, analytics.getByList().get(1).getCount());
+        assertEquals(2, analytics.getByLabel().get(0).getCount());
+        assertEquals(2, analytics.getByMember().get(0).getCount());
+        assertEquals(1, analytics.getByMember().get(1).getCount());
+        assertEquals(2, analytics.getAge().getUnder7Days());
+        assertEquals(1, analytics.getAge().getOver90Days());
+    }
+
+    @Test
+    void summarize_shouldEvaluateOverdueAndAgesAtEachInstant() throws Exception {
+        String id = Long.toHexString(NOW.minusSeconds(6L * 86400).getEpochSecond()) + "0000000000000000";
+        JsonNode board = new ObjectMapper().readTree("""
+                {"lists": [{"id": "l1", "name": "To Do"}],
+                 "cards": [{"id": "%s", "idList": "l1", "labels": [], "idMembers": [],
+                            "due": "2026-04-01T12:00:00.000Z", "dueComplete": false}]}
+                """.formatted(id));
+        TrelloBoardAnalytics.Summary summary = TrelloBoardAnalytics.summarize("board", board);
+
+        BoardAnalyticsResponse now = summary.at(NOW);
+        BoardAnalyticsResponse later = summary.at(NOW.plusSeconds(2L * 86400));
+
+        assertEquals(0, now.getOverdueCards());
+        assertEquals(1, now.getAge().getUnder7Days());
+        assertEquals(1, later.getOverdueCards());
+        assertEquals(0, later.getAge().getUnder7Days());
+        assertEquals(1, later.getAge().getFrom7To30Days());
+        assertEquals(NOW.plusSeconds(2L * 86400), later.getComputedAt());
+    }
+}
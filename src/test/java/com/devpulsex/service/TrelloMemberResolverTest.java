@@ -0,0 +1,48 @@
+package com.devpulsex.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import com.devpulsex.model.User;
+import com.devpulsex.repository.UserRepository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TrelloMemberResolverTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final TrelloMemberResolver resolver = new TrelloMemberResolver(userRepository, 600, 100);
+
+    @Test
+    void resolve_shouldQueryMissesOnce_andCacheUnlinkedMembers() {
+        when(userRepository.findByTrelloIdIn(anyCollection()))
+                .thenReturn(List.of(User.builder().id(3L).trelloId("m1").build()));
+
+        Map<String, Long> first = resolver.resolve(Set.of("m1", "m2"));
+        Map<String, Long> second = resolver.resolve(Set.of("m1", "m2"));
+
+        assertEquals(Map.of("m1", 3L), first);
+        assertEquals(first, second);
+        verify(userRepository, times(1)).findByTrelloIdIn(anyCollection());
+    }
+
+    @Test
+    void evict_shouldResolveMemberAgain() {
+        when(userRepository.findByTrelloIdIn(anyCollection()))
+                .thenReturn(List.of())
+                .thenReturn(List.of(User.builder().id(4L).trelloId("m1").build()));
+
+        assertEquals(Map.of(), resolver.resolve(Set.of("m1")));
+        resolver.evict("m1");
+
+        assertEquals(Map.of("m1", 4L), resolver.resolve(Set.of("m1")));
+    }
+}
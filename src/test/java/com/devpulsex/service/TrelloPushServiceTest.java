@@ -0,0 +1,154 @@
+package com.devpulsex.service;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.devpulsex.integration.IntegrationCredentialContext;
+import com.devpulsex.integration.oauth.OAuthTokenEncryptor;
+import com.devpulsex.integration.trello.TrelloTokenEncryptor;
+import com.devpulsex.model.Project;
+import com.devpulsex.model.Task;
+import com.devpulsex.model.TaskStatus;
+import com.devpulsex.model.User;
+import com.devpulsex.repository.ProjectRepository;
+import com.devpulsex.repository.UserRepository;
+
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TrelloPushServiceTest {
+
+    private static final String SECRET = "0123456789abcdef0123456789abcdef";
+    private static final String OWNER = "owner@devpulsex.io";
+    private static final String UNLINKED = "unlinked@devpulsex.io";
+
+    private final TrelloService trelloService = mock(TrelloService.class);
+    private final ProjectRepository projectRepository = mock(ProjectRepository.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final TrelloTokenEncryptor tokenEncryptor = new TrelloTokenEncryptor(SECRET);
+    private final IntegrationCredentialContext credentialContext =
+            new IntegrationCredentialContext(userRepository, tokenEncryptor, new OAuthTokenEncryptor(SECRET), 60, 100);
+    private final Project project = Project.builder().id(1L).trelloBoardId("b1").build();
+
+    @BeforeEach
+    void setUp() {
+        when(projectRepository.findAllById(any())).thenReturn(List.of(project));
+        when(userRepository.findByEmail(OWNER)).thenReturn(Optional.of(User.builder().id(7L).email(OWNER)
+                .trelloAccessToken(tokenEncryptor.encrypt("trello-token")).build()));
+        when(userRepository.findByEmail(UNLINKED)).thenReturn(Optional.of(User.builder().id(8L).email(UNLINKED).build()));
+        signIn(OWNER);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void flush_shouldSendOneUpdate_whenCardWasEditedInABurst() {
+        when(trelloService.pushCardForUser(any(), anyString(), anyString(), any(), anyString())).thenReturn(Mono.empty());
+        TrelloPushService service = service(3);
+
+        service.enqueue(task("Draft", TaskStatus.TODO));
+        service.enqueue(task("Draft", TaskStatus.IN_PROGRESS));
+        service.enqueue(task("Final", TaskStatus.REVIEW));
+        service.flush();
+        service.flush();
+
+        verify(trelloService, times(1)).pushCardForUser(any(), anyString(), anyString(), any(), anyString());
+        verify(trelloService).pushCardForUser(project, "c1", "Final", TaskStatus.REVIEW, OWNER);
+    }
+
+    @Test
+    void flush_shouldNotStartSecondPush_whileCardPushIsInFlight() {
+        Sinks.Empty<Void> firstPush = Sinks.empty();
+        when(trelloService.pushCardForUser(any(), anyString(), anyString(), any(), anyString()))
+                .thenReturn(firstPush.asMono(), Mono.empty());
+        TrelloPushService service = service(3);
+
+        service.enqueue(task("First", TaskStatus.TODO));
+        service.flush();
+        service.enqueue(task("Second", TaskStatus.TODO));
+        service.flush();
+
+        verify(trelloService, never()).pushCardForUser(any(), anyString(), eq("Second"), any(), anyString());
+
+        firstPush.tryEmitEmpty();
+        service.flush();
+
+        verify(trelloService).pushCardForUser(project, "c1", "Second", TaskStatus.TODO, OWNER);
+    }
+
+    @Test
+    void flush_shouldNotRetryFailedPush_whenNewerEditWasQueuedMeanwhile() {
+        Sinks.Empty<Void> firstPush = Sinks.empty();
+        when(trelloService.pushCardForUser(any(), anyString(), anyString(), any(), anyString()))
+                .thenReturn(firstPush.asMono(), Mono.empty());
+        TrelloPushService service = service(3);
+
+        service.enqueue(task("Old", TaskStatus.TODO));
+        service.flush();
+        service.enqueue(task("New", TaskStatus.DONE));
+        firstPush.tryEmitError(new RuntimeException("Trello unavailable"));
+        service.flush();
+        service.flush();
+
+        verify(trelloService, times(2)).pushCardForUser(any(), anyString(), anyString(), any(), anyString());
+        verify(trelloService).pushCardForUser(project, "c1", "New", TaskStatus.DONE, OWNER);
+    }
+
+    @Test
+    void flush_shouldNotPush_whenEditorHasNotLinkedTrello() {
+        TrelloPushService service = service(3);
+        signIn(UNLINKED);
+
+        service.enqueue(task("Title", TaskStatus.DONE));
+        service.flush();
+        service.flush();
+
+        verify(trelloService, never()).pushCardForUser(any(), anyString(), anyString(), any(), anyString());
+    }
+
+    @Test
+    void flush_shouldDropPush_afterMaxAttempts() {
+        when(trelloService.pushCardForUser(any(), anyString(), anyString(), any(), anyString()))
+                .thenReturn(Mono.error(new RuntimeException("Trello unavailable")));
+        TrelloPushService service = service(2);
+
+        service.enqueue(task("Title", TaskStatus.TODO));
+        service.flush();
+        service.flush();
+        service.flush();
+
+        verify(trelloService, times(2)).pushCardForUser(project, "c1", "Title", TaskStatus.TODO, OWNER);
+    }
+
+    // No quiet period or backoff, so every flush sends whatever is queued
+    private TrelloPushService service(int maxAttempts) {
+        return new TrelloPushService(trelloService, projectRepository, credentialContext,
+                true, 0, 0, maxAttempts, 100, 4);
+    }
+
+    private static void signIn(String email) {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(email, null));
+    }
+
+    private Task task(String title, TaskStatus status) {
+        return Task.builder().title(title).status(status).trelloCardId("c1").project(project).build();
+    }
+}
@@ -0,0 +1,126 @@
+package com.devpulsex.service;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.devpulsex.integration.IntegrationCredentialContext;
+import com.devpulsex.integration.oauth.OAuthTokenEncryptor;
+import com.devpulsex.integration.trello.TrelloClient;
+import com.devpulsex.integration.trello.TrelloResponseCache;
+import com.devpulsex.integration.trello.TrelloTokenEncryptor;
+import com.devpulsex.integration.trello.TrelloWebhookRegistry;
+import com.devpulsex.model.User;
+import com.devpulsex.repository.ProjectRepository;
+import com.devpulsex.repository.UserRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+
+import reactor.core.publisher.Mono;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * {@link TrelloService#getBoardDeltaForUser}: when a delta is trusted, and what it contains.
+ */
+class TrelloServiceDeltaTest {
+
+    private static final String SECRET = "0123456789abcdef0123456789abcdef";
+    private static final String EMAIL = "dev@example.com";
+    private static final Instant SINCE = Instant.parse("2026-03-01T10:00:00Z");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final TrelloClient trelloClient = mock(TrelloClient.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final TrelloTokenEncryptor tokenEncryptor = new TrelloTokenEncryptor(SECRET);
+    private final TrelloService service = new TrelloService(trelloClient, mock(ProjectRepository.class),
+            new IntegrationCredentialContext(userRepository, tokenEncryptor, new OAuthTokenEncryptor(SECRET), 60, 100),
+            mock(TrelloResponseCache.class), mock(TrelloWebhookRegistry.class), mock(TrelloStatusRuleService.class));
+
+    @BeforeEach
+    void setUp() {
+        when(userRepository.findByEmail(EMAIL)).thenReturn(Optional.of(User.builder().id(7L).email(EMAIL)
+                .trelloAccessToken(tokenEncryptor.encrypt("trello-token")).build()));
+    }
+
+    @Test
+    void getBoardDelta_shouldFallBack_whenAListChanged() throws Exception {
+        actions("[" + cardAction("c1", "2026-03-01T10:05:00Z") + ",{\"type\":\"updateList\",\"date\":\"2026-03-01T10:06:00Z\"}]");
+
+        assertNull(service.getBoardDeltaForUser("b1", EMAIL, SINCE, 100).block());
+        verify(trelloClient, never()).getBoardListsAndCards(anyString(), anyList(), anyString());
+    }
+
+    @Test
+    void getBoardDelta_shouldFallBack_whenFeedIsTruncated() {
+        ArrayNode feed = JsonNodeFactory.instance.arrayNode();
+        for (int i = 0; i < TrelloClient.ACTIONS_PAGE_LIMIT; i++) {
+            feed.addObject().put("type", "commentCard").put("date", "2026-03-01T10:05:00Z");
+        }
+        when(trelloClient.getBoardActionsSince(eq("b1"), eq(SINCE), anyString())).thenReturn(Mono.just(feed));
+
+        assertNull(service.getBoardDeltaForUser("b1", EMAIL, SINCE, 100).block());
+    }
+
+    @Test
+    void getBoardDelta_shouldFallBack_whenMoreThanMaxCardsChanged() throws Exception {
+        actions("[" + cardAction("c1", "2026-03-01T10:05:00Z") + "," + cardAction("c2", "2026-03-01T10:06:00Z")
+                + "," + cardAction("c1", "2026-03-01T10:07:00Z") + "]");
+
+        assertNull(service.getBoardDeltaForUser("b1", EMAIL, SINCE, 1).block());
+    }
+
+    @Test
+    void getBoardDelta_shouldReturnOpenChangedCardsOfTheBoard_andNewestActionDate() throws Exception {
+        actions("[" + cardAction("c1", "2026-03-01T10:07:00Z") + "," + cardAction("c2", "2026-03-01T10:05:00Z")
+                + "," + cardAction("c3", "2026-03-01T10:06:00Z") + "]");
+        when(trelloClient.getBoardListsAndCards(eq("b1"), eq(List.of("c1", "c2", "c3")), anyString()))
+                .thenReturn(Mono.just(objectMapper.readTree("{"
+                        + "\"lists\":[{\"id\":\"l1\"},{\"id\":\"l2\"}],"
+                        + "\"cards\":[{\"id\":\"c1\",\"idBoard\":\"b1\",\"idList\":\"l1\"},"
+                        + "{\"id\":\"c2\",\"idBoard\":\"b1\",\"idList\":\"l2\",\"closed\":true},"
+                        + "{\"id\":\"c3\",\"idBoard\":\"b9\",\"idList\":\"x1\"}]}")));
+
+        TrelloService.BoardDelta delta = service.getBoardDeltaForUser("b1", EMAIL, SINCE, 100).block();
+
+        assertEquals(Instant.parse("2026-03-01T10:07:00Z"), delta.latestActivity());
+        assertEquals(1, delta.board().path("cards").size());
+        assertEquals("c1", delta.board().path("cards").path(0).path("id").asText());
+        assertEquals(1, delta.board().path("lists").size());
+        assertEquals("l1", delta.board().path("lists").path(0).path("id").asText());
+    }
+
+    @Test
+    void getBoardDelta_shouldKeepSince_whenNothingHappened() throws Exception {
+        actions("[]");
+
+        TrelloService.BoardDelta delta = service.getBoardDeltaForUser("b1", EMAIL, SINCE, 100).block();
+
+        assertEquals(SINCE, delta.latestActivity());
+        assertEquals(0, delta.board().path("cards").size());
+        verify(trelloClient, never()).getBoardListsAndCards(any(), any(), any());
+    }
+
+    private void actions(String json) throws Exception {
+        JsonNode feed = objectMapper.readTree(json);
+        when(trelloClient.getBoardActionsSince(eq("b1"), eq(SINCE), anyString())).thenReturn(Mono.just(feed));
+    }
+
+    private static String cardAction(String cardId, String date) {
+        return "{\"type\":\"updateCard\",\"date\":\"" + date + "\",\"data\":{\"card\":{\"id\":\"" + cardId + "\"}}}";
+    }
+}
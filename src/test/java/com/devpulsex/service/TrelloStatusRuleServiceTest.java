@@ -0,0 +1,67 @@
+package com.devpulsex.service;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.devpulsex.dto.trello.TrelloStatusRuleDto;
+import com.devpulsex.model.Project;
+import com.devpulsex.model.TaskStatus;
+import com.devpulsex.model.TrelloStatusRuleType;
+import com.devpulsex.repository.ProjectRepository;
+import com.devpulsex.repository.TrelloProjectSyncStateRepository;
+import com.devpulsex.repository.TrelloStatusRuleRepository;
+
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TrelloStatusRuleServiceTest {
+
+    private final TrelloStatusRuleRepository ruleRepository = mock(TrelloStatusRuleRepository.class);
+    private final ProjectRepository projectRepository = mock(ProjectRepository.class);
+    private final TrelloStatusRuleService service = new TrelloStatusRuleService(ruleRepository, projectRepository,
+            mock(TrelloProjectSyncStateRepository.class), mock(AuthorizationScopeService.class), 100, 300);
+    private final Project project = Project.builder().id(1L).trelloBoardId("b1").build();
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void replaceRules_shouldEvictMatchers_onlyOnceTheChangeCommits() {
+        when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
+        when(ruleRepository.findByProjectIdOrderByPositionAsc(1L)).thenReturn(List.of());
+        ListStatusMatcher before = service.matcherFor(project);
+        TransactionSynchronizationManager.initSynchronization();
+
+        service.replaceRules(1L, List.of(TrelloStatusRuleDto.builder()
+                .type(TrelloStatusRuleType.EXACT).pattern("Shipped").status(TaskStatus.DONE).build()));
+
+        // A sync reading the rules before the commit still gets the cached matcher, not a reload of the old rows
+        assertSame(before, service.matcherFor(project));
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        assertNotSame(before, service.matcherFor(project));
+    }
+
+    @Test
+    void replaceRules_shouldEvictMatchersAtOnce_outsideATransaction() {
+        when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
+        when(ruleRepository.findByProjectIdOrderByPositionAsc(1L)).thenReturn(List.of());
+        ListStatusMatcher before = service.matcherFor(project);
+
+        service.replaceRules(1L, List.of());
+
+        assertNotSame(before, service.matcherFor(project));
+    }
+}
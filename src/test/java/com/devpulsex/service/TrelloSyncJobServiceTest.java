@@ -0,0 +1,182 @@
+package com.devpulsex.service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import com.devpulsex.dto.trello.TrelloSyncJobResponse;
+import com.devpulsex.model.Project;
+import com.devpulsex.model.TrelloProjectSyncState;
+import com.devpulsex.model.TrelloSyncJob;
+import com.devpulsex.model.TrelloSyncJobStatus;
+import com.devpulsex.model.TrelloSyncMode;
+import com.devpulsex.repository.ProjectRepository;
+import com.devpulsex.repository.TrelloProjectSyncStateRepository;
+import com.devpulsex.repository.TrelloSyncJobRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import reactor.core.publisher.Mono;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TrelloSyncJobServiceTest {
+
+    private final TrelloSyncJobRepository jobRepository = mock(TrelloSyncJobRepository.class);
+    private final TrelloProjectSyncStateRepository syncStateRepository = mock(TrelloProjectSyncStateRepository.class);
+    private final ProjectRepository projectRepository = mock(ProjectRepository.class);
+    private final TrelloService trelloService = mock(TrelloService.class);
+    private final TrelloSyncService trelloSyncService = mock(TrelloSyncService.class);
+    // Jobs handed to the executor, run by the test when it chooses
+    private final List<Runnable> queued = new ArrayList<>();
+    private final TaskExecutor executor = queued::add;
+    private final Map<String, TrelloSyncJob> jobs = new HashMap<>();
+    private final Authentication owner = new UsernamePasswordAuthenticationToken("owner@devpulsex.io", null);
+    private final Project project = Project.builder().id(1L).trelloBoardId("b1").build();
+
+    private final TrelloSyncJobService service = new TrelloSyncJobService(jobRepository,
+            syncStateRepository, projectRepository, trelloService, trelloSyncService,
+            mock(AuthorizationScopeService.class), mock(TrelloMemberResolver.class), executor, 60, 100);
+
+    @BeforeEach
+    void setUp() throws Exception {
+        when(projectRepository.findById(1L)).thenReturn(Optional.of(project));
+        when(jobRepository.save(any())).thenAnswer(invocation -> {
+            TrelloSyncJob job = invocation.getArgument(0);
+            jobs.put(job.getId(), job);
+            return job;
+        });
+        when(jobRepository.findById(anyString())).thenAnswer(invocation -> Optional.ofNullable(jobs.get(invocation.getArgument(0))));
+
+        JsonNode board = new ObjectMapper().readTree("{\"lists\":[{\"id\":\"l1\",\"name\":\"To Do\"},{\"id\":\"l2\",\"name\":\"Done\"}]}");
+        when(trelloService.getBoardSnapshotForUser(eq("b1"), anyString())).thenReturn(Mono.just(board));
+        when(trelloService.groupCardsByList(board)).thenReturn(Map.of("l1", List.of(), "l2", List.of()));
+        // Checkpoint each list like the real upsert does
+        doAnswer(invocation -> {
+            TrelloSyncJob job = invocation.getArgument(5);
+            job.getCompletedListIds().add(invocation.getArgument(1));
+            return null;
+        }).when(trelloSyncService).upsertList(any(), anyString(), anyString(), any(), anyMap(), any());
+    }
+
+    @Test
+    void start_shouldReturnRunningJob_andKeepSchedulerOut_whileProjectIsBusy() {
+        TrelloSyncJobResponse first = service.start(1L, TrelloSyncMode.FULL, owner);
+        TrelloSyncJobResponse second = service.start(1L, TrelloSyncMode.FULL, owner);
+
+        assertEquals(first.getJobId(), second.getJobId());
+        assertEquals(1, queued.size());
+        assertNull(service.runScheduled(project, "owner@devpulsex.io"));
+    }
+
+    @Test
+    void start_shouldResumeFailedJob_fromItsCheckpoint() {
+        doThrow(new IllegalStateException("Trello unavailable")).when(trelloSyncService).upsertList(any(), eq("l2"), anyString(), any(), anyMap(), any());
+        TrelloSyncJobResponse failed = service.start(1L, TrelloSyncMode.FULL, owner);
+        queued.remove(0).run();
+        TrelloSyncJob job = jobs.get(failed.getJobId());
+        assertEquals(TrelloSyncJobStatus.FAILED, job.getStatus());
+
+        doReturn(null).when(trelloSyncService).upsertList(any(), eq("l2"), anyString(), any(), anyMap(), any());
+        when(jobRepository.findFirstByProjectIdAndStatusInOrderByCreatedAtDesc(eq(1L), any())).thenReturn(Optional.of(job));
+        TrelloSyncJobResponse resumed = service.start(1L, TrelloSyncMode.FULL, owner);
+        queued.remove(0).run();
+
+        assertEquals(failed.getJobId(), resumed.getJobId());
+        assertEquals(TrelloSyncJobStatus.COMPLETED, job.getStatus());
+        verify(trelloSyncService, times(1)).upsertList(any(), eq("l1"), anyString(), any(), anyMap(), any());
+        verify(trelloSyncService, times(2)).upsertList(any(), eq("l2"), anyString(), any(), anyMap(), any());
+    }
+
+    @Test
+    void runScheduled_shouldAdvanceWatermarkPastNewestAppliedAction() throws Exception {
+        Instant since = Instant.parse("2026-03-01T10:00:00Z");
+        Instant latest = Instant.parse("2026-03-01T10:07:00Z");
+
+        assertEquals(latest.plusMillis(1), watermarkAfterDelta(since, latest));
+    }
+
+    @Test
+    void runScheduled_shouldKeepWatermark_whenDeltaHadNoActions() throws Exception {
+        Instant since = Instant.parse("2026-03-01T10:00:00Z");
+
+        assertEquals(since, watermarkAfterDelta(since, since));
+    }
+
+    @Test
+    void runScheduled_shouldReadWholeBoard_andSetWatermarkBeforeStart_whenDeltaIsNotTrusted() {
+        Instant since = Instant.parse("2026-03-01T10:00:00Z");
+        givenWatermark(since);
+        when(trelloService.getBoardDeltaForUser("b1", "owner@devpulsex.io", since, 100)).thenReturn(Mono.empty());
+
+        TrelloSyncJob job = service.runScheduled(project, "owner@devpulsex.io");
+
+        assertEquals(TrelloSyncMode.FULL, job.getMode());
+        assertEquals(TrelloSyncJobStatus.COMPLETED, job.getStatus());
+        Instant watermark = savedWatermark();
+        assertTrue(watermark.isBefore(job.getStartedAt()));
+        verify(trelloSyncService, times(2)).upsertList(any(), anyString(), anyString(), any(), anyMap(), any());
+    }
+
+    @Test
+    void cancel_shouldStopQueuedJob_beforeAnyListIsWritten() {
+        TrelloSyncJobResponse started = service.start(1L, TrelloSyncMode.FULL, owner);
+
+        service.cancel(started.getJobId());
+        queued.remove(0).run();
+
+        assertEquals(TrelloSyncJobStatus.CANCELLED, jobs.get(started.getJobId()).getStatus());
+        verify(trelloSyncService, never()).upsertList(any(), anyString(), anyString(), any(), anyMap(), any());
+        // The project is free again
+        assertEquals(TrelloSyncJobStatus.COMPLETED, service.runScheduled(project, "owner@devpulsex.io").getStatus());
+    }
+
+    private Instant watermarkAfterDelta(Instant since, Instant latest) throws Exception {
+        givenWatermark(since);
+        JsonNode delta = new ObjectMapper().readTree("{\"lists\":[{\"id\":\"l1\",\"name\":\"To Do\"}],\"cards\":[]}");
+        when(trelloService.getBoardDeltaForUser("b1", "owner@devpulsex.io", since, 100))
+                .thenReturn(Mono.just(new TrelloService.BoardDelta(delta, latest)));
+        when(trelloService.groupCardsByList(delta)).thenReturn(Map.of("l1", List.of()));
+
+        TrelloSyncJob job = service.runScheduled(project, "owner@devpulsex.io");
+
+        assertEquals(TrelloSyncMode.DELTA, job.getMode());
+        assertEquals(TrelloSyncJobStatus.COMPLETED, job.getStatus());
+        return savedWatermark();
+    }
+
+    private void givenWatermark(Instant watermark) {
+        when(syncStateRepository.findById(1L)).thenReturn(Optional.of(TrelloProjectSyncState.builder()
+                .projectId(1L).boardId("b1").watermark(watermark).build()));
+    }
+
+    private Instant savedWatermark() {
+        ArgumentCaptor<TrelloProjectSyncState> saved = ArgumentCaptor.forClass(TrelloProjectSyncState.class);
+        verify(syncStateRepository).save(saved.capture());
+        return saved.getValue().getWatermark();
+    }
+}
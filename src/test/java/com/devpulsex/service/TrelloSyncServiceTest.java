@@ -0,0 +1,98 @@
+package com.devpulsex.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.devpulsex.model.Project;
+import com.devpulsex.model.Task;
+import com.devpulsex.model.TaskStatus;
+import com.devpulsex.model.TrelloSyncJob;
+import com.devpulsex.repository.TaskRepository;
+import com.devpulsex.repository.TrelloSyncJobRepository;
+import com.devpulsex.repository.UserRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class TrelloSyncServiceTest {
+
+    private final TaskRepository taskRepository = mock(TaskRepository.class);
+    private final TrelloStatusRuleService statusRuleService = mock(TrelloStatusRuleService.class);
+    private final TrelloSyncService service = new TrelloSyncService(taskRepository, mock(TrelloSyncJobRepository.class),
+            statusRuleService, mock(UserRepository.class));
+    private final Project project = Project.builder().id(1L).trelloBoardId("b1").build();
+
+    @BeforeEach
+    void setUp() {
+        when(statusRuleService.matcherFor(any())).thenReturn(ListStatusMatcher.DEFAULT);
+    }
+
+    @Test
+    void upsertList_shouldInsertNewCards_updateChangedOnes_andIgnoreUpToDateOnes() throws Exception {
+        Task changed = task(10L, "Old title", null, "c1", TaskStatus.TODO);
+        Task current = task(11L, "Same", null, "c2", TaskStatus.TODO);
+        when(taskRepository.findByProject_IdAndTrelloCardIdIn(eq(1L), anyCollection())).thenReturn(List.of(changed, current));
+
+        TrelloSyncJob job = TrelloSyncJob.builder().build();
+        TrelloSyncService.SyncCounts counts = service.upsertList(project, "l1", "To Do",
+                cards("[{\"id\":\"c1\",\"name\":\"New title\"},{\"id\":\"c2\",\"name\":\"Same\"},{\"id\":\"c3\",\"name\":\"Fresh\"}]"),
+                Map.of(), job);
+
+        assertEquals(new TrelloSyncService.SyncCounts(1, 1, 1), counts);
+        assertEquals("New title", changed.getTitle());
+        assertEquals(1, job.getListsDone());
+        assertEquals(3, job.getCardsProcessed());
+    }
+
+    @Test
+    void upsertList_shouldAdoptOldestMatchingLegacyTask_andLeaveDuplicatesUnlinked() throws Exception {
+        Task older = task(5L, "Fix login", "Steps", null, TaskStatus.TODO);
+        Task newer = task(9L, "Fix login", "steps ", null, TaskStatus.TODO);
+        when(taskRepository.findByProject_IdAndTrelloCardIdIsNullAndTitleInOrderByIdAsc(eq(1L), anyCollection()))
+                .thenReturn(List.of(older, newer));
+
+        TrelloSyncService.SyncCounts counts = service.upsertList(project, "l1", "To Do",
+                cards("[{\"id\":\"c1\",\"name\":\"Fix login\",\"desc\":\"Steps\"}]"), Map.of(), TrelloSyncJob.builder().build());
+
+        assertEquals(new TrelloSyncService.SyncCounts(0, 1, 0), counts);
+        assertEquals("c1", older.getTrelloCardId());
+        assertNull(newer.getTrelloCardId());
+    }
+
+    @Test
+    void upsertList_shouldAdoptLegacyDuplicatesInIdOrder_whenSeveralCardsMatch() throws Exception {
+        Task older = task(5L, "Fix login", null, null, TaskStatus.TODO);
+        Task newer = task(9L, "Fix login", null, null, TaskStatus.TODO);
+        when(taskRepository.findByProject_IdAndTrelloCardIdIsNullAndTitleInOrderByIdAsc(eq(1L), anyCollection()))
+                .thenReturn(List.of(older, newer));
+
+        TrelloSyncService.SyncCounts counts = service.upsertList(project, "l1", "To Do",
+                cards("[{\"id\":\"c1\",\"name\":\"Fix login\"},{\"id\":\"c2\",\"name\":\"Fix login\"},{\"id\":\"c3\",\"name\":\"Fix login\"}]"),
+                Map.of(), TrelloSyncJob.builder().build());
+
+        assertEquals(new TrelloSyncService.SyncCounts(1, 2, 0), counts);
+        assertEquals("c1", older.getTrelloCardId());
+        assertEquals("c2", newer.getTrelloCardId());
+    }
+
+    private static Task task(Long id, String title, String description, String cardId, TaskStatus status) {
+        return Task.builder().id(id).title(title).description(description).trelloCardId(cardId).status(status).build();
+    }
+
+    private static List<JsonNode> cards(String json) throws Exception {
+        List<JsonNode> cards = new ArrayList<>();
+        new ObjectMapper().readTree(json).forEach(cards::add);
+        return cards;
+    }
+}
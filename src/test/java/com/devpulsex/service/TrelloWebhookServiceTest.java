@@ -0,0 +1,57 @@
+package com.devpulsex.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Set;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.junit.jupiter.api.Test;
+
+import com.devpulsex.integration.trello.TrelloClient;
+import com.devpulsex.integration.trello.TrelloResponseCache;
+import com.devpulsex.integration.trello.TrelloWebhookRegistry;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class TrelloWebhookServiceTest {
+
+    private static final String SECRET = "app-secret";
+    private static final String CALLBACK = "https://api.example.com/api/webhooks/trello";
+    private static final String BODY = "{\"action\":{\"data\":{\"board\":{\"id\":\"b1\"},\"card\":{\"idList\":\"l2\"}}},\"model\":{\"id\":\"b1\"}}";
+
+    private final TrelloResponseCache responseCache = mock(TrelloResponseCache.class);
+    private final TrelloWebhookService service = new TrelloWebhookService(responseCache,
+            new TrelloWebhookRegistry(mock(TrelloClient.class), responseCache, CALLBACK), SECRET);
+
+    @Test
+    void isValidSignature_shouldAcceptHmacOfBodyAndCallbackUrl() throws Exception {
+        assertTrue(service.isValidSignature(BODY, sign(BODY + CALLBACK)));
+    }
+
+    @Test
+    void isValidSignature_shouldRejectTamperedOrMalformedSignatures() throws Exception {
+        assertFalse(service.isValidSignature(BODY.replace("b1", "b9"), sign(BODY + CALLBACK)));
+        assertFalse(service.isValidSignature(BODY, sign(BODY)));
+        assertFalse(service.isValidSignature(BODY, "not base64!"));
+        assertFalse(service.isValidSignature(BODY, null));
+    }
+
+    @Test
+    void handle_shouldInvalidateModelBoardAndListTags() throws Exception {
+        service.handle(new ObjectMapper().readTree(BODY));
+
+        verify(responseCache).invalidate(Set.of("b1", "l2"));
+    }
+
+    private static String sign(String content) throws Exception {
+        Mac mac = Mac.getInstance("HmacSHA1");
+        mac.init(new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), "HmacSHA1"));
+        return Base64.getEncoder().encodeToString(mac.doFinal(content.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,89 @@
+package com.devpulsex.service;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.devpulsex.config.security.PrincipalCache;
+import com.devpulsex.dto.user.UpdateUserRequest;
+import com.devpulsex.integration.IntegrationCredentialContext;
+import com.devpulsex.model.Role;
+import com.devpulsex.model.User;
+import com.devpulsex.repository.UserRepository;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UserServiceTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final PrincipalCache principalCache = mock(PrincipalCache.class);
+    private final GitHubContributionService contributionService = mock(GitHubContributionService.class);
+    private final GitHubInsightsHistoryService insightsHistoryService = mock(GitHubInsightsHistoryService.class);
+    private final UserService service = new UserService(userRepository, mock(PasswordEncoder.class),
+            mock(IntegrationCredentialContext.class), mock(TrelloMemberResolver.class), principalCache,
+            contributionService, insightsHistoryService);
+
+    @Test
+    void beforeGithubLink_shouldDropCalendarsAndEvictPrincipal_whenAnotherAccountIsLinked() {
+        User user = User.builder().id(7L).email("dev@devpulsex.io").githubId(100L).githubUsername("old-login").build();
+
+        service.beforeGithubLink(user, 200L);
+
+        verify(contributionService).forgetUser(7L);
+        verify(principalCache).evict("dev@devpulsex.io");
+    }
+
+    @Test
+    void beforeGithubLink_shouldKeepContributionCalendars_whenSameAccountSignsInAgain() {
+        User user = User.builder().id(7L).githubId(100L).githubUsername("renamed-login").build();
+
+        service.beforeGithubLink(user, 100L);
+        service.beforeGithubLink(User.builder().id(8L).build(), 300L);
+
+        verify(contributionService, never()).forgetUser(7L);
+        verify(contributionService, never()).forgetUser(8L);
+    }
+
+    @Test
+    void delete_shouldDropContributionCalendarsAndInsightsSnapshots() {
+        when(userRepository.findById(7L)).thenReturn(Optional.of(User.builder().id(7L).email("dev@devpulsex.io").build()));
+
+        service.delete(7L);
+
+        verify(userRepository).deleteById(7L);
+        verify(contributionService).forgetUser(7L);
+        verify(insightsHistoryService).forgetUser(7L);
+        verify(principalCache).evict("dev@devpulsex.io");
+    }
+
+    @Test
+    void update_shouldEvictOldAndNewEmailFromPrincipalCache() {
+        when(userRepository.findById(7L)).thenReturn(Optional.of(User.builder().id(7L).email("old@devpulsex.io")
+                .role(Role.DEVELOPER).build()));
+        when(userRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        UpdateUserRequest request = new UpdateUserRequest();
+        request.setName("Dev");
+        request.setEmail("new@devpulsex.io");
+        request.setRole(Role.DEVELOPER);
+
+        service.update(7L, request);
+
+        verify(principalCache).evict("old@devpulsex.io");
+        verify(principalCache).evict("new@devpulsex.io");
+    }
+
+    @Test
+    void revokeSessions_shouldEvictPrincipal_soTheCutoffAppliesToTheNextRequest() {
+        when(userRepository.findById(7L)).thenReturn(Optional.of(User.builder().id(7L).email("dev@devpulsex.io").build()));
+
+        service.revokeSessions(7L);
+
+        verify(userRepository).save(any());
+        verify(principalCache).evict("dev@devpulsex.io");
+    }
+}